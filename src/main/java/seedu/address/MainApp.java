@@ -15,6 +15,10 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,8 +27,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,16 +65,77 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, true);
+        runStartupScript(appParameters.getScriptPath());
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage of the address book that {@code userPrefs} asks for. <br>
+     * If the address book is not to be kept in the data file, the data file is moved into the storage asked for the
+     * first time, and is used instead if that fails.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path dataFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage fileStorage = new JournaledAddressBookStorage(dataFilePath,
+                userPrefs.isDataFileCompact(), userPrefs.isDataFileCompressed());
+        try {
+            switch (userPrefs.getDataStorageType()) {
+            case DATABASE:
+                SqlAddressBookStorage databaseStorage =
+                        new SqlAddressBookStorage(SqlAddressBookStorage.getDatabasePath(dataFilePath));
+                databaseStorage.migrateFrom(fileStorage);
+                return databaseStorage;
+            case SHARDED:
+                ShardedAddressBookStorage shardedStorage = new ShardedAddressBookStorage(
+                        ShardedAddressBookStorage.getDirectoryPath(dataFilePath), userPrefs.isDataFileCompact());
+                shardedStorage.migrateFrom(fileStorage);
+                return shardedStorage;
+            case SEGMENTED:
+                SegmentedAddressBookStorage segmentedStorage = new SegmentedAddressBookStorage(
+                        SegmentedAddressBookStorage.getDirectoryPath(dataFilePath),
+                        SegmentedAddressBookStorage.DEFAULT_SEGMENT_SIZE, userPrefs.isDataFileCompact());
+                segmentedStorage.migrateFrom(fileStorage);
+                return segmentedStorage;
+            case BINARY:
+                BinaryAddressBookStorage binaryStorage =
+                        new BinaryAddressBookStorage(BinaryAddressBookStorage.getSnapshotPath(dataFilePath));
+                binaryStorage.migrateFrom(fileStorage);
+                return binaryStorage;
+            default:
+                return fileStorage;
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + dataFilePath + " could not be moved into the "
+                    + userPrefs.getDataStorageType() + " storage. Will be using the data file: "
+                    + StringUtil.getDetails(e));
+            return fileStorage;
+        }
+    }
+
+    /**
+     * Runs the script at {@code scriptPath}, if any, before the UI starts, as with the {@code run} command.
+     */
+    private void runStartupScript(Path scriptPath) {
+        if (scriptPath == null) {
+            return;
+        }
+
+        logger.info("Running startup script : " + scriptPath);
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Startup script " + scriptPath + " failed: " + e.getMessage());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +246,13 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // Wait for the last changes to the address book to be written before exiting
+        logic.close();
+        try {
+            storage.closeAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to write the journal into the data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
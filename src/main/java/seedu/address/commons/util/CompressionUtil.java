@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses and decompresses content with GZIP.
+ * Compressed content is told apart from plain content by the two magic bytes every GZIP stream starts with, which
+ * cannot start a JSON document, so readers take either without being told which it is.
+ */
+public class CompressionUtil {
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Returns true if {@code content} starts with the magic bytes of GZIP.
+     */
+    public static boolean isCompressed(byte[] content) {
+        return content.length >= 2
+                && (content[0] & 0xff) == GZIP_MAGIC_FIRST_BYTE
+                && (content[1] & 0xff) == GZIP_MAGIC_SECOND_BYTE;
+    }
+
+    /**
+     * Returns a stream of the content of {@code in}, decompressing it if it is compressed with GZIP.
+     * {@code in} must support {@link InputStream#mark}, as its first bytes are looked at and then read again.
+     */
+    public static InputStream decompressIfCompressed(InputStream in) throws IOException {
+        assert in.markSupported();
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == GZIP_MAGIC_FIRST_BYTE && second == GZIP_MAGIC_SECOND_BYTE) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return in;
+    }
+
+    /**
+     * Writes the content given by {@code contentWriter} to {@code out} compressed with GZIP.
+     * {@code out} is left open.
+     */
+    public static void writeCompressed(OutputStream out, FileUtil.ContentWriter contentWriter) throws IOException {
+        GZIPOutputStream compressed = new FastGzipOutputStream(out);
+        contentWriter.write(compressed);
+        compressed.finish();
+    }
+
+    /**
+     * Compresses at the fastest level of deflate. Data files are written on every change, and the repetitive JSON of
+     * address books still shrinks to a small fraction of its size at this level.
+     */
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+}
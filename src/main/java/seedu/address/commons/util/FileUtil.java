@@ -1,17 +1,28 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Suffix of the sibling file that content is written to before it is moved over the file it is meant for. */
+    public static final String TEMPORARY_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +91,86 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content given by {@code contentWriter} to {@code file} through a sibling temporary file that is
+     * synced to disk and then moved over {@code file}, so that {@code file} holds either its old or its new content
+     * even if writing is interrupted by a crash or an error.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path temporary = getTemporaryPath(file);
+        writeAndSync(temporary, contentWriter);
+        moveAtomically(temporary, file);
+    }
+
+    /**
+     * Returns {@code file} without the extension of its name, if it has one.
+     */
+    public static Path removeExtension(Path file) {
+        String fileName = file.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? file.resolveSibling(fileName.substring(0, extensionStart)) : file;
+    }
+
+    /**
+     * Returns the path of the temporary file that {@link #writeAtomically} writes {@code file}'s content to first.
+     */
+    public static Path getTemporaryPath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+    }
+
+    /**
+     * Writes the content given by {@code contentWriter} to {@code file}, replacing what it held, and syncs it to
+     * disk. If writing fails, {@code file} is deleted rather than left with part of the content.
+     */
+    public static void writeAndSync(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            contentWriter.write(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically where the file system allows it, and syncs the directory
+     * holding {@code target} so that the move itself survives a crash.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectoryOf(target);
+    }
+
+    private static void syncDirectoryOf(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot open or sync directories, and sync them along with the file
+        }
+    }
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
 }
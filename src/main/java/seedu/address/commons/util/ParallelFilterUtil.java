@@ -0,0 +1,120 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates predicates over large lists across all available cores.
+ */
+public class ParallelFilterUtil {
+
+    /** Lists smaller than this are filtered sequentially as the fork/join overhead is not worth paying. */
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    /** Number of elements a single fork/join task evaluates without splitting further. */
+    private static final int LEAF_SIZE = 1_000;
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} for use on {@code items}.
+     * If {@code predicate} is an {@link ExpensivePredicate} and {@code items} has at least
+     * {@link #PARALLEL_THRESHOLD} elements, {@code predicate} is evaluated on a snapshot of {@code items} in parallel
+     * and the returned predicate only looks up the precomputed results, so that a {@code FilteredList} can apply it
+     * as a single cheap pass.
+     * Elements that were not in the snapshot, e.g. ones added later, are still tested with {@code predicate}.
+     * Other predicates get {@code predicate} back unchanged, as a parallel pass and a map of its results would cost
+     * more than testing them directly.
+     */
+    public static <T> Predicate<T> precompute(List<? extends T> items, Predicate<T> predicate) {
+        requireAllNonNull(items, predicate);
+        if (!(predicate instanceof ExpensivePredicate) || items.size() < PARALLEL_THRESHOLD) {
+            return predicate;
+        }
+
+        Object[] snapshot = items.toArray();
+        boolean[] matches = new boolean[snapshot.length];
+        ForkJoinPool.commonPool().invoke(new EvaluateTask<>(snapshot, matches, predicate, 0, snapshot.length));
+
+        Map<Object, Boolean> results = new IdentityHashMap<>(snapshot.length);
+        for (int i = 0; i < snapshot.length; i++) {
+            results.put(snapshot[i], matches[i]);
+        }
+        return new PrecomputedPredicate<>(predicate, results);
+    }
+
+    /**
+     * Drops the results held by {@code predicate} if it was returned by {@link #precompute(List, Predicate)},
+     * so that it tests every element with the original predicate from now on.
+     * Does nothing to other predicates.
+     */
+    public static void release(Predicate<?> predicate) {
+        if (predicate instanceof PrecomputedPredicate) {
+            ((PrecomputedPredicate<?>) predicate).results = null;
+        }
+    }
+
+    /**
+     * A predicate that is costly enough to test that large lists are worth filtering with it in parallel.
+     */
+    @FunctionalInterface
+    public interface ExpensivePredicate<T> extends Predicate<T> {
+    }
+
+    /**
+     * Answers from precomputed results, and tests elements without one with the original predicate.
+     */
+    private static class PrecomputedPredicate<T> implements Predicate<T> {
+        private final Predicate<T> predicate;
+        private Map<Object, Boolean> results;
+
+        PrecomputedPredicate(Predicate<T> predicate, Map<Object, Boolean> results) {
+            this.predicate = predicate;
+            this.results = results;
+        }
+
+        @Override
+        public boolean test(T item) {
+            Boolean result = results == null ? null : results.get(item);
+            return result != null ? result : predicate.test(item);
+        }
+    }
+
+    /**
+     * Tests the elements of {@code snapshot} in {@code [from, to)} and records the results in {@code matches}.
+     */
+    private static class EvaluateTask<T> extends RecursiveAction {
+        private final Object[] snapshot;
+        private final boolean[] matches;
+        private final Predicate<T> predicate;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(Object[] snapshot, boolean[] matches, Predicate<T> predicate, int from, int to) {
+            this.snapshot = snapshot;
+            this.matches = matches;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    matches[i] = predicate.test((T) snapshot[i]);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateTask<>(snapshot, matches, predicate, from, mid),
+                    new EvaluateTask<>(snapshot, matches, predicate, mid, to));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+/**
+ * Building blocks for checking that a string follows a simple grammar in one pass over its characters.
+ * {@code String.matches} compiles its regular expression on every call, which adds up when every field of every
+ * person is validated while loading the data file, so the value classes check their grammars with these instead.
+ * Like the {@code \p{Alpha}} and {@code \p{Alnum}} classes of regular expressions, only ASCII letters and digits
+ * count as alphabetic and alphanumeric.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII letter.
+     */
+    public static boolean isAlpha(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isAlpha(c) || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code test} is made of alphanumeric characters and spaces, and starts with an alphanumeric
+     * character. This is the grammar {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericPhrase(String test) {
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is between {@code minLength} and {@code maxLength} characters long and is made of
+     * alphanumeric characters separated by single characters from {@code separators}.
+     *
+     * @see #isSeparatedWord(String, int, int, String)
+     */
+    public static boolean isSeparatedWord(String test, String separators, int minLength, int maxLength) {
+        int length = test.length();
+        return length >= minLength && length <= maxLength && isSeparatedWord(test, 0, length, separators);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} to {@code end} are alphanumeric characters
+     * separated by single characters from {@code separators}, so that they neither start nor end with a separator,
+     * nor have two separators next to each other. An empty range is not a word.
+     */
+    public static boolean isSeparatedWord(String test, int start, int end, String separators) {
+        boolean isAfterSeparator = true;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterSeparator = false;
+            } else if (isAfterSeparator || separators.indexOf(c) < 0) {
+                return false;
+            } else {
+                isAfterSeparator = true;
+            }
+        }
+        return !isAfterSeparator;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs the slow part of commands on a background thread so that the thread executing commands is not blocked.
+ * When the work is done, the rest of the command is handed to the completion handler as a {@link Completion},
+ * which must be run on the thread that executes commands, as only that thread may change the model.
+ * Work is run one piece at a time, in the order it was submitted.
+ */
+public class BackgroundRunner {
+
+    public static final String MESSAGE_FAILED = "The command failed while running in the background: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundRunner.class);
+
+    private final Consumer<Completion> completionHandler;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a runner that hands finished work to {@code completionHandler}, and starts its thread.
+     * The handler is called on the runner's thread.
+     */
+    public BackgroundRunner(Consumer<Completion> completionHandler) {
+        requireNonNull(completionHandler);
+        this.completionHandler = completionHandler;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "background-command");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs {@code work} in the background, then hands the completion handler a {@link Completion} that passes its
+     * result to {@code continuation}.
+     * If {@code work} throws, the completion throws a {@code CommandException} instead.
+     */
+    public <T> void run(Callable<T> work, Continuation<T> continuation) {
+        requireAllNonNull(work, continuation);
+        executor.execute(() -> {
+            T result;
+            try {
+                result = work.call();
+            } catch (Exception e) {
+                logger.warning("Background work failed: " + e);
+                completionHandler.accept(() -> {
+                    throw new CommandException(String.format(MESSAGE_FAILED, e.getMessage()), e);
+                });
+                return;
+            }
+            completionHandler.accept(() -> continuation.apply(result));
+        });
+    }
+
+    /**
+     * Stops the background thread, abandoning any work that has not finished.
+     */
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The rest of a command that needs the result of its background work.
+     */
+    @FunctionalInterface
+    public interface Continuation<T> {
+        /**
+         * Finishes the command with the {@code result} of its background work.
+         */
+        CommandResult apply(T result) throws CommandException;
+    }
+
+    /**
+     * The rest of a command whose background work is done.
+     */
+    @FunctionalInterface
+    public interface Completion {
+        /**
+         * Finishes the command. Must be called on the thread that executes commands.
+         */
+        CommandResult complete() throws CommandException;
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.BackgroundRunner.Completion;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -51,4 +53,23 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler told about saves that fail after the command that made them has returned.
+     * The handler may be called on any thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Lets commands with a slow search finish in the background, handing the rest of each such command to
+     * {@code completionHandler} when its search is done. The handler is called on a background thread and must run
+     * the completion on the thread that executes commands; the completion saves the address book if it changed.
+     * Until a handler is set, every command is done before {@link #execute(String)} returns.
+     */
+    void setCompletionHandler(Consumer<Completion> completionHandler);
+
+    /**
+     * Waits for pending saves of the address book to be written and stops saving in the background.
+     */
+    void close();
 }
@@ -1,23 +1,32 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BackgroundRunner.Completion;
+import seedu.address.logic.commands.AutoTeamCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.team.Team;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -28,19 +37,43 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Modification count meaning the address book is not known to have been saved. */
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final SearchResultCache searchResultCache;
+    private final ScriptRunner scriptRunner;
+    private final WriteBehindSaver writeBehindSaver;
+    private BackgroundRunner backgroundRunner;
+    private volatile Consumer<String> saveErrorHandler = message -> { };
+    private volatile long savedModificationCount;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves the address book before returning from each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isWriteBehind} is set, the address book is saved on a background thread instead, and failed saves
+     * are reported to the handler given to {@link #setSaveErrorHandler(Consumer)}.
+     */
+    public LogicManager(Model model, Storage storage, boolean isWriteBehind) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(model.getUserPrefs().getCommandAliases());
+        searchResultCache = new SearchResultCache(model.getAddressBook().getPersonList());
+        scriptRunner = new ScriptRunner(this::executeScriptLine, this::saveAddressBook);
+        writeBehindSaver = isWriteBehind ? new WriteBehindSaver(storage, this::handleWriteBehindError) : null;
+        // The model holds the address book as read from storage, so there is nothing to save until it changes
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
@@ -49,17 +82,106 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        prepare(command);
+        if (command instanceof RunCommand) {
+            ((RunCommand) command).setScriptRunner(scriptRunner);
+        }
+        // Only commands entered directly run in the background, as the lines of a script must finish in order
+        if (command instanceof AutoTeamCommand) {
+            ((AutoTeamCommand) command).setBackgroundRunner(backgroundRunner);
+        }
         commandResult = command.execute(model);
 
+        saveAddressBook();
+
+        return commandResult;
+    }
+
+    /**
+     * Executes a line of a script without saving the address book afterwards.
+     */
+    private CommandResult executeScriptLine(String commandText) throws CommandException, ParseException {
+        logger.fine("----------------[SCRIPT COMMAND][" + commandText + "]");
+
+        Command command = addressBookParser.parseCommand(commandText);
+        prepare(command);
+        return command.execute(model);
+    }
+
+    /**
+     * Gives {@code command} the services it needs from this {@code LogicManager}.
+     */
+    private void prepare(Command command) {
+        if (command instanceof FindCommand) {
+            ((FindCommand) command).setSearchResultCache(searchResultCache);
+        }
+    }
+
+    /**
+     * Saves the address book if it has been modified since it was last saved.
+     */
+    private void saveAddressBook() throws CommandException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            logger.fine("Address book unchanged since last save, skipping save");
+            return;
+        }
+
+        if (writeBehindSaver != null) {
+            // Set before submitting, as a failed write resets it on the writer thread and must not be overwritten
+            savedModificationCount = modificationCount;
+            writeBehindSaver.submit(new AddressBookSnapshot(model.getAddressBook()));
+            return;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(formatSaveError(ioe), ioe);
         }
+        savedModificationCount = modificationCount;
+    }
 
-        return commandResult;
+    private void handleWriteBehindError(IOException ioe) {
+        // Make the next command save again, even if it changes nothing
+        savedModificationCount = UNSAVED;
+        saveErrorHandler.accept(formatSaveError(ioe));
+    }
+
+    private static String formatSaveError(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void setCompletionHandler(Consumer<Completion> completionHandler) {
+        requireNonNull(completionHandler);
+        if (backgroundRunner != null) {
+            backgroundRunner.close();
+        }
+        backgroundRunner = new BackgroundRunner(completion -> completionHandler.accept(() -> {
+            CommandResult commandResult = completion.complete();
+            saveAddressBook();
+            return commandResult;
+        }));
+    }
+
+    @Override
+    public void close() {
+        if (backgroundRunner != null) {
+            backgroundRunner.close();
+        }
+        if (writeBehindSaver != null) {
+            writeBehindSaver.close();
+        }
     }
 
     @Override
@@ -0,0 +1,163 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+
+/**
+ * Executes the lines of a script as commands without saving the address book after each of them.
+ * The address book is only saved at the checkpoints requested, and once more by the caller when the script ends.
+ * Blank lines and lines starting with {@code #} are skipped.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_MARKER = "#";
+
+    private final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final LineExecutor lineExecutor;
+    private final Checkpoint checkpoint;
+
+    /**
+     * Creates a runner that executes each line with {@code lineExecutor} and saves with {@code checkpoint}.
+     */
+    public ScriptRunner(LineExecutor lineExecutor, Checkpoint checkpoint) {
+        requireAllNonNull(lineExecutor, checkpoint);
+        this.lineExecutor = lineExecutor;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Executes {@code lines} in order against {@code model}.
+     * The address book is saved after every {@code checkpointInterval} successful commands, or only by the caller
+     * if {@code checkpointInterval} is 0.
+     * A failing line is recorded and the script carries on, unless {@code isRollbackOnFailure} is set, in which case
+     * the script stops and {@code model} is restored to its state before the script.
+     *
+     * @throws CommandException if a checkpoint could not be saved.
+     */
+    public Result run(List<String> lines, Model model, int checkpointInterval, boolean isRollbackOnFailure)
+            throws CommandException {
+        requireAllNonNull(lines, model);
+        if (checkpointInterval < 0) {
+            throw new IllegalArgumentException("Checkpoint interval must not be negative");
+        }
+
+        AddressBook snapshot = isRollbackOnFailure ? new AddressBook(model.getAddressBook()) : null;
+        List<LineError> errors = new ArrayList<>();
+        int executedCount = 0;
+        int checkpointCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                lineExecutor.execute(line);
+            } catch (CommandException | ParseException e) {
+                errors.add(new LineError(i + 1, e.getMessage()));
+                if (isRollbackOnFailure) {
+                    model.setAddressBook(snapshot);
+                    if (checkpointCount > 0) {
+                        // Earlier checkpoints saved part of the script, so save the restored state over them
+                        checkpoint.save();
+                    }
+                    logger.info("Script failed at line " + (i + 1) + " and was rolled back");
+                    return new Result(executedCount, checkpointCount, errors, true);
+                }
+                continue;
+            }
+
+            executedCount++;
+            if (checkpointInterval > 0 && executedCount % checkpointInterval == 0) {
+                checkpoint.save();
+                checkpointCount++;
+            }
+        }
+
+        logger.info(String.format("Script ran %d command(s) with %d failure(s) and %d checkpoint(s)",
+                executedCount, errors.size(), checkpointCount));
+        return new Result(executedCount, checkpointCount, errors, false);
+    }
+
+    /**
+     * Executes a single line of a script.
+     */
+    @FunctionalInterface
+    public interface LineExecutor {
+        CommandResult execute(String commandText) throws CommandException, ParseException;
+    }
+
+    /**
+     * Saves the address book in the middle of a script.
+     */
+    @FunctionalInterface
+    public interface Checkpoint {
+        void save() throws CommandException;
+    }
+
+    /**
+     * A line of a script that failed, with its 1-based line number.
+     */
+    public static class LineError {
+        private final int lineNumber;
+        private final String message;
+
+        LineError(int lineNumber, String message) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * The outcome of running a script.
+     */
+    public static class Result {
+        private final int executedCount;
+        private final int checkpointCount;
+        private final List<LineError> errors;
+        private final boolean isRolledBack;
+
+        Result(int executedCount, int checkpointCount, List<LineError> errors, boolean isRolledBack) {
+            this.executedCount = executedCount;
+            this.checkpointCount = checkpointCount;
+            this.errors = Collections.unmodifiableList(errors);
+            this.isRolledBack = isRolledBack;
+        }
+
+        public int getExecutedCount() {
+            return executedCount;
+        }
+
+        public int getCheckpointCount() {
+            return checkpointCount;
+        }
+
+        public List<LineError> getErrors() {
+            return errors;
+        }
+
+        public boolean isRolledBack() {
+            return isRolledBack;
+        }
+    }
+}
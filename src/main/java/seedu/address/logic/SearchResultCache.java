@@ -0,0 +1,138 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ParallelFilterUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * A bounded least-recently-used cache of the persons matching recent searches.
+ * Cached results are patched as persons are added, edited or deleted, so a repeated search does not rescan
+ * the whole address book.
+ */
+public class SearchResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    /** Changes adding more persons than this drop the cache instead of patching every entry. */
+    public static final int PATCH_LIMIT = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(SearchResultCache.class);
+
+    private final ObservableList<Person> persons;
+    private final Map<Object, Entry> entries;
+    private final Set<Person> knownPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a cache of searches over {@code persons} that holds at most {@code capacity} results.
+     */
+    public SearchResultCache(ObservableList<Person> persons, int capacity) {
+        requireNonNull(persons);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.persons = persons;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+        knownPersons.addAll(persons);
+        persons.addListener(this::handleChange);
+    }
+
+    public SearchResultCache(ObservableList<Person> persons) {
+        this(persons, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that answers from the cached result for {@code key}.
+     * {@code key} must be equal for all predicates that match the same persons.
+     * The result is computed and cached first if it is not already cached.
+     * The returned predicate only looks up the cached result, so it is not worth precomputing and the model filters
+     * with it directly.
+     */
+    public Predicate<Person> lookup(Object key, Predicate<Person> predicate) {
+        requireAllNonNull(key, predicate);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            logger.fine("Search result cache miss: " + key);
+            entry = new Entry(predicate);
+            Predicate<Person> precomputed = ParallelFilterUtil.precompute(persons, predicate);
+            for (Person person : persons) {
+                if (precomputed.test(person)) {
+                    entry.matches.add(person);
+                }
+            }
+            entries.put(key, entry);
+        }
+
+        Set<Person> matches = entry.matches;
+        // Persons the cache has not been told about yet (e.g. other listeners of the same change run first)
+        // are tested directly.
+        return person -> matches.contains(person) || (!knownPersons.contains(person) && predicate.test(person));
+    }
+
+    /**
+     * Returns the number of cached results.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            if (change.getAddedSize() > PATCH_LIMIT) {
+                entries.clear();
+            }
+
+            for (Person removed : change.getRemoved()) {
+                knownPersons.remove(removed);
+                entries.values().forEach(entry -> entry.matches.remove(removed));
+            }
+            for (Person added : change.getAddedSubList()) {
+                knownPersons.add(added);
+                entries.values().stream()
+                        .filter(entry -> entry.predicate.test(added))
+                        .forEach(entry -> entry.matches.add(added));
+            }
+        }
+    }
+
+    /**
+     * The persons matching a cached search, together with the predicate used to patch them.
+     */
+    private static class Entry {
+        private final Predicate<Person> predicate;
+        private final Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Entry(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HACKATHON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM_NAME;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.BackgroundRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.teambuilding.HackathonPool;
+import seedu.address.model.teambuilding.TeamPartition;
+import seedu.address.model.teambuilding.TeamPartitioner;
+
+/**
+ * Divides everyone interested in a hackathon who is not yet in a team for it into new teams of a given size,
+ * balanced on skill coverage and experience.
+ */
+public class AutoTeamCommand extends Command {
+
+    public static final String COMMAND_WORD = "autoteam";
+
+    public static final String DEFAULT_NAME_SUFFIX = " Team";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Divides the persons interested in a hackathon who are not yet in a team for it into new teams "
+            + "of the given size, balanced on skills and experience. "
+            + "Teams are named NAME_PREFIX followed by a number, and the name prefix defaults to the hackathon name "
+            + "followed by \"" + DEFAULT_NAME_SUFFIX.trim() + "\".\n"
+            + "Parameters: " + PREFIX_HACKATHON + "HACKATHON_NAME "
+            + PREFIX_SIZE + "TEAM_SIZE "
+            + "[" + PREFIX_TEAM_NAME + "NAME_PREFIX]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_HACKATHON + "NUSHack " + PREFIX_SIZE + "4";
+
+    public static final String MESSAGE_SUCCESS = "Formed %1$d team(s) of %2$d for %3$s.";
+    public static final String MESSAGE_UNASSIGNED = "\n%1$d person(s) could not fill another team and remain "
+            + "unassigned.";
+    public static final String MESSAGE_NOT_COMPLETE = "\nThe search was stopped early, so better teams may exist.";
+    public static final String MESSAGE_POOL_TOO_SMALL = "Only %1$d person(s) interested in %2$s are available, "
+            + "too few for a team of %3$d.";
+    public static final String MESSAGE_INVALID_TEAM_SIZE = "Team size must be a positive integer.";
+    public static final String MESSAGE_IN_PROGRESS = "Forming teams for %1$s. They will be shown when the search "
+            + "is done.";
+    public static final String MESSAGE_POOL_CHANGED = "The persons available for %1$s changed while teams were "
+            + "being formed, so no teams were formed. Please run the command again.";
+
+    private final HackathonName hackathonName;
+    private final int teamSize;
+    private final String namePrefix;
+    private BackgroundRunner backgroundRunner;
+
+    /**
+     * Creates an AutoTeamCommand to divide the available persons interested in {@code hackathonName}
+     * into teams of {@code teamSize} named after {@code namePrefix}.
+     */
+    public AutoTeamCommand(HackathonName hackathonName, int teamSize, String namePrefix) {
+        requireAllNonNull(hackathonName, namePrefix);
+        if (teamSize <= 0) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_TEAM_SIZE);
+        }
+        this.hackathonName = hackathonName;
+        this.teamSize = teamSize;
+        this.namePrefix = namePrefix;
+    }
+
+    /**
+     * Creates an AutoTeamCommand that names its teams after {@code hackathonName}.
+     */
+    public AutoTeamCommand(HackathonName hackathonName, int teamSize) {
+        this(hackathonName, teamSize, hackathonName.value + DEFAULT_NAME_SUFFIX);
+    }
+
+    /**
+     * Sets the runner that searches for the teams in the background.
+     * Without one, the search is done before {@link #execute(Model)} returns.
+     */
+    public void setBackgroundRunner(BackgroundRunner backgroundRunner) {
+        this.backgroundRunner = backgroundRunner;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> pool = HackathonPool.getUnassignedInterested(model.getAddressBook().getPersonList(),
+                hackathonName);
+        if (pool.size() < teamSize) {
+            throw new CommandException(String.format(MESSAGE_POOL_TOO_SMALL, pool.size(), hackathonName, teamSize));
+        }
+
+        if (backgroundRunner == null) {
+            return addTeams(model, new TeamPartitioner().partition(pool, teamSize));
+        }
+
+        backgroundRunner.run(() -> new TeamPartitioner().partition(pool, teamSize), partition -> {
+            // Other commands may have run during the search, and the partition only holds the persons searched
+            if (!isSamePersons(pool, HackathonPool.getUnassignedInterested(model.getAddressBook().getPersonList(),
+                    hackathonName))) {
+                throw new CommandException(String.format(MESSAGE_POOL_CHANGED, hackathonName));
+            }
+            return addTeams(model, partition);
+        });
+        return new CommandResult(String.format(MESSAGE_IN_PROGRESS, hackathonName));
+    }
+
+    /**
+     * Adds the teams of {@code partition} to {@code model} and returns the result of the command.
+     */
+    private CommandResult addTeams(Model model, TeamPartition partition) {
+        Set<TeamName> takenNames = new HashSet<>();
+        for (Team team : model.getAddressBook().getTeamList()) {
+            takenNames.add(team.getTeamName());
+        }
+        List<Team> teams = new ArrayList<>();
+        int number = 0;
+        for (List<Person> members : partition.getTeams()) {
+            TeamName teamName;
+            do {
+                teamName = new TeamName(namePrefix + " " + ++number);
+            } while (takenNames.contains(teamName));
+            teams.add(new Team(teamName, hackathonName, new HashSet<>(members)));
+        }
+
+        // All teams are added in a single update, so the lists and storage see one change
+        model.addTeamsWithMembers(teams);
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, teams.size(), teamSize,
+                hackathonName));
+        if (!partition.getUnassigned().isEmpty()) {
+            feedback.append(String.format(MESSAGE_UNASSIGNED, partition.getUnassigned().size()));
+        }
+        if (!partition.isComplete()) {
+            feedback.append(MESSAGE_NOT_COMPLETE);
+        }
+        return new CommandResult(feedback.toString(), false, false, true);
+    }
+
+    private static boolean isSamePersons(List<Person> persons, List<Person> otherPersons) {
+        if (persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AutoTeamCommand)) {
+            return false;
+        }
+
+        AutoTeamCommand otherCommand = (AutoTeamCommand) other;
+        return hackathonName.equals(otherCommand.hackathonName)
+                && teamSize == otherCommand.teamSize
+                && namePrefix.equals(otherCommand.namePrefix);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("hackathonName", hackathonName)
+                .add("teamSize", teamSize)
+                .add("namePrefix", namePrefix)
+                .toString();
+    }
+}
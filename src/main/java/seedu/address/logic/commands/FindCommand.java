@@ -1,15 +1,42 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HACKATHON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.SearchResultCache;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.QueryClause;
+import seedu.address.model.search.QueryField;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.RelevanceRanker;
 
 /**
- * Finds and lists all persons in address book whose fields match any of the argument keywords.
+ * Finds and lists all persons in address book whose fields match all of the argument keywords and field clauses.
  * Keyword matching is case insensitive and supports partial matching.
+ * Field-scoped queries are planned against the current index statistics before being evaluated.
  */
 public class FindCommand extends Command {
 
@@ -19,25 +46,138 @@ public class FindCommand extends Command {
             + ": Finds all persons whose name, email, telegram handle, GitHub username, skills, "
             + "or hackathons contain all of the specified keywords (case-insensitive, partial matching) "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: k/KEYWORD [k/MORE_KEYWORDS]...\n"
-            + "Keywords can contain spaces. All keywords must match (AND search).\n"
+            + "Parameters: [" + PREFIX_KEYWORD + "KEYWORD]... [" + PREFIX_NAME + "NAME]... "
+            + "[" + PREFIX_EMAIL + "EMAIL]... [" + PREFIX_SKILL + "SKILL[:LEVEL]]... "
+            + "[" + PREFIX_HACKATHON + "HACKATHON_NAME]... [" + PREFIX_TEAM_NAME + "TEAM_NAME]... "
+            + "[" + PREFIX_TOP + "COUNT]\n"
+            + "At least one parameter must be given. Keywords can contain spaces. All parameters must match "
+            + "(AND search). Prefix a value with ! to negate it, and separate alternatives with | (OR).\n"
+            + "With " + PREFIX_TOP + "COUNT, only the COUNT most relevant persons are listed, best match first.\n"
             + "Example: " + COMMAND_WORD + " k/alice k/python\n"
-            + "Example: " + COMMAND_WORD + " k/AI Hackathon 2024 k/john";
+            + "Example: " + COMMAND_WORD + " k/AI Hackathon 2024 k/john\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SKILL + "python|java " + PREFIX_HACKATHON + "NUSHack "
+            + PREFIX_TEAM_NAME + "!Alpha Team\n"
+            + "Example: " + COMMAND_WORD + " k/python k/NUSHack " + PREFIX_TOP + "10";
+
+    public static final String MESSAGE_INVALID_LIMIT = "The number of results to list must be a positive integer.";
+
+    /** Result limit of a search that lists every match in address book order. */
+    public static final int NO_LIMIT = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
+    private final int limit;
+    private SearchResultCache searchResultCache;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, NO_LIMIT);
+    }
+
+    public FindCommand(PersonQuery query) {
+        this(query, NO_LIMIT);
+    }
+
+    private FindCommand(Predicate<Person> predicate, int limit) {
         this.predicate = predicate;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns a copy of this command that only lists the {@code limit} most relevant matches, best match first.
+     */
+    public FindCommand ranked(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_LIMIT);
+        }
+        return new FindCommand(predicate, limit);
+    }
+
+    /**
+     * Sets the cache that results of this search are looked up in and stored to.
+     */
+    public void setSearchResultCache(SearchResultCache searchResultCache) {
+        this.searchResultCache = searchResultCache;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Predicate<Person> plannedPredicate = getPlannedPredicate(model);
+        model.updateFilteredPersonList(searchResultCache == null
+                ? plannedPredicate
+                : searchResultCache.lookup(getCacheKey(), plannedPredicate));
+        if (limit != NO_LIMIT) {
+            showMostRelevant(model);
+        }
         return new CommandResult(
                 Messages.getPersonsListedOverview(model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Narrows the filtered person list down to its {@code limit} most relevant persons, best match first.
+     */
+    private void showMostRelevant(Model model) {
+        RelevanceRanker ranker = new RelevanceRanker(getRankingTerms());
+        List<Person> mostRelevant = ranker.topK(new ArrayList<>(model.getFilteredPersonList()), limit);
+
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (Person person : mostRelevant) {
+            ranks.put(person, ranks.size());
+        }
+        model.updateFilteredPersonList(ranks::containsKey);
+        model.sortFilteredPersonList(Comparator.comparingInt(ranks::get));
+    }
+
+    /**
+     * Returns the search terms that matches are ranked by. Negated clauses do not contribute to relevance.
+     */
+    private List<String> getRankingTerms() {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return ((NameContainsKeywordsPredicate) predicate).getKeywords();
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (QueryClause clause : ((PersonQuery) predicate).getClauses()) {
+            if (clause.isNegated()) {
+                continue;
+            }
+            for (String value : clause.getValues()) {
+                terms.add(clause.getField() == QueryField.SKILL
+                        ? value.split(QueryClause.LEVEL_SEPARATOR)[0]
+                        : value);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns a key that is equal for all searches matching the same persons.
+     * Keyword matching ignores case and every keyword or clause must match, so their order does not matter.
+     */
+    Object getCacheKey() {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return ((NameContainsKeywordsPredicate) predicate).getKeywords().stream()
+                    .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+        }
+        return new HashSet<>(((PersonQuery) predicate).getClauses());
+    }
+
+    /**
+     * Returns the predicate to filter with. Field-scoped queries are reordered so that the cheapest and most
+     * selective clauses are evaluated first.
+     */
+    private Predicate<Person> getPlannedPredicate(Model model) {
+        if (!(predicate instanceof PersonQuery)) {
+            return predicate;
+        }
+
+        QueryPlan plan = ((PersonQuery) predicate).plan(model.getIndexStatistics());
+        logger.fine("Query plan: " + plan);
+        return plan;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,13 +190,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && limit == otherFindCommand.limit;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("limit", limit)
                 .toString();
     }
 }
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SkillRequirement;
+
+/**
+ * Finds and lists all persons who have every given skill at or above the given experience level.
+ */
+public class FindSkillCommand extends Command {
+
+    public static final String COMMAND_WORD = "findskill";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds all persons who have all of the specified skills at or above the specified experience "
+            + "level and displays them as a list with index numbers.\n"
+            + "Parameters: " + PREFIX_SKILL + "SKILL[:MINIMUM_LEVEL] [" + PREFIX_SKILL
+            + "MORE_SKILLS[:MINIMUM_LEVEL]]...\n"
+            + "Levels: Beginner < Intermediate < Advanced. Skills without a level match any level.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SKILL + "python:intermediate " + PREFIX_SKILL
+            + "react:advanced";
+
+    private final List<SkillRequirement> requirements;
+
+    /**
+     * Creates a FindSkillCommand to find persons satisfying all of {@code requirements}.
+     */
+    public FindSkillCommand(List<SkillRequirement> requirements) {
+        requireNonNull(requirements);
+        this.requirements = requirements;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = model.getPersonsWithSkillLevels(requirements);
+        model.updateFilteredPersonList(matches::contains);
+        return new CommandResult(
+                Messages.getPersonsListedOverview(model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindSkillCommand)) {
+            return false;
+        }
+
+        FindSkillCommand otherFindSkillCommand = (FindSkillCommand) other;
+        return requirements.equals(otherFindSkillCommand.requirements);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("requirements", requirements)
+                .toString();
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHECKPOINT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.ScriptRunner.LineError;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file one line at a time, saving the data once at the end instead of after every
+ * command.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String ON_ERROR_CONTINUE = "continue";
+    public static final String ON_ERROR_ROLLBACK = "rollback";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line, and saves the data once at the end. "
+            + "Blank lines and lines starting with " + ScriptRunner.COMMENT_MARKER + " are skipped. "
+            + "The data can also be saved after every CHECKPOINT_INTERVAL commands. "
+            + "By default, failing lines are reported and the script continues; with " + PREFIX_ON_ERROR
+            + ON_ERROR_ROLLBACK + " the script stops at the first failure and all its changes are undone.\n"
+            + "Parameters: FILE "
+            + "[" + PREFIX_CHECKPOINT + "CHECKPOINT_INTERVAL] "
+            + "[" + PREFIX_ON_ERROR + ON_ERROR_CONTINUE + "|" + ON_ERROR_ROLLBACK + "]\n"
+            + "Example: " + COMMAND_WORD + " onboarding.txt " + PREFIX_CHECKPOINT + "500";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s.";
+    public static final String MESSAGE_FAILED_LINES = "\n%1$d line(s) failed:";
+    public static final String MESSAGE_LINE_ERROR = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "\n...and %1$d more.";
+    public static final String MESSAGE_ROLLED_BACK = "Line %1$d: %2$s\n"
+            + "The script %3$s was stopped and none of its changes were kept.";
+    public static final String MESSAGE_CANNOT_READ = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script.";
+    public static final String MESSAGE_INVALID_CHECKPOINT = "Checkpoint interval must be a positive integer.";
+    public static final String MESSAGE_INVALID_ON_ERROR = "On error must be either " + ON_ERROR_CONTINUE + " or "
+            + ON_ERROR_ROLLBACK + ".";
+
+    /** Number of failed lines listed in the result; the rest are only counted. */
+    public static final int MAX_LISTED_ERRORS = 10;
+
+    /** Checkpoint interval meaning the data is only saved at the end of the script. */
+    public static final int NO_CHECKPOINTS = 0;
+
+    private final Path scriptPath;
+    private final int checkpointInterval;
+    private final boolean isRollbackOnFailure;
+    private ScriptRunner scriptRunner;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath, int checkpointInterval, boolean isRollbackOnFailure) {
+        requireNonNull(scriptPath);
+        if (checkpointInterval < 0) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_CHECKPOINT);
+        }
+        this.scriptPath = scriptPath;
+        this.checkpointInterval = checkpointInterval;
+        this.isRollbackOnFailure = isRollbackOnFailure;
+    }
+
+    /**
+     * Sets the runner used to execute the lines of the script.
+     * Commands read from a script are not given a runner, so a script cannot run another script.
+     */
+    public void setScriptRunner(ScriptRunner scriptRunner) {
+        this.scriptRunner = scriptRunner;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (scriptRunner == null) {
+            throw new CommandException(MESSAGE_NESTED_SCRIPT);
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath, e.getMessage()), e);
+        }
+
+        ScriptRunner.Result result = scriptRunner.run(lines, model, checkpointInterval, isRollbackOnFailure);
+        if (result.isRolledBack()) {
+            LineError error = result.getErrors().get(0);
+            throw new CommandException(String.format(MESSAGE_ROLLED_BACK, error.getLineNumber(), error.getMessage(),
+                    scriptPath));
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, result.getExecutedCount(),
+                scriptPath));
+        List<LineError> errors = result.getErrors();
+        if (!errors.isEmpty()) {
+            feedback.append(String.format(MESSAGE_FAILED_LINES, errors.size()));
+            for (LineError error : errors.subList(0, Math.min(MAX_LISTED_ERRORS, errors.size()))) {
+                feedback.append(String.format(MESSAGE_LINE_ERROR, error.getLineNumber(), error.getMessage()));
+            }
+            if (errors.size() > MAX_LISTED_ERRORS) {
+                feedback.append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_LISTED_ERRORS));
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherCommand = (RunCommand) other;
+        return scriptPath.equals(otherCommand.scriptPath)
+                && checkpointInterval == otherCommand.checkpointInterval
+                && isRollbackOnFailure == otherCommand.isRollbackOnFailure;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("checkpointInterval", checkpointInterval)
+                .add("isRollbackOnFailure", isRollbackOnFailure)
+                .toString();
+    }
+}
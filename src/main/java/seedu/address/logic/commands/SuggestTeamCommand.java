@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HACKATHON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.teambuilding.HackathonPool;
+import seedu.address.model.teambuilding.SkillBitsets;
+import seedu.address.model.teambuilding.TeamSuggester;
+import seedu.address.model.teambuilding.TeamSuggestion;
+
+/**
+ * Suggests members for a new team in a hackathon that together cover the required skills.
+ * Only persons interested in the hackathon who are not yet in a team for it are considered.
+ */
+public class SuggestTeamCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggestteam";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Suggests members for a team in a hackathon that together cover the required skills, "
+            + "chosen from persons interested in the hackathon who are not yet in a team for it. "
+            + "The suggested members are listed so that a team can be created with their indices.\n"
+            + "Parameters: " + PREFIX_HACKATHON + "HACKATHON_NAME "
+            + PREFIX_SKILL + "SKILL[:MINIMUM_LEVEL] [" + PREFIX_SKILL + "MORE_SKILLS[:MINIMUM_LEVEL]]... "
+            + PREFIX_SIZE + "TEAM_SIZE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_HACKATHON + "NUSHack " + PREFIX_SKILL + "python "
+            + PREFIX_SKILL + "react:intermediate " + PREFIX_SIZE + "4";
+
+    public static final String MESSAGE_SUCCESS = "Suggested %1$d member(s) for %2$s covering %3$d of %4$d "
+            + "required skill(s).";
+    public static final String MESSAGE_MISSING_SKILLS = "\nNo available person covers: %1$s";
+    public static final String MESSAGE_NOT_OPTIMAL = "\nThe search was stopped early, so a better team may exist.";
+    public static final String MESSAGE_EMPTY_POOL = "No one interested in %1$s is available for a new team.";
+    public static final String MESSAGE_INVALID_TEAM_SIZE = "Team size must be a positive integer.";
+
+    private final HackathonName hackathonName;
+    private final List<SkillRequirement> requiredSkills;
+    private final int teamSize;
+
+    /**
+     * Creates a SuggestTeamCommand to suggest {@code teamSize} members for {@code hackathonName}.
+     */
+    public SuggestTeamCommand(HackathonName hackathonName, List<SkillRequirement> requiredSkills, int teamSize) {
+        requireAllNonNull(hackathonName, requiredSkills);
+        if (teamSize <= 0) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_TEAM_SIZE);
+        }
+        this.hackathonName = hackathonName;
+        this.requiredSkills = requiredSkills;
+        this.teamSize = teamSize;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> pool = HackathonPool.getUnassignedInterested(model.getAddressBook().getPersonList(),
+                hackathonName);
+        if (pool.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_POOL, hackathonName));
+        }
+
+        TeamSuggester suggester = new TeamSuggester(new SkillBitsets(requiredSkills),
+                TeamSuggester.DEFAULT_TIME_BUDGET);
+        TeamSuggestion suggestion = suggester.suggest(pool, teamSize);
+
+        // List the suggested members in the order they were picked
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (Person member : suggestion.getMembers()) {
+            ranks.put(member, ranks.size());
+        }
+        model.updateFilteredPersonList(ranks::containsKey);
+        model.sortFilteredPersonList(Comparator.comparingInt(ranks::get));
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, suggestion.getMembers().size(),
+                hackathonName, suggestion.getCoveredSkills().size(), requiredSkills.size()));
+        if (!suggestion.getMissingSkills().isEmpty()) {
+            feedback.append(String.format(MESSAGE_MISSING_SKILLS, suggestion.getMissingSkills().stream()
+                    .map(SkillRequirement::getSkillName)
+                    .collect(Collectors.joining(", "))));
+        }
+        if (!suggestion.isOptimal()) {
+            feedback.append(MESSAGE_NOT_OPTIMAL);
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SuggestTeamCommand)) {
+            return false;
+        }
+
+        SuggestTeamCommand otherCommand = (SuggestTeamCommand) other;
+        return hackathonName.equals(otherCommand.hackathonName)
+                && requiredSkills.equals(otherCommand.requiredSkills)
+                && teamSize == otherCommand.teamSize;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("hackathonName", hackathonName)
+                .add("requiredSkills", requiredSkills)
+                .add("teamSize", teamSize)
+                .toString();
+    }
+}
@@ -1,17 +1,20 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddHackathonCommand;
 import seedu.address.logic.commands.AddSkillCommand;
 import seedu.address.logic.commands.AddToTeamCommand;
+import seedu.address.logic.commands.AutoTeamCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CreateTeamCommand;
@@ -20,12 +23,15 @@ import seedu.address.logic.commands.DeleteTeamCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindSkillCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListTeamCommand;
 import seedu.address.logic.commands.RemoveFromTeamCommand;
 import seedu.address.logic.commands.RemoveHackathonCommand;
 import seedu.address.logic.commands.RemoveSkillCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SuggestTeamCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -34,11 +40,68 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class AddressBookParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * Parsers of the arguments of each command word. Parsers hold no state, so one instance of each is shared.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Map<String, Parser<? extends Command>> PARSERS = createParsers();
+
+    /**
+     * Command words that must be typed in full, as running them by accident loses data or closes the app.
+     */
+    private static final Set<String> FULL_WORDS_ONLY = Set.of(ClearCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
+            DeleteTeamCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD);
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandRegistry registry;
+
+    /**
+     * Creates a parser of the commands of the app without aliases.
+     */
+    public AddressBookParser() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * Creates a parser of the commands of the app that also accepts the given {@code aliases} of command words.
+     * Aliases that are not valid are skipped with a warning.
+     */
+    public AddressBookParser(Map<String, String> aliases) {
+        requireNonNull(aliases);
+        registry = new CommandRegistry(PARSERS, FULL_WORDS_ONLY);
+        for (Map.Entry<String, String> alias : aliases.entrySet()) {
+            try {
+                registry.addAlias(alias.getKey(), alias.getValue());
+            } catch (IllegalArgumentException e) {
+                logger.warning("Ignoring command alias: " + e.getMessage());
+            }
+        }
+    }
+
+    private static Map<String, Parser<? extends Command>> createParsers() {
+        Map<String, Parser<? extends Command>> parsers = new LinkedHashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(FindSkillCommand.COMMAND_WORD, new FindSkillCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        parsers.put(ListTeamCommand.COMMAND_WORD, arguments -> new ListTeamCommand());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(CreateTeamCommand.COMMAND_WORD, new CreateTeamCommandParser());
+        parsers.put(DeleteTeamCommand.COMMAND_WORD, new DeleteTeamCommandParser());
+        parsers.put(RemoveSkillCommand.COMMAND_WORD, new RemoveSkillCommandParser());
+        parsers.put(AddSkillCommand.COMMAND_WORD, new AddSkillCommandParser());
+        parsers.put(AddHackathonCommand.COMMAND_WORD, new AddHackathonCommandParser());
+        parsers.put(RemoveHackathonCommand.COMMAND_WORD, new RemoveHackathonCommandParser());
+        parsers.put(AddToTeamCommand.COMMAND_WORD, new AddToTeamCommandParser());
+        parsers.put(RemoveFromTeamCommand.COMMAND_WORD, new RemoveFromTeamCommandParser());
+        parsers.put(SuggestTeamCommand.COMMAND_WORD, new SuggestTeamCommandParser());
+        parsers.put(AutoTeamCommand.COMMAND_WORD, new AutoTeamCommandParser());
+        parsers.put(RunCommand.COMMAND_WORD, new RunCommandParser());
+        return Collections.unmodifiableMap(parsers);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -47,76 +110,39 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        // Split off the command word by hand, as this runs for every command entered
+        int start = 0;
+        int end = userInput.length();
+        while (start < end && Character.isWhitespace(userInput.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(userInput.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
+        int wordEnd = start;
+        while (wordEnd < end && !Character.isWhitespace(userInput.charAt(wordEnd))) {
+            wordEnd++;
+        }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = userInput.substring(start, wordEnd);
+        final String arguments = userInput.substring(wordEnd, end);
 
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        // Convert command word to lowercase for case-insensitive matching
-        final String commandWordLowerCase = commandWord.toLowerCase();
-
-        switch (commandWordLowerCase) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ListTeamCommand.COMMAND_WORD:
-            return new ListTeamCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case CreateTeamCommand.COMMAND_WORD:
-            return new CreateTeamCommandParser().parse(arguments);
-
-        case DeleteTeamCommand.COMMAND_WORD:
-            return new DeleteTeamCommandParser().parse(arguments);
-
-        case RemoveSkillCommand.COMMAND_WORD:
-            return new RemoveSkillCommandParser().parse(arguments);
-
-        case AddSkillCommand.COMMAND_WORD:
-            return new AddSkillCommandParser().parse(arguments);
-
-        case AddHackathonCommand.COMMAND_WORD:
-            return new AddHackathonCommandParser().parse(arguments);
-
-        case RemoveHackathonCommand.COMMAND_WORD:
-            return new RemoveHackathonCommandParser().parse(arguments);
-
-        case AddToTeamCommand.COMMAND_WORD:
-            return new AddToTeamCommandParser().parse(arguments);
-
-        case RemoveFromTeamCommand.COMMAND_WORD:
-            return new RemoveFromTeamCommandParser().parse(arguments);
-
-        default:
+        Parser<? extends Command> parser;
+        try {
+            parser = registry.getParser(commandWord);
+        } catch (ParseException pe) {
             logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            throw pe;
         }
+        return parser.parse(arguments);
     }
 
+    public Map<String, String> getAliases() {
+        return registry.getAliases();
+    }
 }
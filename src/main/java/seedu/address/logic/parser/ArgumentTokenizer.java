@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +12,14 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * The arguments string is scanned once from left to right, matching all the prefixes at the same time through an
+ * automaton built for each set of prefixes the first time it is used.
  */
 public class ArgumentTokenizer {
 
+    /** Automata of the sets of prefixes used so far, so that each is built only once. */
+    private static final Map<List<Prefix>, PrefixAutomaton> AUTOMATA = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,124 +29,122 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        PrefixAutomaton automaton = AUTOMATA.get(Arrays.asList(prefixes));
+        if (automaton == null) {
+            // Copy the prefixes, as the caller still holds the array
+            List<Prefix> key = List.of(prefixes);
+            automaton = AUTOMATA.computeIfAbsent(key, PrefixAutomaton::new);
         }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        return automaton.tokenize(argsString);
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Recognizes a set of prefixes in an arguments string in a single left-to-right scan.
+     * A prefix is only recognized when there is a space before it. When several prefixes match at the same position,
+     * the longest one is taken.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static class PrefixAutomaton {
+        private final Node root = new Node();
+
+        PrefixAutomaton(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                String text = prefix.getPrefix();
+                if (text.isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < text.length(); i++) {
+                    node = node.getOrAddChild(text.charAt(i));
+                }
+                node.prefix = prefix;
+            }
         }
 
-        return argMultimap;
-    }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+        ArgumentMultimap tokenize(String argsString) {
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = ArgumentMultimap.PREAMBLE;
+            int valueStart = 0;
+
+            int length = argsString.length();
+            int position = 1;
+            while (position < length) {
+                if (argsString.charAt(position - 1) != ' ') {
+                    position++;
+                    continue;
+                }
+
+                // Follow the automaton as far as the text allows, remembering the longest prefix passed
+                Node node = root;
+                Prefix matched = null;
+                int matchedEnd = position;
+                for (int i = position; i < length && node != null; i++) {
+                    node = node.getChild(argsString.charAt(i));
+                    if (node != null && node.prefix != null) {
+                        matched = node.prefix;
+                        matchedEnd = i + 1;
+                    }
+                }
+
+                if (matched == null) {
+                    position++;
+                    continue;
+                }
+                argMultimap.put(currentPrefix, trimmedSubstring(argsString, valueStart, position));
+                currentPrefix = matched;
+                valueStart = matchedEnd;
+                position = matchedEnd;
+            }
+
+            argMultimap.put(currentPrefix, trimmedSubstring(argsString, valueStart, length));
+            return argMultimap;
+        }
 
-        return value.trim();
+        /**
+         * Returns {@code text} from {@code start} to {@code end} without leading and trailing whitespace,
+         * as {@link String#trim()} would, but without creating the untrimmed substring first.
+         */
+        private static String trimmedSubstring(String text, int start, int end) {
+            int trimmedStart = start;
+            int trimmedEnd = end;
+            while (trimmedStart < trimmedEnd && text.charAt(trimmedStart) <= ' ') {
+                trimmedStart++;
+            }
+            while (trimmedEnd > trimmedStart && text.charAt(trimmedEnd - 1) <= ' ') {
+                trimmedEnd--;
+            }
+            return text.substring(trimmedStart, trimmedEnd);
+        }
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A state of a {@code PrefixAutomaton}, reached after reading the characters on the path to it.
+     * Prefixes are short and few, so the children are kept in small parallel arrays rather than a map.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        // The prefix read on the path to this node, or null if the path is only the start of longer prefixes
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
         }
     }
 
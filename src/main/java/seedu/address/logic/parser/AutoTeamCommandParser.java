@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HACKATHON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM_NAME;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AutoTeamCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.hackathon.HackathonName;
+
+/**
+ * Parses input arguments and creates a new AutoTeamCommand object
+ */
+public class AutoTeamCommandParser implements Parser<AutoTeamCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AutoTeamCommand
+     * and returns an AutoTeamCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AutoTeamCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_HACKATHON, PREFIX_SIZE,
+                PREFIX_TEAM_NAME);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_HACKATHON).isEmpty()
+                || argMultimap.getValue(PREFIX_SIZE).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutoTeamCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_HACKATHON, PREFIX_SIZE, PREFIX_TEAM_NAME);
+
+        HackathonName hackathonName = ParserUtil.parseHackathonName(argMultimap.getValue(PREFIX_HACKATHON).get());
+
+        String teamSize = argMultimap.getValue(PREFIX_SIZE).get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(teamSize)) {
+            throw new ParseException(AutoTeamCommand.MESSAGE_INVALID_TEAM_SIZE);
+        }
+
+        if (argMultimap.getValue(PREFIX_TEAM_NAME).isEmpty()) {
+            return new AutoTeamCommand(hackathonName, Integer.parseInt(teamSize));
+        }
+        String namePrefix = ParserUtil.parseTeamName(argMultimap.getValue(PREFIX_TEAM_NAME).get()).fullTeamName;
+        return new AutoTeamCommand(hackathonName, Integer.parseInt(teamSize), namePrefix);
+    }
+}
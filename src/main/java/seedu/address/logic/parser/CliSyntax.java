@@ -15,5 +15,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_SKILL = new Prefix("sk/");
     public static final Prefix PREFIX_HACKATHON = new Prefix("h/");
     public static final Prefix PREFIX_KEYWORD = new Prefix("k/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
+    public static final Prefix PREFIX_SIZE = new Prefix("size/");
+    public static final Prefix PREFIX_CHECKPOINT = new Prefix("every/");
+    public static final Prefix PREFIX_ON_ERROR = new Prefix("onerror/");
 
 }
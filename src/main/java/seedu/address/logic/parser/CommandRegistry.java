@@ -0,0 +1,191 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNABBREVIATED_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words, and aliases of them, to the parsers of their arguments.
+ * Words are matched regardless of case. A word that is neither a command word nor an alias also matches the one
+ * command word it is the start of, if there is exactly one, so {@code addt} finds {@code addtoteam}.
+ * Command words that are registered as full words only, such as those of commands that cannot be undone, are never
+ * matched by the start of them.
+ * Command words are resolved through a trie that is built once, so resolving a word takes time linear in its length.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+    private final Map<String, String> aliases = new TreeMap<>();
+    private final Set<String> fullWordsOnly = new HashSet<>();
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Creates a registry of the command words in {@code parsers}, without aliases.
+     */
+    public CommandRegistry(Map<String, ? extends Parser<? extends Command>> parsers) {
+        this(parsers, Collections.emptySet());
+    }
+
+    /**
+     * Creates a registry of the command words in {@code parsers}, without aliases, in which the command words in
+     * {@code fullWordsOnly} are only matched when typed in full.
+     * @throws IllegalArgumentException if {@code fullWordsOnly} holds a word that is not a command word.
+     */
+    public CommandRegistry(Map<String, ? extends Parser<? extends Command>> parsers, Set<String> fullWordsOnly) {
+        requireNonNull(parsers);
+        requireNonNull(fullWordsOnly);
+        for (Map.Entry<String, ? extends Parser<? extends Command>> entry : parsers.entrySet()) {
+            String commandWord = normalize(entry.getKey());
+            this.parsers.put(commandWord, requireNonNull(entry.getValue()));
+            root.insert(commandWord);
+        }
+        for (String word : fullWordsOnly) {
+            String commandWord = normalize(word);
+            if (!this.parsers.containsKey(commandWord)) {
+                throw new IllegalArgumentException("'" + word + "' is not a command word");
+            }
+            this.fullWordsOnly.add(commandWord);
+        }
+    }
+
+    /**
+     * Makes {@code alias} stand for {@code commandWord}, replacing what it stood for before.
+     * @throws IllegalArgumentException if {@code alias} is blank or contains whitespace, is already a command word,
+     *         or {@code commandWord} is not a command word.
+     */
+    public void addAlias(String alias, String commandWord) {
+        requireNonNull(alias);
+        requireNonNull(commandWord);
+        String normalizedAlias = normalize(alias);
+        String normalizedCommandWord = normalize(commandWord);
+        if (normalizedAlias.isEmpty() || normalizedAlias.chars().anyMatch(Character::isWhitespace)) {
+            throw new IllegalArgumentException("Alias '" + alias + "' must be a single word");
+        }
+        if (parsers.containsKey(normalizedAlias)) {
+            throw new IllegalArgumentException("Alias '" + alias + "' is already a command word");
+        }
+        if (!parsers.containsKey(normalizedCommandWord)) {
+            throw new IllegalArgumentException("Alias '" + alias + "' stands for unknown command '" + commandWord
+                    + "'");
+        }
+        aliases.put(normalizedAlias, normalizedCommandWord);
+    }
+
+    /**
+     * Returns the command word that {@code word} stands for: {@code word} itself if it is a command word,
+     * the command word it is an alias of, or else the only command word starting with it.
+     * @throws ParseException if no command word matches {@code word}, more than one starts with it, or the only one
+     *         starting with it must be typed in full.
+     */
+    public String resolve(String word) throws ParseException {
+        requireNonNull(word);
+        String normalized = normalize(word);
+        if (parsers.containsKey(normalized)) {
+            return normalized;
+        }
+        String aliased = aliases.get(normalized);
+        if (aliased != null) {
+            return aliased;
+        }
+
+        TrieNode node = root.find(normalized);
+        if (normalized.isEmpty() || node == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (node.onlyWord == null) {
+            List<String> candidates = new ArrayList<>();
+            node.collectWords(candidates);
+            throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, word, String.join(", ", candidates)));
+        }
+        if (fullWordsOnly.contains(node.onlyWord)) {
+            throw new ParseException(String.format(MESSAGE_UNABBREVIATED_COMMAND, node.onlyWord));
+        }
+        return node.onlyWord;
+    }
+
+    /**
+     * Returns the parser of the command that {@code word} stands for.
+     * @throws ParseException if {@code word} does not stand for exactly one command.
+     * @see #resolve(String)
+     */
+    public Parser<? extends Command> getParser(String word) throws ParseException {
+        return parsers.get(resolve(word));
+    }
+
+    public Map<String, String> getAliases() {
+        return Collections.unmodifiableMap(aliases);
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandWords", new TreeMap<>(parsers).keySet())
+                .add("aliases", aliases)
+                .toString();
+    }
+
+    /**
+     * A node of the trie of command words, for the words starting with the characters on the path to it.
+     */
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new TreeMap<>();
+        private String word;
+        // The only command word starting here, or null if there is more than one
+        private String onlyWord;
+        private int wordCount;
+
+        void insert(String commandWord) {
+            TrieNode node = this;
+            node.countWord(commandWord);
+            for (int i = 0; i < commandWord.length(); i++) {
+                node = node.children.computeIfAbsent(commandWord.charAt(i), unused -> new TrieNode());
+                node.countWord(commandWord);
+            }
+            node.word = commandWord;
+        }
+
+        private void countWord(String commandWord) {
+            wordCount++;
+            onlyWord = wordCount == 1 ? commandWord : null;
+        }
+
+        TrieNode find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+
+        /**
+         * Adds the command words starting at this node to {@code words} in alphabetical order.
+         */
+        void collectWords(List<String> words) {
+            if (word != null) {
+                words.add(word);
+            }
+            for (TrieNode child : children.values()) {
+                child.collectWords(words);
+            }
+        }
+    }
+}
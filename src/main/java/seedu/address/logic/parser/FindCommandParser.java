@@ -1,48 +1,145 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HACKATHON;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_KEYWORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.QueryClause;
+import seedu.address.model.search.QueryField;
+import seedu.address.model.skill.Skill;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /** Marks a clause whose result should be inverted, e.g. {@code sk/!java}. */
+    public static final String NEGATION_MARKER = "!";
+
+    /** Separates alternative values of a clause, e.g. {@code sk/java|python}. */
+    public static final String OR_SEPARATOR = "|";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_KEYWORD);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_KEYWORD, PREFIX_NAME, PREFIX_EMAIL,
+                PREFIX_SKILL, PREFIX_HACKATHON, PREFIX_TEAM_NAME, PREFIX_TOP);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TOP);
 
-        // Check if there are k/ prefixes
-        List<String> keywords = argMultimap.getAllValues(PREFIX_KEYWORD);
+        List<QueryClause> clauses = new ArrayList<>();
+        addClauses(argMultimap, PREFIX_KEYWORD, QueryField.KEYWORD, clauses);
+        addClauses(argMultimap, PREFIX_NAME, QueryField.NAME, clauses);
+        addClauses(argMultimap, PREFIX_EMAIL, QueryField.EMAIL, clauses);
+        addClauses(argMultimap, PREFIX_SKILL, QueryField.SKILL, clauses);
+        addClauses(argMultimap, PREFIX_HACKATHON, QueryField.HACKATHON, clauses);
+        addClauses(argMultimap, PREFIX_TEAM_NAME, QueryField.TEAM, clauses);
 
-        if (keywords.isEmpty()) {
+        if (clauses.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        // Filter out empty keywords and trim them
-        List<String> validKeywords = keywords.stream()
-                .map(String::trim)
-                .filter(keyword -> !keyword.isEmpty())
-                .collect(Collectors.toList());
+        FindCommand findCommand;
+        // Plain keyword searches keep using the original any-field predicate
+        if (clauses.stream().allMatch(FindCommandParser::isPlainKeywordClause)) {
+            List<String> keywords = clauses.stream()
+                    .map(clause -> clause.getValues().get(0))
+                    .collect(Collectors.toList());
+            findCommand = new FindCommand(new NameContainsKeywordsPredicate(keywords));
+        } else {
+            findCommand = new FindCommand(new PersonQuery(clauses));
+        }
 
-        if (validKeywords.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        Optional<String> limit = argMultimap.getValue(PREFIX_TOP);
+        return limit.isPresent() ? findCommand.ranked(parseLimit(limit.get())) : findCommand;
+    }
+
+    /**
+     * Parses the number of most relevant results to list.
+     * @throws ParseException if {@code limit} is not a positive integer.
+     */
+    private static int parseLimit(String limit) throws ParseException {
+        String trimmedLimit = limit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
+    private static boolean isPlainKeywordClause(QueryClause clause) {
+        return clause.getField() == QueryField.KEYWORD && !clause.isNegated() && clause.getValues().size() == 1;
+    }
+
+    /**
+     * Parses every value of {@code prefix} into a {@code QueryClause} on {@code field} and adds it to {@code clauses}.
+     */
+    private static void addClauses(ArgumentMultimap argMultimap, Prefix prefix, QueryField field,
+            List<QueryClause> clauses) throws ParseException {
+        for (String value : argMultimap.getAllValues(prefix)) {
+            clauses.add(parseClause(field, value));
+        }
+    }
+
+    /**
+     * Parses {@code rawValue} of the form {@code [!]VALUE[|VALUE]...} into a {@code QueryClause} on {@code field}.
+     * @throws ParseException if any of the values is empty or invalid for {@code field}.
+     */
+    private static QueryClause parseClause(QueryField field, String rawValue) throws ParseException {
+        String value = rawValue.trim();
+        boolean isNegated = value.startsWith(NEGATION_MARKER);
+        if (isNegated) {
+            value = value.substring(NEGATION_MARKER.length());
         }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(validKeywords));
+        List<String> alternatives = new ArrayList<>();
+        for (String alternative : value.split(Pattern.quote(OR_SEPARATOR), -1)) {
+            String trimmedAlternative = alternative.trim();
+            if (trimmedAlternative.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            alternatives.add(normaliseValue(field, trimmedAlternative));
+        }
+
+        return new QueryClause(field, alternatives, isNegated);
+    }
+
+    /**
+     * Validates {@code value} against the constraints of {@code field} and returns its canonical form.
+     */
+    private static String normaliseValue(QueryField field, String value) throws ParseException {
+        switch (field) {
+        case SKILL:
+            Skill skill = ParserUtil.parseSkill(value);
+            return value.contains(QueryClause.LEVEL_SEPARATOR)
+                    ? skill.skillName + QueryClause.LEVEL_SEPARATOR + skill.experienceLevel.name()
+                    : skill.skillName;
+        case HACKATHON:
+            return ParserUtil.parseHackathonName(value).value;
+        case TEAM:
+            return ParserUtil.parseTeamName(value).fullTeamName;
+        default:
+            return value;
+        }
     }
 
 }
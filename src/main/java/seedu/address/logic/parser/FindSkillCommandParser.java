@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FindSkillCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.Skill;
+
+/**
+ * Parses input arguments and creates a new FindSkillCommand object
+ */
+public class FindSkillCommandParser implements Parser<FindSkillCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindSkillCommand
+     * and returns a FindSkillCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindSkillCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SKILL);
+
+        List<String> skillValues = argMultimap.getAllValues(PREFIX_SKILL);
+        if (!argMultimap.getPreamble().isEmpty() || skillValues.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSkillCommand.MESSAGE_USAGE));
+        }
+
+        // A skill without a level defaults to BEGINNER, the lowest level, so it matches any level
+        List<SkillRequirement> requirements = new ArrayList<>();
+        for (String skillValue : skillValues) {
+            Skill skill = ParserUtil.parseSkill(skillValue);
+            requirements.add(new SkillRequirement(skill.skillName, skill.getExperienceLevel()));
+        }
+
+        return new FindSkillCommand(requirements);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHECKPOINT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CHECKPOINT, PREFIX_ON_ERROR);
+
+        String scriptPath = argMultimap.getPreamble();
+        if (scriptPath.isEmpty() || !FileUtil.isValidPath(scriptPath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CHECKPOINT, PREFIX_ON_ERROR);
+
+        int checkpointInterval = RunCommand.NO_CHECKPOINTS;
+        if (argMultimap.getValue(PREFIX_CHECKPOINT).isPresent()) {
+            String interval = argMultimap.getValue(PREFIX_CHECKPOINT).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(interval)) {
+                throw new ParseException(RunCommand.MESSAGE_INVALID_CHECKPOINT);
+            }
+            checkpointInterval = Integer.parseInt(interval);
+        }
+
+        boolean isRollbackOnFailure = false;
+        if (argMultimap.getValue(PREFIX_ON_ERROR).isPresent()) {
+            String onError = argMultimap.getValue(PREFIX_ON_ERROR).get().trim();
+            if (onError.equalsIgnoreCase(RunCommand.ON_ERROR_ROLLBACK)) {
+                isRollbackOnFailure = true;
+            } else if (!onError.equalsIgnoreCase(RunCommand.ON_ERROR_CONTINUE)) {
+                throw new ParseException(RunCommand.MESSAGE_INVALID_ON_ERROR);
+            }
+        }
+
+        return new RunCommand(Paths.get(scriptPath), checkpointInterval, isRollbackOnFailure);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HACKATHON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SuggestTeamCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.teambuilding.SkillBitsets;
+
+/**
+ * Parses input arguments and creates a new SuggestTeamCommand object
+ */
+public class SuggestTeamCommandParser implements Parser<SuggestTeamCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SuggestTeamCommand
+     * and returns a SuggestTeamCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SuggestTeamCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_HACKATHON, PREFIX_SKILL, PREFIX_SIZE);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_HACKATHON).isEmpty()
+                || argMultimap.getValue(PREFIX_SIZE).isEmpty() || argMultimap.getAllValues(PREFIX_SKILL).isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestTeamCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_HACKATHON, PREFIX_SIZE);
+
+        HackathonName hackathonName = ParserUtil.parseHackathonName(argMultimap.getValue(PREFIX_HACKATHON).get());
+
+        List<SkillRequirement> requiredSkills = new ArrayList<>();
+        for (String skillValue : argMultimap.getAllValues(PREFIX_SKILL)) {
+            Skill skill = ParserUtil.parseSkill(skillValue);
+            requiredSkills.add(new SkillRequirement(skill.skillName, skill.getExperienceLevel()));
+        }
+        if (requiredSkills.size() > SkillBitsets.MAX_REQUIREMENTS) {
+            throw new ParseException(SkillBitsets.MESSAGE_TOO_MANY_SKILLS);
+        }
+
+        String teamSize = argMultimap.getValue(PREFIX_SIZE).get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(teamSize)) {
+            throw new ParseException(SuggestTeamCommand.MESSAGE_INVALID_TEAM_SIZE);
+        }
+
+        return new SuggestTeamCommand(hackathonName, requiredSkills, Integer.parseInt(teamSize));
+    }
+}
@@ -10,8 +10,10 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.UniqueTeamList;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
 
 /**
  * Wraps all data at the address-book level
@@ -36,6 +38,20 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public AddressBook() {}
 
+    /**
+     * Creates an AddressBook of {@code persons} and {@code teams}, such as those read from a data file.
+     * Duplicates are found in a single pass over each list and each list is filled in a single change, so building
+     * an address book of n persons takes O(n) time rather than the O(n^2) time of adding them one at a time.
+     *
+     * @throws DuplicatePersonException if two persons have the same identity or share contact fields.
+     * @throws DuplicateTeamException if two teams have the same name.
+     */
+    public AddressBook(List<Person> persons, List<Team> teams) {
+        this();
+        setPersons(persons);
+        setTeams(teams);
+    }
+
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
      */
@@ -189,6 +205,15 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns the number of times the persons or teams of this address book have been modified.
+     * The count only ever grows, so caches and storage can compare it with an earlier value to tell whether
+     * anything changed in between.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount() + teams.getModificationCount();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
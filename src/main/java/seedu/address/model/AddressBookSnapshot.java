@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * An immutable copy of the contents of an address book at one point in time.
+ * As persons and teams are immutable, copying the lists is enough, which takes linear time and skips the
+ * duplicate checks of {@link AddressBook}. A snapshot may be read from any thread.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Team> teams;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getPersonList()));
+        teams = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getTeamList()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Team> getTeamList() {
+        return teams;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons.size())
+                .add("teams", teams.size())
+                .toString();
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.model;
+
+/**
+ * The ways the address book can be kept on the hard disk.
+ */
+public enum DataStorageType {
+
+    /** A JSON data file, with a journal of the changes made since it was last written in full. */
+    FILE,
+
+    /** An embedded database next to the data file, which saves each change as a small transaction. */
+    DATABASE,
+
+    /**
+     * A directory next to the data file, holding a file of the persons and one file of the teams of each hackathon,
+     * so that a save only writes the hackathons whose teams changed.
+     */
+    SHARDED,
+
+    /**
+     * A directory next to the data file, holding segments of persons and of teams named by their contents and a
+     * manifest listing them, so that a save only writes the segments holding changed persons or teams.
+     */
+    SEGMENTED,
+
+    /** A binary snapshot next to the data file, which loads faster than JSON but is always written in full. */
+    BINARY
+}
@@ -1,13 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.hackathon.HackathonName;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.IndexStatistics;
+import seedu.address.model.search.SkillRequirement;
 import seedu.address.model.team.Team;
+import seedu.address.model.teambuilding.CompatibilityMatrix;
 
 /**
  * The API of the Model component.
@@ -55,6 +61,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of times the address book has been modified.
+     * Read-only operations leave the count unchanged.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -88,6 +100,27 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Orders the filtered person list by the given {@code comparator}, or in address book order if it is null.
+     * The order is reset to address book order whenever the filter is updated.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
+
+    /**
+     * Returns the persons in the address book that satisfy all of the given skill {@code requirements}.
+     */
+    Set<Person> getPersonsWithSkillLevels(List<SkillRequirement> requirements);
+
+    /**
+     * Returns the statistics of the persons in the address book that searches are planned with.
+     */
+    IndexStatistics getIndexStatistics();
+
+    /**
+     * Returns the pairwise compatibility of the persons interested or participating in {@code hackathonName}.
+     */
+    CompatibilityMatrix getCompatibilityMatrix(HackathonName hackathonName);
+
     /**
      * Returns true if a team with the same identity as {@code team} exists in Mate
      */
@@ -131,6 +164,15 @@ public interface Model {
      */
     Team addToTeam(Team team, Person person);
 
+    /**
+     * Adds all of the given {@code teams} together with their members in one update.
+     * Each member ends up as if added to their team with {@link #addToTeam(Team, Person)}.
+     * The teams must not already exist in Mate and their members must be persons in Mate.
+     *
+     * @param teams The new teams, each holding the persons to add to it
+     */
+    void addTeamsWithMembers(List<Team> teams);
+
     /**
      * Removes a person from a team, maintaining bidirectional relationship.
      * Updates both the team's member list and the person's team list.
@@ -4,18 +4,33 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ParallelFilterUtil;
 import seedu.address.model.hackathon.HackathonName;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.IndexStatistics;
+import seedu.address.model.search.SkillLevelIndex;
+import seedu.address.model.search.SkillRequirement;
 import seedu.address.model.team.Team;
+import seedu.address.model.teambuilding.CompatibilityMatrix;
+import seedu.address.model.teambuilding.CompatibilityService;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,10 +38,19 @@ import seedu.address.model.team.Team;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** Hides every person, used to force the person list view to refresh. */
+    private static final Predicate<Person> PREDICATE_SHOW_NO_PERSONS = unused -> false;
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Team> filteredTeams;
+    private final SkillLevelIndex skillLevelIndex;
+    // Created on first use, as it listens to every change of the person list from then on
+    private CompatibilityService compatibilityService;
+    // Built on first use and dropped whenever the person list changes
+    private IndexStatistics indexStatistics;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,7 +63,10 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredTeams = new FilteredList<>(this.addressBook.getTeamList());
+        skillLevelIndex = new SkillLevelIndex(this.addressBook.getPersonList());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) unused -> indexStatistics = null);
     }
 
     public ModelManager() {
@@ -93,6 +120,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -116,7 +148,7 @@ public class ModelManager implements Model {
 
         addressBook.setPerson(target, editedPerson);
         // Force UI refresh by temporarily changing predicate
-        updateFilteredPersonList(p -> false);
+        updateFilteredPersonList(PREDICATE_SHOW_NO_PERSONS);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         // Also refresh team list since team members may have been updated
         updateFilteredTeamList(t -> false);
@@ -151,17 +183,54 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order set by {@link #sortFilteredPersonList(Comparator)}
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * Large address books are filtered in parallel with expensive predicates before the result is published to the
+     * list in one change.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+        Predicate<Person> precomputed = ParallelFilterUtil.precompute(addressBook.getPersonList(), predicate);
+        filteredPersons.setPredicate(precomputed);
+        // The list has applied the results, and only tests persons that are added later, which have none
+        ParallelFilterUtil.release(precomputed);
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        sortedPersons.setComparator(comparator);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithSkillLevels(List<SkillRequirement> requirements) {
+        requireNonNull(requirements);
+        return skillLevelIndex.findAll(requirements);
+    }
+
+    @Override
+    public IndexStatistics getIndexStatistics() {
+        if (indexStatistics == null) {
+            indexStatistics = new IndexStatistics(addressBook.getPersonList());
+        }
+        return indexStatistics;
+    }
+
+    @Override
+    public CompatibilityMatrix getCompatibilityMatrix(HackathonName hackathonName) {
+        requireNonNull(hackathonName);
+        if (compatibilityService == null) {
+            compatibilityService = new CompatibilityService(addressBook.getPersonList());
+        }
+        return compatibilityService.getMatrix(hackathonName);
     }
 
     //=========== Filtered Team List Accessors =============================================================
@@ -239,9 +308,60 @@ public class ModelManager implements Model {
         // Update the team in the model
         setTeam(team, updatedTeam);
 
+        Person updatedPerson = joinTeam(person, updatedTeam);
+
+        // Update the person in the model
+        setPerson(person, updatedPerson);
+
+        return updatedTeam;
+    }
+
+    /**
+     * Adds all of the given teams and their members in one update of the person and team lists.
+     * Members are updated as in {@link #addToTeam(Team, Person)}, and teams that already contain an updated
+     * member are updated to refer to the new person, as in {@link AddressBook#setPerson(Person, Person)}.
+     */
+    @Override
+    public void addTeamsWithMembers(List<Team> teams) {
+        requireAllNonNull(teams);
+
+        Map<Person, Person> updatedPersons = new IdentityHashMap<>();
+        for (Team team : teams) {
+            for (Person member : team.getMembers()) {
+                updatedPersons.put(member, joinTeam(updatedPersons.getOrDefault(member, member), team));
+            }
+        }
+        Map<String, Person> updatedPersonsByName = new HashMap<>();
+        for (Person updatedPerson : updatedPersons.values()) {
+            updatedPersonsByName.put(updatedPerson.getName().fullName.toLowerCase(Locale.ROOT), updatedPerson);
+        }
+
+        List<Person> persons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.add(updatedPersonsByName.getOrDefault(person.getName().fullName.toLowerCase(Locale.ROOT), person));
+        }
+        List<Team> allTeams = new ArrayList<>();
+        for (Team team : addressBook.getTeamList()) {
+            allTeams.add(withUpdatedMembers(team, updatedPersonsByName));
+        }
+        for (Team team : teams) {
+            allTeams.add(withUpdatedMembers(team, updatedPersonsByName));
+        }
+
+        addressBook.setPersons(persons);
+        addressBook.setTeams(allTeams);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredTeamList(PREDICATE_SHOW_ALL_TEAMS);
+    }
+
+    /**
+     * Returns {@code person} as a member of {@code team}: the team is added to the person's teams and its
+     * hackathon moves from the person's interested hackathons to their participating hackathons.
+     */
+    private static Person joinTeam(Person person, Team team) {
         // Update person's teams list
         Set<Team> updatedTeams = new HashSet<>(person.getTeams());
-        updatedTeams.add(updatedTeam);
+        updatedTeams.add(team);
 
         // Update person's interestedHackathons - remove the team's hackathon if present
         Set<HackathonName> updatedInterestedHackathons = new HashSet<>(person.getInterestedHackathons());
@@ -255,7 +375,7 @@ public class ModelManager implements Model {
             updatedParticipatingHackathons.add(team.getHackathonName());
         }
 
-        Person updatedPerson = new Person(
+        return new Person(
                 person.getName(),
                 person.getEmail(),
                 person.getTelegram(),
@@ -265,11 +385,26 @@ public class ModelManager implements Model {
                 updatedInterestedHackathons,
                 updatedParticipatingHackathons
         );
+    }
 
-        // Update the person in the model
-        setPerson(person, updatedPerson);
-
-        return updatedTeam;
+    /**
+     * Returns {@code team} with each member replaced by the person of the same name in {@code updatedPersonsByName},
+     * or {@code team} itself if none of its members were updated.
+     */
+    private static Team withUpdatedMembers(Team team, Map<String, Person> updatedPersonsByName) {
+        Set<Person> updatedMembers = new HashSet<>();
+        boolean isChanged = false;
+        for (Person member : team.getMembers()) {
+            Person updatedMember = updatedPersonsByName.get(member.getName().fullName.toLowerCase(Locale.ROOT));
+            isChanged |= updatedMember != null;
+            updatedMembers.add(updatedMember == null ? member : updatedMember);
+        }
+        if (!isChanged) {
+            return team;
+        }
+        return team.getHackathonName() == null
+                ? new Team(team.getTeamName(), updatedMembers)
+                : new Team(team.getTeamName(), team.getHackathonName(), updatedMembers);
     }
 
     /**
@@ -342,7 +477,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && filteredTeams.equals(otherModelManager.filteredTeams);
     }
 
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,27 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the aliases of command words set by the user, each mapped to the command word it stands for.
+     */
+    Map<String, String> getCommandAliases();
+
+    /**
+     * Returns true if the data file should be written without indentation, which makes it smaller and faster to
+     * write but harder to edit by hand.
+     */
+    boolean isDataFileCompact();
+
+    /**
+     * Returns true if the data file should be compressed with GZIP, which makes it several times smaller but
+     * unreadable by hand. Data files are read whether they are compressed or not.
+     */
+    boolean isDataFileCompressed();
+
+    /**
+     * Returns the way the address book should be kept on the hard disk. Unless it is kept in the data file, the data
+     * file is moved into the storage asked for the first time the app runs with it.
+     */
+    DataStorageType getDataStorageType();
+
 }
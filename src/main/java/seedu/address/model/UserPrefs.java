@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -15,6 +18,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "mate.json");
+    private Map<String, String> commandAliases = new LinkedHashMap<>();
+    private boolean isDataFileCompact = false;
+    private boolean isDataFileCompressed = false;
+    private DataStorageType dataStorageType = DataStorageType.FILE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setCommandAliases(newUserPrefs.getCommandAliases());
+        setDataFileCompact(newUserPrefs.isDataFileCompact());
+        setDataFileCompressed(newUserPrefs.isDataFileCompressed());
+        setDataStorageType(newUserPrefs.getDataStorageType());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +67,40 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public Map<String, String> getCommandAliases() {
+        return Collections.unmodifiableMap(commandAliases);
+    }
+
+    public void setCommandAliases(Map<String, String> commandAliases) {
+        requireNonNull(commandAliases);
+        this.commandAliases = new LinkedHashMap<>(commandAliases);
+    }
+
+    public boolean isDataFileCompact() {
+        return isDataFileCompact;
+    }
+
+    public void setDataFileCompact(boolean isDataFileCompact) {
+        this.isDataFileCompact = isDataFileCompact;
+    }
+
+    public boolean isDataFileCompressed() {
+        return isDataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean isDataFileCompressed) {
+        this.isDataFileCompressed = isDataFileCompressed;
+    }
+
+    public DataStorageType getDataStorageType() {
+        return dataStorageType;
+    }
+
+    public void setDataStorageType(DataStorageType dataStorageType) {
+        requireNonNull(dataStorageType);
+        this.dataStorageType = dataStorageType;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +114,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && commandAliases.equals(otherUserPrefs.commandAliases)
+                && isDataFileCompact == otherUserPrefs.isDataFileCompact
+                && isDataFileCompressed == otherUserPrefs.isDataFileCompressed
+                && dataStorageType == otherUserPrefs.dataStorageType;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, commandAliases, isDataFileCompact,
+                isDataFileCompressed, dataStorageType);
     }
 
     @Override
@@ -82,6 +132,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCommand aliases : " + commandAliases);
+        sb.append("\nCompact data file : " + isDataFileCompact);
+        sb.append("\nCompressed data file : " + isDataFileCompressed);
+        sb.append("\nData storage : " + dataStorageType);
         return sb.toString();
     }
 
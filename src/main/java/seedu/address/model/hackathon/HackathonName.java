@@ -3,6 +3,8 @@ package seedu.address.model.hackathon;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a hackathon's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidHackathonName(String)}
@@ -35,7 +37,7 @@ public class HackathonName {
      * Returns true if a given string is a valid hackathon name.
      */
     public static boolean isValidHackathonName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericPhrase(test);
     }
 
     @Override
@@ -0,0 +1,39 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tells whether each of a sequence of persons duplicates one before it, by identity or by contact fields, with the
+ * same rules as {@link UniquePersonList}.
+ * Each person is looked up in hash sets of the names, emails, telegram handles and github handles seen so far, so a
+ * sequence of n persons is checked in O(n) time rather than by comparing every pair.
+ */
+public class DuplicatePersonDetector {
+
+    private final Set<Name> names = new HashSet<>();
+    private final Set<Email> emails = new HashSet<>();
+    private final Set<Telegram> telegrams = new HashSet<>();
+    private final Set<GitHub> githubs = new HashSet<>();
+
+    /**
+     * Records {@code person} and returns true if it has the same identity as, or shares an email, telegram handle or
+     * github handle with, no person recorded before. A duplicate is not recorded.
+     */
+    public boolean add(Person person) {
+        requireNonNull(person);
+        if (names.contains(person.getName())
+                || emails.contains(person.getEmail())
+                || telegrams.contains(person.getTelegram())
+                || githubs.contains(person.getGitHub())) {
+            return false;
+        }
+        names.add(person.getName());
+        emails.add(person.getEmail());
+        telegrams.add(person.getTelegram());
+        githubs.add(person.getGitHub());
+        return true;
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -48,7 +50,41 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        return at >= 0
+                && ValidationUtil.isSeparatedWord(test, 0, at, SPECIAL_CHARACTERS)
+                && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} onwards is a domain name as described in
+     * {@link #MESSAGE_CONSTRAINTS}.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        int labelStart = start;
+        int labelEnd = test.indexOf('.', labelStart);
+        while (labelEnd >= 0) {
+            if (!ValidationUtil.isSeparatedWord(test, labelStart, labelEnd, "-")) {
+                return false;
+            }
+            labelStart = labelEnd + 1;
+            labelEnd = test.indexOf('.', labelStart);
+        }
+        return ValidationUtil.isSeparatedWord(test, labelStart, test.length(), "-")
+                && hasAdjacentAlphanumerics(test, labelStart);
+    }
+
+    /**
+     * Returns true if two alphanumeric characters are next to each other in {@code test} from {@code start} onwards,
+     * which makes the last domain label at least 2 characters long without counting hyphens.
+     */
+    private static boolean hasAdjacentAlphanumerics(String test, int start) {
+        for (int i = start + 1; i < test.length(); i++) {
+            if (ValidationUtil.isAlphanumeric(test.charAt(i - 1)) && ValidationUtil.isAlphanumeric(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
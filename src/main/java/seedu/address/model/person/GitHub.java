@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's GitHub username in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidGitHub(String)}
@@ -38,7 +40,7 @@ public class GitHub {
      * Returns true if a given string is a valid GitHub username.
      */
     public static boolean isValidGitHub(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isSeparatedWord(test, "-", 1, 39);
     }
 
     @Override
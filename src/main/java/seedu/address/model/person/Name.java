@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -37,7 +39,23 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        boolean hasSlash = false;
+        // Alphabetic characters are required at the start and right after the slash
+        boolean isAlphaRequired = true;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (ValidationUtil.isAlpha(c)) {
+                isAlphaRequired = false;
+            } else if (isAlphaRequired) {
+                return false;
+            } else if (c == '/' && !hasSlash) {
+                hasSlash = true;
+                isAlphaRequired = true;
+            } else if (c != ' ') {
+                return false;
+            }
+        }
+        return !isAlphaRequired;
     }
 
 
@@ -1,8 +1,9 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.ParallelFilterUtil.ExpensivePredicate;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -11,13 +12,17 @@ import seedu.address.commons.util.ToStringBuilder;
  * Supports partial matching across name, email, GitHub, Telegram, skills, and hackathons.
  * All keywords must match for the person to be included (AND logic).
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements ExpensivePredicate<Person> {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Person person) {
         if (keywords.isEmpty()) {
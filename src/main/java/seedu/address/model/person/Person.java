@@ -3,12 +3,15 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.skill.ExperienceLevel;
 import seedu.address.model.skill.Skill;
 import seedu.address.model.team.Team;
 
@@ -151,6 +154,31 @@ public class Person {
                 && participatingHackathons.equals(otherPerson.participatingHackathons);
     }
 
+    /**
+     * Returns true if both persons are equal and each of their skills has the same experience level in both.
+     * {@link #equals(Object)} compares skills by name only, so this is the check to use to tell whether a saved copy
+     * of a person is still up to date.
+     */
+    public boolean isSameState(Person otherPerson) {
+        if (otherPerson == this) {
+            return true;
+        }
+        if (!equals(otherPerson)) {
+            return false;
+        }
+
+        Map<String, ExperienceLevel> levels = new HashMap<>();
+        for (Skill skill : skills) {
+            levels.put(skill.skillName, skill.getExperienceLevel());
+        }
+        for (Skill skill : otherPerson.skills) {
+            if (levels.get(skill.skillName) != skill.getExperienceLevel()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(name, email, telegram, github, skills, teams,
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's Telegram handle in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTelegram(String)}
@@ -40,7 +42,7 @@ public class Telegram {
      * Returns true if a given string is a valid Telegram handle.
      */
     public static boolean isValidTelegram(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isSeparatedWord(test, "_", 5, 32);
     }
 
     @Override
@@ -29,6 +29,7 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -48,6 +49,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -81,6 +83,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -92,11 +95,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        modificationCount++;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
     }
 
     /**
@@ -110,6 +115,15 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times this list has been modified.
+     * The count only ever grows, so it can tell whether the list changed since it was last read.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -153,13 +167,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Uniqueness is checked by identity (name) and also that no two persons share email, telegram, or github.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                Person a = persons.get(i);
-                Person b = persons.get(j);
-                if (a.isSamePerson(b) || hasContactConflictBetween(a, b)) {
-                    return false;
-                }
+        DuplicatePersonDetector detector = new DuplicatePersonDetector();
+        for (Person person : persons) {
+            if (!detector.add(person)) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,107 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.team.Team;
+
+/**
+ * Holds per-value cardinalities of the indexed person fields (skills, hackathons and teams).
+ * Used by {@link PersonQuery#plan(IndexStatistics)} to estimate how many persons each clause will let through.
+ * Keys are stored in lower case since all indexed values are compared case-insensitively.
+ */
+public class IndexStatistics {
+
+    private final int personCount;
+    private final Map<String, int[]> skillLevelCounts = new HashMap<>();
+    private final Map<String, Integer> hackathonCounts = new HashMap<>();
+    private final Map<String, Integer> teamCounts = new HashMap<>();
+
+    /**
+     * Builds the statistics of {@code persons} in a single pass.
+     */
+    public IndexStatistics(List<Person> persons) {
+        requireNonNull(persons);
+        personCount = persons.size();
+        for (Person person : persons) {
+            for (Skill skill : person.getSkills()) {
+                skillLevelCounts.computeIfAbsent(skill.skillName.toLowerCase(),
+                        unused -> new int[ExperienceLevel.values().length])[skill.experienceLevel.ordinal()]++;
+            }
+
+            Set<String> hackathons = new HashSet<>();
+            for (HackathonName hackathon : person.getInterestedHackathons()) {
+                hackathons.add(hackathon.value.toLowerCase());
+            }
+            for (HackathonName hackathon : person.getParticipatingHackathons()) {
+                hackathons.add(hackathon.value.toLowerCase());
+            }
+            hackathons.forEach(hackathon -> hackathonCounts.merge(hackathon, 1, Integer::sum));
+
+            for (Team team : person.getTeams()) {
+                teamCounts.merge(team.getTeamName().fullTeamName.toLowerCase(), 1, Integer::sum);
+            }
+        }
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the number of persons that have the skill {@code skillName} at any level.
+     */
+    public int countWithSkill(String skillName) {
+        int[] levels = skillLevelCounts.get(skillName.toLowerCase());
+        if (levels == null) {
+            return 0;
+        }
+        int total = 0;
+        for (int count : levels) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of persons that have the skill {@code skillName} at exactly {@code level}.
+     */
+    public int countWithSkill(String skillName, ExperienceLevel level) {
+        int[] levels = skillLevelCounts.get(skillName.toLowerCase());
+        return levels == null ? 0 : levels[level.ordinal()];
+    }
+
+    /**
+     * Returns the number of persons interested in or participating in the hackathon {@code hackathonName}.
+     */
+    public int countInHackathon(String hackathonName) {
+        return hackathonCounts.getOrDefault(hackathonName.toLowerCase(), 0);
+    }
+
+    /**
+     * Returns the number of persons that are members of the team {@code teamName}.
+     */
+    public int countInTeam(String teamName) {
+        return teamCounts.getOrDefault(teamName.toLowerCase(), 0);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", personCount)
+                .add("distinctSkills", skillLevelCounts.size())
+                .add("distinctHackathons", hackathonCounts.size())
+                .add("distinctTeams", teamCounts.size())
+                .toString();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.ParallelFilterUtil.ExpensivePredicate;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies all of the given {@link QueryClause}s (AND logic).
+ * Clauses are evaluated in the order they were given; use {@link #plan(IndexStatistics)} to obtain an
+ * equivalent predicate that evaluates the cheapest and most selective clauses first.
+ */
+public class PersonQuery implements ExpensivePredicate<Person> {
+
+    private final List<QueryClause> clauses;
+
+    /**
+     * Creates a query out of {@code clauses}, which must not be empty.
+     */
+    public PersonQuery(List<QueryClause> clauses) {
+        requireNonNull(clauses);
+        assert !clauses.isEmpty();
+        this.clauses = new ArrayList<>(clauses);
+    }
+
+    public List<QueryClause> getClauses() {
+        return Collections.unmodifiableList(clauses);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (QueryClause clause : clauses) {
+            if (!clause.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a {@code QueryPlan} with the clauses of this query ordered by ascending rank, where the rank of a
+     * clause is its evaluation cost divided by the fraction of persons it is estimated to reject.
+     * Since evaluation stops at the first failing clause, later clauses only see the survivors of earlier ones.
+     */
+    public QueryPlan plan(IndexStatistics statistics) {
+        requireNonNull(statistics);
+        List<QueryPlan.Step> steps = new ArrayList<>();
+        for (QueryClause clause : clauses) {
+            steps.add(new QueryPlan.Step(clause, clause.estimateSelectivity(statistics)));
+        }
+        steps.sort(Comparator.comparingDouble(QueryPlan.Step::getRank));
+        return new QueryPlan(steps);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherQuery = (PersonQuery) other;
+        return clauses.equals(otherQuery.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+}
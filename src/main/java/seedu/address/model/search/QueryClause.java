@@ -0,0 +1,189 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.team.Team;
+
+/**
+ * Tests a single {@link QueryField} of a {@code Person} against one or more alternative values.
+ * A person matches the clause if any of the values match (OR), and the result is inverted if the clause is negated.
+ * <p>
+ * Name and email values are matched as case-insensitive substrings, keyword values behave like a single
+ * {@code find k/} keyword, while skill, hackathon and team values must match exactly (ignoring case).
+ * Skill values may carry an experience level in the form {@code skill:LEVEL}, in which case the level must match too.
+ */
+public class QueryClause implements Predicate<Person> {
+
+    public static final String LEVEL_SEPARATOR = ":";
+
+    private final QueryField field;
+    private final List<String> values;
+    private final boolean negated;
+
+    // Pre-processed forms of values, so that test() does no parsing per person
+    private final List<String> skillNames = new ArrayList<>();
+    private final List<ExperienceLevel> skillLevels = new ArrayList<>();
+    private final List<HackathonName> hackathonNames = new ArrayList<>();
+    private final List<NameContainsKeywordsPredicate> keywordPredicates = new ArrayList<>();
+
+    /**
+     * Every field must be present and not null. {@code values} must not be empty and must already be validated.
+     */
+    public QueryClause(QueryField field, List<String> values, boolean isNegated) {
+        requireAllNonNull(field, values);
+        assert !values.isEmpty();
+        this.field = field;
+        this.values = new ArrayList<>(values);
+        this.negated = isNegated;
+
+        for (String value : values) {
+            if (field == QueryField.SKILL) {
+                String[] parts = value.split(LEVEL_SEPARATOR, 2);
+                skillNames.add(parts[0].toLowerCase());
+                skillLevels.add(parts.length == 2 ? ExperienceLevel.fromString(parts[1]) : null);
+            } else if (field == QueryField.HACKATHON) {
+                hackathonNames.add(new HackathonName(value));
+            } else if (field == QueryField.KEYWORD) {
+                keywordPredicates.add(new NameContainsKeywordsPredicate(Collections.singletonList(value)));
+            }
+        }
+    }
+
+    public QueryField getField() {
+        return field;
+    }
+
+    public List<String> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    public boolean isNegated() {
+        return negated;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return matchesAnyValue(person) != negated;
+    }
+
+    private boolean matchesAnyValue(Person person) {
+        for (int i = 0; i < values.size(); i++) {
+            if (matchesValue(person, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesValue(Person person, int i) {
+        String value = values.get(i);
+        switch (field) {
+        case NAME:
+            return StringUtil.containsSubstringIgnoreCase(person.getName().fullName, value);
+        case EMAIL:
+            return StringUtil.containsSubstringIgnoreCase(person.getEmail().value, value);
+        case SKILL:
+            return hasSkill(person, skillNames.get(i), skillLevels.get(i));
+        case HACKATHON:
+            return person.getInterestedHackathons().contains(hackathonNames.get(i))
+                    || person.getParticipatingHackathons().contains(hackathonNames.get(i));
+        case TEAM:
+            return person.getTeams().stream()
+                    .map(Team::getTeamName)
+                    .anyMatch(teamName -> teamName.fullTeamName.equalsIgnoreCase(value));
+        case KEYWORD:
+            return keywordPredicates.get(i).test(person);
+        default:
+            throw new AssertionError("Unknown query field: " + field);
+        }
+    }
+
+    private static boolean hasSkill(Person person, String skillName, ExperienceLevel level) {
+        for (Skill skill : person.getSkills()) {
+            if (skill.skillName.equalsIgnoreCase(skillName)) {
+                return level == null || skill.experienceLevel == level;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the estimated fraction (between 0 and 1) of persons that pass this clause.
+     * Exact-match fields are estimated from the cardinalities in {@code statistics}; substring fields use a
+     * heuristic where longer search strings are assumed to be more selective.
+     */
+    public double estimateSelectivity(IndexStatistics statistics) {
+        int personCount = Math.max(1, statistics.getPersonCount());
+        double estimatedMatches = 0;
+        for (int i = 0; i < values.size(); i++) {
+            estimatedMatches += estimateMatches(statistics, i, personCount);
+        }
+
+        double selectivity = Math.min(1.0, estimatedMatches / personCount);
+        return negated ? 1.0 - selectivity : selectivity;
+    }
+
+    private double estimateMatches(IndexStatistics statistics, int i, int personCount) {
+        String value = values.get(i);
+        switch (field) {
+        case SKILL:
+            return skillLevels.get(i) == null
+                    ? statistics.countWithSkill(skillNames.get(i))
+                    : statistics.countWithSkill(skillNames.get(i), skillLevels.get(i));
+        case HACKATHON:
+            return statistics.countInHackathon(value);
+        case TEAM:
+            return statistics.countInTeam(value);
+        case NAME:
+        case EMAIL:
+        case KEYWORD:
+            return (double) personCount / value.trim().length();
+        default:
+            throw new AssertionError("Unknown query field: " + field);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryClause)) {
+            return false;
+        }
+
+        QueryClause otherClause = (QueryClause) other;
+        return field == otherClause.field
+                && values.equals(otherClause.values)
+                && negated == otherClause.negated;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, values, negated);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("values", values)
+                .add("negated", negated)
+                .toString();
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.model.search;
+
+/**
+ * Represents the person field that a {@link QueryClause} is scoped to.
+ * Each field carries a relative cost of evaluating it against a single person, which the query planner
+ * combines with the estimated selectivity of a clause to decide evaluation order.
+ */
+public enum QueryField {
+    NAME(1),
+    EMAIL(1),
+    SKILL(2),
+    HACKATHON(2),
+    TEAM(3),
+    KEYWORD(8);
+
+    private final int cost;
+
+    QueryField(int cost) {
+        this.cost = cost;
+    }
+
+    /**
+     * Returns the relative cost of testing a single person against a clause on this field.
+     */
+    public int getCost() {
+        return cost;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ParallelFilterUtil.ExpensivePredicate;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An ordered evaluation plan for a {@link PersonQuery}, produced by {@link PersonQuery#plan(IndexStatistics)}.
+ * A person is tested against each step in order, and evaluation stops at the first step the person fails.
+ */
+public class QueryPlan implements ExpensivePredicate<Person> {
+
+    private final List<Step> steps;
+
+    QueryPlan(List<Step> steps) {
+        this.steps = new ArrayList<>(steps);
+    }
+
+    /**
+     * Returns the clauses of this plan in evaluation order.
+     */
+    public List<QueryClause> getOrderedClauses() {
+        return steps.stream().map(Step::getClause).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Step step : steps) {
+            if (!step.clause.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryPlan)) {
+            return false;
+        }
+
+        QueryPlan otherPlan = (QueryPlan) other;
+        return getOrderedClauses().equals(otherPlan.getOrderedClauses());
+    }
+
+    @Override
+    public int hashCode() {
+        return getOrderedClauses().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("steps", steps).toString();
+    }
+
+    /**
+     * A clause of the plan together with its estimated selectivity.
+     */
+    static class Step {
+        private final QueryClause clause;
+        private final double selectivity;
+
+        Step(QueryClause clause, double selectivity) {
+            requireNonNull(clause);
+            this.clause = clause;
+            this.selectivity = selectivity;
+        }
+
+        QueryClause getClause() {
+            return clause;
+        }
+
+        /**
+         * Returns the cost paid per person rejected by this step; lower ranks are evaluated first.
+         * A step that is not expected to reject anyone is ranked last.
+         */
+        double getRank() {
+            double rejected = 1.0 - selectivity;
+            return rejected <= 0 ? Double.MAX_VALUE : clause.getField().getCost() / rejected;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s%s%s (selectivity %.3f)", clause.isNegated() ? "!" : "",
+                    clause.getField(), clause.getValues(), selectivity);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+
+/**
+ * Ranks persons by how well they match a list of search terms.
+ * Each term scores the weight of the best field it matches, where an exact name match outweighs a partial name
+ * match, which outweighs a handle, skill, hackathon and finally an email match.
+ * Skill matches also score the experience level of the skill, and every matched term adds a coverage bonus.
+ */
+public class RelevanceRanker {
+
+    public static final int WEIGHT_EXACT_NAME = 100;
+    public static final int WEIGHT_NAME = 60;
+    public static final int WEIGHT_HANDLE = 45;
+    public static final int WEIGHT_SKILL = 30;
+    public static final int WEIGHT_HACKATHON = 20;
+    public static final int WEIGHT_EMAIL = 10;
+    public static final int WEIGHT_LEVEL = 5;
+    public static final int WEIGHT_COVERAGE = 50;
+
+    private final List<String> terms;
+
+    /**
+     * Creates a ranker for the given search {@code terms}.
+     */
+    public RelevanceRanker(List<String> terms) {
+        requireNonNull(terms);
+        this.terms = terms.stream()
+                .map(term -> term.trim().toLowerCase(Locale.ROOT))
+                .filter(term -> !term.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the relevance score of {@code person}. Higher scores are more relevant.
+     */
+    public int score(Person person) {
+        requireNonNull(person);
+        String name = person.getName().fullName.toLowerCase(Locale.ROOT);
+        int score = 0;
+        for (String term : terms) {
+            int termScore = scoreTerm(person, name, term);
+            if (termScore > 0) {
+                score += termScore + WEIGHT_COVERAGE;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Returns the {@code k} most relevant of {@code candidates}, most relevant first.
+     * Persons with equal scores keep their order in {@code candidates}.
+     * Uses a heap of at most {@code k} persons, so ranking takes O(n log k) time for n candidates.
+     */
+    public List<Person> topK(List<Person> candidates, int k) {
+        requireNonNull(candidates);
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+
+        Comparator<Scored> byRelevance = Comparator.<Scored>comparingInt(scored -> scored.score)
+                .thenComparing(Comparator.<Scored>comparingInt(scored -> scored.position).reversed());
+        // The least relevant of the best k persons seen so far is at the head, ready to be evicted
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Math.min(k, Math.max(1, candidates.size())), byRelevance);
+        int position = 0;
+        for (Person candidate : candidates) {
+            Scored scored = new Scored(candidate, score(candidate), position++);
+            if (heap.size() < k) {
+                heap.add(scored);
+            } else if (byRelevance.compare(scored, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+
+        List<Scored> best = new ArrayList<>(heap);
+        best.sort(Collections.reverseOrder(byRelevance));
+        return best.stream().map(scored -> scored.person).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the score of {@code term} for {@code person}, whose name lower-cased is {@code name}.
+     */
+    private static int scoreTerm(Person person, String name, String term) {
+        if (name.equals(term) || containsWord(name, term)) {
+            return WEIGHT_EXACT_NAME;
+        }
+        if (name.contains(term)) {
+            return WEIGHT_NAME;
+        }
+        if (containsIgnoreCase(person.getTelegram().value, term)
+                || containsIgnoreCase(person.getGitHub().value, term)) {
+            return WEIGHT_HANDLE;
+        }
+
+        int bestSkillScore = 0;
+        for (Skill skill : person.getSkills()) {
+            if (skill.skillName.contains(term)) {
+                bestSkillScore = Math.max(bestSkillScore,
+                        WEIGHT_SKILL + WEIGHT_LEVEL * skill.getExperienceLevel().ordinal());
+            }
+        }
+        if (bestSkillScore > 0) {
+            return bestSkillScore;
+        }
+
+        if (hasHackathonContaining(person, term)) {
+            return WEIGHT_HACKATHON;
+        }
+        if (containsIgnoreCase(person.getEmail().value, term)) {
+            return WEIGHT_EMAIL;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns true if {@code word} occurs in {@code text} delimited by whitespace or the ends of {@code text}.
+     * Scans {@code text} in place instead of splitting it into words.
+     */
+    private static boolean containsWord(String text, String word) {
+        int from = text.indexOf(word);
+        while (from >= 0) {
+            int to = from + word.length();
+            boolean isWordStart = from == 0 || Character.isWhitespace(text.charAt(from - 1));
+            boolean isWordEnd = to == text.length() || Character.isWhitespace(text.charAt(to));
+            if (isWordStart && isWordEnd) {
+                return true;
+            }
+            from = text.indexOf(word, from + 1);
+        }
+        return false;
+    }
+
+    private static boolean hasHackathonContaining(Person person, String term) {
+        for (HackathonName hackathon : person.getInterestedHackathons()) {
+            if (containsIgnoreCase(hackathon.value, term)) {
+                return true;
+            }
+        }
+        for (HackathonName hackathon : person.getParticipatingHackathons()) {
+            if (containsIgnoreCase(hackathon.value, term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsIgnoreCase(String text, String lowerCaseTerm) {
+        return text.toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RelevanceRanker)) {
+            return false;
+        }
+
+        RelevanceRanker otherRanker = (RelevanceRanker) other;
+        return terms.equals(otherRanker.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("terms", terms).toString();
+    }
+
+    /**
+     * A candidate with its score and position in the candidate list.
+     */
+    private static class Scored {
+        private final Person person;
+        private final int score;
+        private final int position;
+
+        Scored(Person person, int score, int position) {
+            this.person = person;
+            this.score = score;
+            this.position = position;
+        }
+    }
+}
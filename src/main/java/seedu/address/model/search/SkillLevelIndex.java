@@ -0,0 +1,148 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+
+/**
+ * Indexes persons by skill, with the persons having each skill bucketed by experience level in level order.
+ * The index listens to the person list it is built from and stays up to date as persons are added, edited or
+ * deleted.
+ */
+public class SkillLevelIndex {
+
+    private static final int LEVEL_COUNT = ExperienceLevel.values().length;
+
+    /** Skill name to the persons with that skill, bucketed by experience level ordinal. */
+    private final Map<String, List<Set<Person>>> buckets = new HashMap<>();
+
+    /**
+     * Creates an index of {@code persons} that is kept up to date with changes to {@code persons}.
+     */
+    public SkillLevelIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener(this::handleChange);
+    }
+
+    /**
+     * Returns the number of persons satisfying {@code requirement}.
+     */
+    public int count(SkillRequirement requirement) {
+        requireNonNull(requirement);
+        List<Set<Person>> levels = buckets.get(requirement.getSkillName());
+        if (levels == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int level = requirement.getMinimumLevel().ordinal(); level < LEVEL_COUNT; level++) {
+            count += levels.get(level).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the persons satisfying all of {@code requirements}.
+     * The requirement matching the fewest persons is looked up first, and the remaining requirements only
+     * narrow that result down, most selective first.
+     */
+    public Set<Person> findAll(List<SkillRequirement> requirements) {
+        requireNonNull(requirements);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (requirements.isEmpty()) {
+            return matches;
+        }
+
+        List<SkillRequirement> ordered = new ArrayList<>(requirements);
+        ordered.sort(Comparator.comparingInt(this::count));
+
+        SkillRequirement smallest = ordered.get(0);
+        List<Set<Person>> levels = buckets.get(smallest.getSkillName());
+        if (levels == null) {
+            return matches;
+        }
+        for (int level = smallest.getMinimumLevel().ordinal(); level < LEVEL_COUNT; level++) {
+            matches.addAll(levels.get(level));
+        }
+
+        for (SkillRequirement requirement : ordered.subList(1, ordered.size())) {
+            if (matches.isEmpty()) {
+                break;
+            }
+            matches.removeIf(person -> !isIndexedWith(person, requirement));
+        }
+        return matches;
+    }
+
+    private boolean isIndexedWith(Person person, SkillRequirement requirement) {
+        List<Set<Person>> levels = buckets.get(requirement.getSkillName());
+        if (levels == null) {
+            return false;
+        }
+        for (int level = requirement.getMinimumLevel().ordinal(); level < LEVEL_COUNT; level++) {
+            if (levels.get(level).contains(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Person person) {
+        for (Skill skill : person.getSkills()) {
+            buckets.computeIfAbsent(skill.skillName, unused -> createLevels())
+                    .get(skill.getExperienceLevel().ordinal())
+                    .add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        for (Skill skill : person.getSkills()) {
+            List<Set<Person>> levels = buckets.get(skill.skillName);
+            if (levels == null) {
+                continue;
+            }
+            levels.get(skill.getExperienceLevel().ordinal()).remove(person);
+            if (levels.stream().allMatch(Set::isEmpty)) {
+                buckets.remove(skill.skillName);
+            }
+        }
+    }
+
+    private static List<Set<Person>> createLevels() {
+        List<Set<Person>> levels = new ArrayList<>(LEVEL_COUNT);
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            levels.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        return levels;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("skills", buckets.keySet()).toString();
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+
+/**
+ * Tests that a {@code Person} has a skill at or above a minimum experience level.
+ */
+public class SkillRequirement implements Predicate<Person> {
+
+    private final String skillName;
+    private final ExperienceLevel minimumLevel;
+
+    /**
+     * Creates a requirement for at least {@code minimumLevel} in the skill named {@code skillName}.
+     */
+    public SkillRequirement(String skillName, ExperienceLevel minimumLevel) {
+        requireAllNonNull(skillName, minimumLevel);
+        this.skillName = skillName;
+        this.minimumLevel = minimumLevel;
+    }
+
+    public String getSkillName() {
+        return skillName;
+    }
+
+    public ExperienceLevel getMinimumLevel() {
+        return minimumLevel;
+    }
+
+    /**
+     * Returns true if {@code level} is at or above the minimum level of this requirement.
+     */
+    public boolean isSatisfiedBy(ExperienceLevel level) {
+        return level.compareTo(minimumLevel) >= 0;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Skill skill : person.getSkills()) {
+            if (skill.skillName.equals(skillName) && isSatisfiedBy(skill.getExperienceLevel())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SkillRequirement)) {
+            return false;
+        }
+
+        SkillRequirement otherRequirement = (SkillRequirement) other;
+        return skillName.equals(otherRequirement.skillName)
+                && minimumLevel == otherRequirement.minimumLevel;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(skillName, minimumLevel);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("skillName", skillName)
+                .add("minimumLevel", minimumLevel)
+                .toString();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.skill;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Skill in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidSkillName(String)}
@@ -47,7 +49,23 @@ public class Skill {
         if (test == null) {
             throw new NullPointerException();
         }
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isSkillNameStart(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (!isSkillNameCharacter(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSkillNameStart(char c) {
+        return (c >= 'a' && c <= 'z') || ValidationUtil.isDigit(c) || c == '.';
+    }
+
+    private static boolean isSkillNameCharacter(char c) {
+        return isSkillNameStart(c) || c == '+' || c == '#' || c == '_' || c == '-';
     }
 
     /**
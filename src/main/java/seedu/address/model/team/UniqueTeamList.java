@@ -3,8 +3,10 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -27,6 +29,7 @@ public class UniqueTeamList implements Iterable<Team> {
     private final ObservableList<Team> internalList = FXCollections.observableArrayList();
     private final ObservableList<Team> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long modificationCount = 0;
 
     /**
      * Returns true if the list contains an equivalent team as the given argument.
@@ -46,6 +49,7 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
         internalList.add(toAdd);
+        modificationCount++;
     }
 
     /**
@@ -74,6 +78,7 @@ public class UniqueTeamList implements Iterable<Team> {
         }
 
         internalList.set(index, editedTeam);
+        modificationCount++;
     }
 
     /**
@@ -93,11 +98,13 @@ public class UniqueTeamList implements Iterable<Team> {
         if (!removed) {
             throw new TeamNotFoundException();
         }
+        modificationCount++;
     }
 
     public void setTeams(UniqueTeamList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        modificationCount++;
     }
 
     /**
@@ -111,6 +118,15 @@ public class UniqueTeamList implements Iterable<Team> {
         }
 
         internalList.setAll(teams);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of times this list has been modified.
+     * The count only ever grows, so it can tell whether the list changed since it was last read.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -151,13 +167,13 @@ public class UniqueTeamList implements Iterable<Team> {
 
     /**
      * Returns true if {@code teams} contains only unique teams.
+     * Team names are collected in a hash set, so the check takes linear time.
      */
     private boolean teamsAreUnique(List<Team> teams) {
-        for (int i = 0; i < teams.size() - 1; i++) {
-            for (int j = i + 1; j < teams.size(); j++) {
-                if (teams.get(i).isSameTeam(teams.get(j))) {
-                    return false;
-                }
+        Set<TeamName> teamNames = new HashSet<>();
+        for (Team team : teams) {
+            if (!teamNames.add(team.getTeamName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,344 @@
+package seedu.address.model.teambuilding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.team.Team;
+
+/**
+ * Holds the compatibility score of every pair of persons in a pool, from 0 (least compatible) to 1.
+ * Persons score higher the more their skills complement each other, with a bonus for having some skill in common,
+ * for each hackathon they share and for having been teammates before.
+ * As the scores are symmetric, only the upper triangle of the matrix is stored, packed row by row into a
+ * {@code float} array. The matrix is computed in square tiles spread over all available cores.
+ * When a person changes, only the scores in that person's row are marked stale, and they are recomputed when
+ * next read. A matrix is not thread-safe.
+ */
+public class CompatibilityMatrix {
+
+    public static final float WEIGHT_COMPLEMENT = 0.5f;
+    public static final float WEIGHT_COMMON_SKILL = 0.1f;
+    public static final float WEIGHT_SHARED_HACKATHON = 0.1f;
+    public static final int MAX_SHARED_HACKATHONS = 2;
+    public static final float WEIGHT_PAST_TEAMMATE = 0.2f;
+
+    /** Largest pool whose packed upper triangle still fits in a Java array. */
+    public static final int MAX_SIZE = 65_536;
+
+    /** Pools smaller than this are computed on the calling thread as the fork/join overhead is not worth paying. */
+    public static final int PARALLEL_THRESHOLD = 256;
+
+    /** Number of rows and columns in a tile computed by a single task. */
+    private static final int TILE_SIZE = 64;
+
+    private final List<Person> persons;
+    private final Map<String, Integer> indices = new HashMap<>();
+    private final Profile[] profiles;
+    private final float[] scores;
+    private final BitSet staleRows = new BitSet();
+
+    // Ids of the skills, hackathons and teams seen so far, used as bit positions in the profiles
+    private final Map<String, Integer> skillIds = new HashMap<>();
+    private final Map<HackathonName, Integer> hackathonIds = new HashMap<>();
+    private final Map<String, Integer> teamIds = new HashMap<>();
+
+    /**
+     * Computes the compatibility of every pair of persons in {@code pool}.
+     * @throws IllegalArgumentException if {@code pool} has more than {@link #MAX_SIZE} persons.
+     */
+    public CompatibilityMatrix(List<Person> pool) {
+        requireNonNull(pool);
+        if (pool.size() > MAX_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_SIZE + " persons can be compared at once");
+        }
+
+        int size = pool.size();
+        persons = new ArrayList<>(pool);
+        profiles = new Profile[size];
+        for (int i = 0; i < size; i++) {
+            indices.put(keyOf(persons.get(i)), i);
+            profiles[i] = createProfile(persons.get(i));
+        }
+        scores = new float[(int) ((long) size * (size - 1) / 2)];
+
+        int tileRows = (size + TILE_SIZE - 1) / TILE_SIZE;
+        TileTask task = new TileTask(0, tileRows);
+        if (size < PARALLEL_THRESHOLD) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    public int size() {
+        return persons.size();
+    }
+
+    public List<Person> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    /**
+     * Returns true if {@code person}, or another version of them, is in this matrix.
+     */
+    public boolean contains(Person person) {
+        requireNonNull(person);
+        return indices.containsKey(keyOf(person));
+    }
+
+    /**
+     * Returns the compatibility of {@code first} and {@code second}, or 0 if they are the same person.
+     * @throws IllegalArgumentException if either person is not in this matrix.
+     */
+    public float getScore(Person first, Person second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        return getScore(indexOf(first), indexOf(second));
+    }
+
+    /**
+     * Returns the at most {@code k} persons most compatible with {@code person}, most compatible first.
+     * Persons with equal scores keep their order in the pool.
+     * @throws IllegalArgumentException if {@code person} is not in this matrix.
+     */
+    public List<Person> getMostCompatible(Person person, int k) {
+        requireNonNull(person);
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+
+        int index = indexOf(person);
+        refreshRow(index);
+        List<Integer> others = new ArrayList<>();
+        for (int other = 0; other < size(); other++) {
+            if (other != index) {
+                others.add(other);
+            }
+        }
+        others.sort(Comparator.comparingDouble((Integer other) -> -getScore(index, other)));
+
+        List<Person> mostCompatible = new ArrayList<>();
+        for (Integer other : others.subList(0, Math.min(k, others.size()))) {
+            mostCompatible.add(persons.get(other));
+        }
+        return mostCompatible;
+    }
+
+    /**
+     * Replaces the version of {@code updatedPerson} in this matrix with {@code updatedPerson}.
+     * If the change affects their compatibility with others, their row is marked stale.
+     * @throws IllegalArgumentException if {@code updatedPerson} is not in this matrix.
+     */
+    void replacePerson(Person updatedPerson) {
+        int index = indexOf(updatedPerson);
+        persons.set(index, updatedPerson);
+        Profile updatedProfile = createProfile(updatedPerson);
+        if (!updatedProfile.equals(profiles[index])) {
+            profiles[index] = updatedProfile;
+            staleRows.set(index);
+        }
+    }
+
+    /**
+     * Returns the number of rows whose scores are waiting to be recomputed.
+     */
+    int getStaleRowCount() {
+        return staleRows.cardinality();
+    }
+
+    private float getScore(int first, int second) {
+        if (first == second) {
+            return 0;
+        }
+        refreshRow(first);
+        refreshRow(second);
+        return scores[cellOf(Math.min(first, second), Math.max(first, second))];
+    }
+
+    /**
+     * Recomputes the scores of {@code row} with every other person if the row is stale.
+     */
+    private void refreshRow(int row) {
+        if (!staleRows.get(row)) {
+            return;
+        }
+        for (int other = 0; other < size(); other++) {
+            if (other != row) {
+                scores[cellOf(Math.min(row, other), Math.max(row, other))] = score(profiles[row], profiles[other]);
+            }
+        }
+        staleRows.clear(row);
+    }
+
+    private int indexOf(Person person) {
+        Integer index = indices.get(keyOf(person));
+        if (index == null) {
+            throw new IllegalArgumentException(person.getName() + " is not in the compared pool");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position in {@link #scores} of the score of rows {@code row} and {@code column},
+     * where {@code row < column}.
+     */
+    private int cellOf(int row, int column) {
+        return (int) ((long) row * (2L * size() - row - 1) / 2 + (column - row - 1));
+    }
+
+    private static String keyOf(Person person) {
+        // Persons are identified by name regardless of case, as in Person#isSamePerson
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    private Profile createProfile(Person person) {
+        BitSet skills = new BitSet();
+        for (Skill skill : person.getSkills()) {
+            skills.set(skillIds.computeIfAbsent(skill.skillName, unused -> skillIds.size()));
+        }
+        BitSet hackathons = new BitSet();
+        for (HackathonName hackathon : person.getInterestedHackathons()) {
+            hackathons.set(hackathonIds.computeIfAbsent(hackathon, unused -> hackathonIds.size()));
+        }
+        for (HackathonName hackathon : person.getParticipatingHackathons()) {
+            hackathons.set(hackathonIds.computeIfAbsent(hackathon, unused -> hackathonIds.size()));
+        }
+        BitSet teams = new BitSet();
+        for (Team team : person.getTeams()) {
+            String teamKey = team.getTeamName().fullTeamName.toLowerCase(Locale.ROOT);
+            teams.set(teamIds.computeIfAbsent(teamKey, unused -> teamIds.size()));
+        }
+        return new Profile(skills.toLongArray(), hackathons.toLongArray(), teams.toLongArray());
+    }
+
+    private static float score(Profile first, Profile second) {
+        int commonSkills = countCommon(first.skills, second.skills);
+        int allSkills = first.skillCount + second.skillCount - commonSkills;
+        float score = 0;
+        if (allSkills > 0) {
+            score += WEIGHT_COMPLEMENT * (allSkills - commonSkills) / allSkills;
+        }
+        if (commonSkills > 0) {
+            score += WEIGHT_COMMON_SKILL;
+        }
+        score += WEIGHT_SHARED_HACKATHON
+                * Math.min(MAX_SHARED_HACKATHONS, countCommon(first.hackathons, second.hackathons));
+        if (countCommon(first.teams, second.teams) > 0) {
+            score += WEIGHT_PAST_TEAMMATE;
+        }
+        return score;
+    }
+
+    private static int countCommon(long[] first, long[] second) {
+        int count = 0;
+        for (int word = 0; word < Math.min(first.length, second.length); word++) {
+            count += Long.bitCount(first[word] & second[word]);
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", size())
+                .add("staleRows", staleRows.cardinality())
+                .toString();
+    }
+
+    /**
+     * The skills, hackathons and teams of a person as bitsets of their ids.
+     */
+    private static class Profile {
+        private final long[] skills;
+        private final long[] hackathons;
+        private final long[] teams;
+        private final int skillCount;
+
+        Profile(long[] skills, long[] hackathons, long[] teams) {
+            this.skills = skills;
+            this.hackathons = hackathons;
+            this.teams = teams;
+            this.skillCount = countCommon(skills, skills);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Profile)) {
+                return false;
+            }
+
+            Profile otherProfile = (Profile) other;
+            return Arrays.equals(skills, otherProfile.skills)
+                    && Arrays.equals(hackathons, otherProfile.hackathons)
+                    && Arrays.equals(teams, otherProfile.teams);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(skills), Arrays.hashCode(hackathons), Arrays.hashCode(teams));
+        }
+    }
+
+    /**
+     * Computes the tiles in the rows of tiles {@code [fromTileRow, toTileRow)} on or above the diagonal.
+     * Every tile covers a disjoint block of {@link #scores}, so tiles can be computed concurrently.
+     */
+    private class TileTask extends RecursiveAction {
+        private final int fromTileRow;
+        private final int toTileRow;
+
+        TileTask(int fromTileRow, int toTileRow) {
+            this.fromTileRow = fromTileRow;
+            this.toTileRow = toTileRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toTileRow - fromTileRow == 1) {
+                computeTileRow(fromTileRow);
+                return;
+            }
+            if (toTileRow - fromTileRow < 1) {
+                return;
+            }
+
+            int mid = (fromTileRow + toTileRow) >>> 1;
+            invokeAll(new TileTask(fromTileRow, mid), new TileTask(mid, toTileRow));
+        }
+
+        private void computeTileRow(int tileRow) {
+            int size = size();
+            int rowStart = tileRow * TILE_SIZE;
+            int rowEnd = Math.min(size, rowStart + TILE_SIZE);
+            for (int columnStart = rowStart; columnStart < size; columnStart += TILE_SIZE) {
+                int columnEnd = Math.min(size, columnStart + TILE_SIZE);
+                for (int row = rowStart; row < rowEnd; row++) {
+                    for (int column = Math.max(columnStart, row + 1); column < columnEnd; column++) {
+                        scores[cellOf(row, column)] = score(profiles[row], profiles[column]);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.teambuilding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+
+/**
+ * Provides the compatibility matrix of the persons interested or participating in each hackathon.
+ * Matrices are computed on first use and cached. The service listens to the person list it is created with:
+ * when a person in a cached pool is edited, only their row of the matrix is recomputed, and a matrix is only
+ * dropped when persons join or leave its pool.
+ */
+public class CompatibilityService {
+
+    private final ObservableList<Person> persons;
+    private final Map<HackathonName, CompatibilityMatrix> matrices = new HashMap<>();
+
+    /**
+     * Creates a service for the pools in {@code persons} that is kept up to date with changes to {@code persons}.
+     */
+    public CompatibilityService(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this::handleChange);
+    }
+
+    /**
+     * Returns the compatibility matrix of the persons interested or participating in {@code hackathonName}.
+     */
+    public CompatibilityMatrix getMatrix(HackathonName hackathonName) {
+        requireNonNull(hackathonName);
+        return matrices.computeIfAbsent(hackathonName,
+                unused -> new CompatibilityMatrix(HackathonPool.getAll(persons, hackathonName)));
+    }
+
+    /**
+     * Returns true if the matrix of {@code hackathonName} is cached.
+     */
+    boolean isCached(HackathonName hackathonName) {
+        return matrices.containsKey(hackathonName);
+    }
+
+    private void handleChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            // A replaced person is both removed and added; pair the two versions by name
+            Map<String, Person> removed = new HashMap<>();
+            for (Person person : change.getRemoved()) {
+                removed.put(keyOf(person), person);
+            }
+            for (Person added : change.getAddedSubList()) {
+                Person previous = removed.remove(keyOf(added));
+                if (previous != added) {
+                    handleReplacement(previous, added);
+                }
+            }
+            for (Person person : removed.values()) {
+                handleReplacement(person, null);
+            }
+        }
+    }
+
+    /**
+     * Updates the cached matrices after {@code previous} is replaced by {@code updated}.
+     * Either may be null if a person was added or deleted.
+     */
+    private void handleReplacement(Person previous, Person updated) {
+        Iterator<Map.Entry<HackathonName, CompatibilityMatrix>> entries = matrices.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<HackathonName, CompatibilityMatrix> entry = entries.next();
+            boolean wasInPool = previous != null && HackathonPool.isInPool(previous, entry.getKey());
+            boolean isInPool = updated != null && HackathonPool.isInPool(updated, entry.getKey());
+            if (wasInPool && isInPool) {
+                entry.getValue().replacePerson(updated);
+            } else if (wasInPool || isInPool) {
+                entries.remove();
+            }
+        }
+    }
+
+    private static String keyOf(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("cachedHackathons", matrices.keySet()).toString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.teambuilding;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Selects the persons taking part in a hackathon and those that can still be placed in a team for it.
+ */
+public class HackathonPool {
+
+    /**
+     * Returns the persons in {@code persons} who are interested or participating in {@code hackathonName},
+     * in their original order.
+     */
+    public static List<Person> getAll(List<Person> persons, HackathonName hackathonName) {
+        requireAllNonNull(persons, hackathonName);
+        return persons.stream()
+                .filter(person -> isInPool(person, hackathonName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code person} is interested or participating in {@code hackathonName}.
+     */
+    public static boolean isInPool(Person person, HackathonName hackathonName) {
+        requireAllNonNull(person, hackathonName);
+        return person.getInterestedHackathons().contains(hackathonName)
+                || person.getParticipatingHackathons().contains(hackathonName);
+    }
+
+    /**
+     * Returns the persons in {@code persons} who are interested in {@code hackathonName} and are not yet in a team
+     * for it, in their original order.
+     */
+    public static List<Person> getUnassignedInterested(List<Person> persons, HackathonName hackathonName) {
+        requireAllNonNull(persons, hackathonName);
+        return persons.stream()
+                .filter(person -> person.getInterestedHackathons().contains(hackathonName))
+                .filter(person -> !isAssigned(person, hackathonName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code person} is already in a team for {@code hackathonName}.
+     * A person may only be in one team per hackathon.
+     */
+    public static boolean isAssigned(Person person, HackathonName hackathonName) {
+        requireAllNonNull(person, hackathonName);
+        if (person.getParticipatingHackathons().contains(hackathonName)) {
+            return true;
+        }
+        for (Team team : person.getTeams()) {
+            if (hackathonName.equals(team.getHackathonName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
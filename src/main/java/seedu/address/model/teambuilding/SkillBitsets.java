@@ -0,0 +1,89 @@
+package seedu.address.model.teambuilding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.Skill;
+
+/**
+ * Encodes which of a fixed list of skill requirements a person satisfies as the bits of a {@code long}.
+ * Bit {@code i} is set if the person satisfies the {@code i}-th requirement.
+ */
+public class SkillBitsets {
+
+    public static final int MAX_REQUIREMENTS = Long.SIZE;
+
+    public static final String MESSAGE_TOO_MANY_SKILLS = "At most " + MAX_REQUIREMENTS + " skills can be required.";
+
+    private final List<SkillRequirement> requirements;
+
+    /**
+     * Creates an encoding for {@code requirements}.
+     * @throws IllegalArgumentException if there are more than {@link #MAX_REQUIREMENTS} requirements.
+     */
+    public SkillBitsets(List<SkillRequirement> requirements) {
+        requireNonNull(requirements);
+        if (requirements.size() > MAX_REQUIREMENTS) {
+            throw new IllegalArgumentException(MESSAGE_TOO_MANY_SKILLS);
+        }
+        this.requirements = new ArrayList<>(requirements);
+    }
+
+    public List<SkillRequirement> getRequirements() {
+        return Collections.unmodifiableList(requirements);
+    }
+
+    /**
+     * Returns the mask with a bit set for every requirement.
+     */
+    public long getFullMask() {
+        return requirements.size() == MAX_REQUIREMENTS ? -1L : (1L << requirements.size()) - 1;
+    }
+
+    /**
+     * Returns the requirements that {@code person} satisfies as a bitset.
+     */
+    public long maskOf(Person person) {
+        long mask = 0;
+        for (int i = 0; i < requirements.size(); i++) {
+            if (requirements.get(i).test(person)) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the total experience of {@code person} in the required skills.
+     * Each skill counts one more than its level ordinal, so a beginner still scores.
+     */
+    public int experienceOf(Person person) {
+        int experience = 0;
+        for (SkillRequirement requirement : requirements) {
+            for (Skill skill : person.getSkills()) {
+                if (skill.skillName.equals(requirement.getSkillName())) {
+                    experience += skill.getExperienceLevel().ordinal() + 1;
+                }
+            }
+        }
+        return experience;
+    }
+
+    /**
+     * Returns the requirements whose bits are set in {@code mask}.
+     */
+    public List<SkillRequirement> requirementsIn(long mask) {
+        List<SkillRequirement> selected = new ArrayList<>();
+        for (int i = 0; i < requirements.size(); i++) {
+            if ((mask & (1L << i)) != 0) {
+                selected.add(requirements.get(i));
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.teambuilding;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The result of partitioning a pool of persons into teams of equal size.
+ */
+public class TeamPartition {
+
+    private final List<List<Person>> teams;
+    private final List<Person> unassigned;
+    private final boolean isComplete;
+
+    /**
+     * Creates a partition into {@code teams}, leaving {@code unassigned} out of every team.
+     * {@code isComplete} is false if the search was stopped by its time budget.
+     */
+    public TeamPartition(List<List<Person>> teams, List<Person> unassigned, boolean isComplete) {
+        requireAllNonNull(teams, unassigned);
+        List<List<Person>> teamsCopy = new ArrayList<>();
+        for (List<Person> team : teams) {
+            teamsCopy.add(Collections.unmodifiableList(new ArrayList<>(team)));
+        }
+        this.teams = Collections.unmodifiableList(teamsCopy);
+        this.unassigned = Collections.unmodifiableList(new ArrayList<>(unassigned));
+        this.isComplete = isComplete;
+    }
+
+    public List<List<Person>> getTeams() {
+        return teams;
+    }
+
+    public List<Person> getUnassigned() {
+        return unassigned;
+    }
+
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("teams", teams.size())
+                .add("unassigned", unassigned.size())
+                .add("isComplete", isComplete)
+                .toString();
+    }
+}
@@ -0,0 +1,347 @@
+package seedu.address.model.teambuilding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+
+/**
+ * Partitions a pool of persons into as many full teams of a given size as possible,
+ * balancing the teams on skill coverage and total experience.
+ * Teams are found by swap-based local search from random starting partitions. Every worker thread runs its own
+ * sequence of restarts until it has run {@link #MAX_RESTARTS_PER_WORKER} of them or the time budget runs out,
+ * and the best partition found by any worker is returned, so a partition is always available in time.
+ * With the same seed, a search that finishes within its budget always returns the same partition.
+ */
+public class TeamPartitioner {
+
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+    public static final long DEFAULT_SEED = 2103L;
+    public static final int MAX_RESTARTS_PER_WORKER = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(TeamPartitioner.class);
+
+    /** Weight of a team's squared shortfall in skill coverage relative to its squared deviation in experience. */
+    private static final double COVERAGE_WEIGHT = 4.0;
+
+    /** Number of consecutive moves per person that fail to improve a partition before a restart gives up. */
+    private static final int STALL_MOVES_PER_PERSON = 20;
+
+    /** Number of moves between checks of the time budget. */
+    private static final int MOVES_PER_CLOCK_CHECK = 1024;
+
+    private static final double EPSILON = 1e-9;
+
+    private final Duration timeBudget;
+    private final int workers;
+    private final long seed;
+
+    /**
+     * Creates a partitioner that searches with {@code workers} threads for at most {@code timeBudget},
+     * starting from partitions drawn with {@code seed}.
+     */
+    public TeamPartitioner(Duration timeBudget, int workers, long seed) {
+        requireNonNull(timeBudget);
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Number of workers must be positive");
+        }
+        this.timeBudget = timeBudget;
+        this.workers = workers;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a partitioner with the default time budget and seed that uses every available processor.
+     */
+    public TeamPartitioner() {
+        this(DEFAULT_TIME_BUDGET, Runtime.getRuntime().availableProcessors(), DEFAULT_SEED);
+    }
+
+    /**
+     * Partitions {@code pool} into {@code pool.size() / teamSize} teams of {@code teamSize} persons.
+     * The persons left over are returned as unassigned.
+     */
+    public TeamPartition partition(List<Person> pool, int teamSize) {
+        requireNonNull(pool);
+        if (teamSize <= 0) {
+            throw new IllegalArgumentException("Team size must be positive");
+        }
+        if (pool.size() < teamSize) {
+            return new TeamPartition(List.of(), pool, true);
+        }
+
+        Problem problem = new Problem(pool, teamSize);
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        List<Callable<Solution>> tasks = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            long workerSeed = seed + i;
+            tasks.add(() -> new Worker(problem, workerSeed, deadline).search());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "team-partitioner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Solution best = null;
+            boolean isComplete = true;
+            // Ties go to the lowest-numbered worker so that the result does not depend on scheduling
+            for (Future<Solution> future : executor.invokeAll(tasks)) {
+                Solution solution = future.get();
+                isComplete &= solution.isComplete;
+                if (best == null || solution.cost < best.cost - EPSILON) {
+                    best = solution;
+                }
+            }
+            logger.fine(String.format("Partitioned %d person(s) into %d team(s) with cost %.2f%s", pool.size(),
+                    problem.teamCount, best.cost, isComplete ? "" : " (time budget exceeded)"));
+            return problem.toPartition(best.slots, isComplete);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while partitioning teams", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Team partitioning failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The pool to partition, encoded for the search. Shared read-only by all workers.
+     */
+    private static class Problem {
+        private final List<Person> pool;
+        private final int teamSize;
+        private final int teamCount;
+        private final long[] masks;
+        private final int[] experiences;
+        private final int skillCount;
+        private final double targetExperience;
+
+        Problem(List<Person> pool, int teamSize) {
+            this.pool = pool;
+            this.teamSize = teamSize;
+            this.teamCount = pool.size() / teamSize;
+
+            Map<String, Integer> bits = indexMostCommonSkills(pool);
+            skillCount = bits.size();
+            masks = new long[pool.size()];
+            experiences = new int[pool.size()];
+            long totalExperience = 0;
+            for (int i = 0; i < pool.size(); i++) {
+                for (Skill skill : pool.get(i).getSkills()) {
+                    Integer bit = bits.get(skill.skillName);
+                    if (bit != null) {
+                        masks[i] |= 1L << bit;
+                    }
+                    experiences[i] += skill.getExperienceLevel().ordinal() + 1;
+                }
+                totalExperience += experiences[i];
+            }
+            targetExperience = (double) totalExperience * teamSize / pool.size();
+        }
+
+        /**
+         * Assigns a bit to each of the {@link Long#SIZE} skills held by the most persons in {@code pool}.
+         */
+        private static Map<String, Integer> indexMostCommonSkills(List<Person> pool) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (Person person : pool) {
+                for (Skill skill : person.getSkills()) {
+                    counts.merge(skill.skillName, 1, Integer::sum);
+                }
+            }
+            List<String> skillNames = new ArrayList<>(counts.keySet());
+            skillNames.sort(Comparator.comparingInt((String name) -> -counts.get(name))
+                    .thenComparing(Comparator.naturalOrder()));
+
+            Map<String, Integer> bits = new HashMap<>();
+            for (String skillName : skillNames.subList(0, Math.min(Long.SIZE, skillNames.size()))) {
+                bits.put(skillName, bits.size());
+            }
+            return bits;
+        }
+
+        /**
+         * Returns the cost of the team in slots {@code [team * teamSize, (team + 1) * teamSize)}.
+         * Lower costs are better; a team's cost grows with the skills it misses and its distance from the
+         * average team experience.
+         */
+        double costOf(int[] slots, int team) {
+            long covered = 0;
+            int experience = 0;
+            for (int slot = team * teamSize; slot < (team + 1) * teamSize; slot++) {
+                covered |= masks[slots[slot]];
+                experience += experiences[slots[slot]];
+            }
+            double deviation = experience - targetExperience;
+            int shortfall = skillCount - Long.bitCount(covered);
+            return deviation * deviation + COVERAGE_WEIGHT * shortfall * shortfall;
+        }
+
+        TeamPartition toPartition(int[] slots, boolean isComplete) {
+            List<List<Person>> teams = new ArrayList<>();
+            for (int team = 0; team < teamCount; team++) {
+                List<Person> members = new ArrayList<>();
+                for (int slot = team * teamSize; slot < (team + 1) * teamSize; slot++) {
+                    members.add(pool.get(slots[slot]));
+                }
+                teams.add(members);
+            }
+
+            int[] bench = Arrays.copyOfRange(slots, teamCount * teamSize, slots.length);
+            Arrays.sort(bench);
+            List<Person> unassigned = new ArrayList<>();
+            for (int index : bench) {
+                unassigned.add(pool.get(index));
+            }
+            return new TeamPartition(teams, unassigned, isComplete);
+        }
+    }
+
+    /**
+     * The best partition found by a worker. Slot {@code s} holds the index in the pool of the person placed there;
+     * the first {@code teamSize} slots form the first team and so on, and the slots after the last team are
+     * left unassigned.
+     */
+    private static class Solution {
+        private final double cost;
+        private final int[] slots;
+        private final boolean isComplete;
+
+        Solution(double cost, int[] slots, boolean isComplete) {
+            this.cost = cost;
+            this.slots = slots;
+            this.isComplete = isComplete;
+        }
+    }
+
+    /**
+     * Runs restarts of the local search on one thread.
+     */
+    private static class Worker {
+        private final Problem problem;
+        private final Random random;
+        private final long deadline;
+        private final int[] slots;
+        private final double[] teamCosts;
+        private boolean isTimedOut;
+        private long moves;
+
+        Worker(Problem problem, long seed, long deadline) {
+            this.problem = problem;
+            this.random = new Random(seed);
+            this.deadline = deadline;
+            this.slots = new int[problem.pool.size()];
+            this.teamCosts = new double[problem.teamCount];
+        }
+
+        Solution search() {
+            int[] bestSlots = null;
+            double bestCost = Double.MAX_VALUE;
+            for (int restart = 0; restart < MAX_RESTARTS_PER_WORKER && !isTimedOut; restart++) {
+                shuffle();
+                climb();
+                double cost = 0;
+                for (int team = 0; team < problem.teamCount; team++) {
+                    cost += problem.costOf(slots, team);
+                }
+                if (cost < bestCost - EPSILON) {
+                    bestCost = cost;
+                    bestSlots = slots.clone();
+                }
+            }
+            return new Solution(bestCost, bestSlots, !isTimedOut);
+        }
+
+        private void shuffle() {
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = i;
+            }
+            for (int i = slots.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swapped = slots[i];
+                slots[i] = slots[j];
+                slots[j] = swapped;
+            }
+            for (int team = 0; team < problem.teamCount; team++) {
+                teamCosts[team] = problem.costOf(slots, team);
+            }
+        }
+
+        /**
+         * Swaps random pairs of persons in different teams, keeping every swap that does not make the partition
+         * worse, until no improvement has been found for a while or the time budget runs out.
+         */
+        private void climb() {
+            int stallLimit = STALL_MOVES_PER_PERSON * slots.length;
+            int stalledMoves = 0;
+            while (stalledMoves < stallLimit && !isOutOfTime()) {
+                int first = random.nextInt(slots.length);
+                int second = random.nextInt(slots.length);
+                int firstTeam = first / problem.teamSize;
+                int secondTeam = second / problem.teamSize;
+                boolean isFirstBenched = firstTeam >= problem.teamCount;
+                boolean isSecondBenched = secondTeam >= problem.teamCount;
+                if (firstTeam == secondTeam || (isFirstBenched && isSecondBenched)) {
+                    stalledMoves++;
+                    continue;
+                }
+
+                swap(first, second);
+                double firstCost = isFirstBenched ? 0 : problem.costOf(slots, firstTeam);
+                double secondCost = isSecondBenched ? 0 : problem.costOf(slots, secondTeam);
+                double delta = firstCost + secondCost
+                        - (isFirstBenched ? 0 : teamCosts[firstTeam])
+                        - (isSecondBenched ? 0 : teamCosts[secondTeam]);
+                if (delta > EPSILON) {
+                    swap(first, second);
+                    stalledMoves++;
+                    continue;
+                }
+
+                if (!isFirstBenched) {
+                    teamCosts[firstTeam] = firstCost;
+                }
+                if (!isSecondBenched) {
+                    teamCosts[secondTeam] = secondCost;
+                }
+                // Sideways moves are kept to cross plateaus, but do not count as progress
+                stalledMoves = delta < -EPSILON ? 0 : stalledMoves + 1;
+            }
+        }
+
+        private void swap(int first, int second) {
+            int swapped = slots[first];
+            slots[first] = slots[second];
+            slots[second] = swapped;
+        }
+
+        private boolean isOutOfTime() {
+            if (isTimedOut) {
+                return true;
+            }
+            if (++moves % MOVES_PER_CLOCK_CHECK == 0 && System.nanoTime() > deadline) {
+                isTimedOut = true;
+            }
+            return isTimedOut;
+        }
+    }
+}
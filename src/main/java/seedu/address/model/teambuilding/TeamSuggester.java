@@ -0,0 +1,259 @@
+package seedu.address.model.teambuilding;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * Suggests a team that covers as many required skills as possible.
+ * A greedy cover is found first and then improved by a branch-and-bound search over the persons' skill bitsets
+ * until the search completes or the time budget runs out, so a suggestion is always available in time.
+ * Ties in coverage are broken by the team's total experience in the required skills.
+ * Only the most experienced person of each distinct skill profile is searched, which never lowers the coverage
+ * found but means the experience tie-break is only exact over those persons.
+ * A suggester keeps its search state in fields, so it must not be shared between threads.
+ */
+public class TeamSuggester {
+
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(500);
+
+    private static final Logger logger = LogsCenter.getLogger(TeamSuggester.class);
+
+    /** Weight of one covered skill relative to one point of experience; larger than any team's experience. */
+    private static final long COVERAGE_WEIGHT = 1L << 32;
+
+    /** Number of search nodes between checks of the time budget. */
+    private static final int NODES_PER_CLOCK_CHECK = 1024;
+
+    private final SkillBitsets bitsets;
+    private final long timeBudgetNanos;
+
+    // Search state, only valid during a call to suggest()
+    private long[] masks;
+    private int[] experiences;
+    private long[] suffixUnion;
+    private int[] suffixMaxBits;
+    private int[] suffixMaxExperience;
+    private boolean[] chosen;
+    private boolean[] bestChosen;
+    private long bestScore;
+    private long deadline;
+    private long nodes;
+    private boolean isTimedOut;
+
+    /**
+     * Creates a suggester for the skills encoded by {@code bitsets} that searches for at most {@code timeBudget}.
+     */
+    public TeamSuggester(SkillBitsets bitsets, Duration timeBudget) {
+        requireNonNull(bitsets);
+        requireNonNull(timeBudget);
+        this.bitsets = bitsets;
+        this.timeBudgetNanos = timeBudget.toNanos();
+    }
+
+    /**
+     * Returns a suggested team of at most {@code teamSize} persons from {@code pool}.
+     * If the required skills can be covered with fewer persons, the remaining places go to the most experienced
+     * of the other persons in the pool.
+     */
+    public TeamSuggestion suggest(List<Person> pool, int teamSize) {
+        requireNonNull(pool);
+        if (teamSize <= 0) {
+            throw new IllegalArgumentException("Team size must be positive");
+        }
+
+        List<Person> candidates = getDistinctCandidates(pool);
+        searchBestCover(candidates, teamSize);
+
+        List<Person> members = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (bestChosen[i]) {
+                members.add(candidates.get(i));
+            }
+        }
+        fillRemainingPlaces(pool, members, teamSize);
+
+        long coveredMask = 0;
+        for (Person member : members) {
+            coveredMask |= bitsets.maskOf(member);
+        }
+        boolean isOptimal = !isTimedOut;
+        logger.fine(String.format("Suggested %d member(s) after %d search node(s)%s", members.size(), nodes,
+                isOptimal ? "" : " (time budget exceeded)"));
+        return new TeamSuggestion(members, bitsets.requirementsIn(coveredMask),
+                bitsets.requirementsIn(bitsets.getFullMask() & ~coveredMask), isOptimal);
+    }
+
+    /**
+     * Returns the persons in {@code pool} that satisfy at least one requirement, keeping only the most experienced
+     * person for each distinct bitset, ordered by the number of requirements satisfied.
+     */
+    private List<Person> getDistinctCandidates(List<Person> pool) {
+        Map<Long, Person> bestPerMask = new HashMap<>();
+        Map<Long, Integer> firstSeen = new HashMap<>();
+        for (Person person : pool) {
+            long mask = bitsets.maskOf(person);
+            if (mask == 0) {
+                continue;
+            }
+            Person current = bestPerMask.get(mask);
+            if (current == null || bitsets.experienceOf(person) > bitsets.experienceOf(current)) {
+                bestPerMask.put(mask, person);
+            }
+            firstSeen.putIfAbsent(mask, firstSeen.size());
+        }
+
+        List<Long> distinctMasks = new ArrayList<>(bestPerMask.keySet());
+        distinctMasks.sort(Comparator.comparingInt((Long mask) -> -Long.bitCount(mask))
+                .thenComparingInt(mask -> -bitsets.experienceOf(bestPerMask.get(mask)))
+                .thenComparingInt(firstSeen::get));
+
+        List<Person> candidates = new ArrayList<>();
+        for (Long mask : distinctMasks) {
+            candidates.add(bestPerMask.get(mask));
+        }
+        return candidates;
+    }
+
+    private void searchBestCover(List<Person> candidates, int teamSize) {
+        int n = candidates.size();
+        masks = new long[n];
+        experiences = new int[n];
+        for (int i = 0; i < n; i++) {
+            masks[i] = bitsets.maskOf(candidates.get(i));
+            experiences[i] = bitsets.experienceOf(candidates.get(i));
+        }
+
+        suffixUnion = new long[n + 1];
+        suffixMaxBits = new int[n + 1];
+        suffixMaxExperience = new int[n + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            suffixUnion[i] = suffixUnion[i + 1] | masks[i];
+            suffixMaxBits[i] = Math.max(suffixMaxBits[i + 1], Long.bitCount(masks[i]));
+            suffixMaxExperience[i] = Math.max(suffixMaxExperience[i + 1], experiences[i]);
+        }
+
+        chosen = new boolean[n];
+        bestChosen = new boolean[n];
+        bestScore = -1;
+        nodes = 0;
+        isTimedOut = false;
+        deadline = System.nanoTime() + timeBudgetNanos;
+
+        greedyCover(teamSize);
+        search(0, 0, 0L, 0, teamSize);
+    }
+
+    /**
+     * Sets the incumbent to the cover built by repeatedly taking the candidate adding the most uncovered skills.
+     */
+    private void greedyCover(int teamSize) {
+        long covered = 0;
+        int experience = 0;
+        for (int size = 0; size < teamSize; size++) {
+            int best = -1;
+            int bestGain = 0;
+            for (int i = 0; i < masks.length; i++) {
+                int gain = Long.bitCount(masks[i] & ~covered);
+                if (!chosen[i] && gain > bestGain) {
+                    best = i;
+                    bestGain = gain;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            chosen[best] = true;
+            covered |= masks[best];
+            experience += experiences[best];
+        }
+        recordIfBetter(covered, experience);
+        Arrays.fill(chosen, false);
+    }
+
+    /**
+     * Tries every candidate from {@code start} on as the next member of the team chosen so far.
+     * Skipping a candidate is a step of the loop rather than a call, and every member taken covers at least one
+     * more skill, so the recursion is at most as deep as the team size or the number of required skills.
+     */
+    private void search(int start, int size, long covered, int experience, int teamSize) {
+        recordIfBetter(covered, experience);
+        if (size == teamSize) {
+            return;
+        }
+
+        int placesLeft = teamSize - size;
+        for (int index = start; index < masks.length; index++) {
+            if (isOutOfTime()) {
+                return;
+            }
+            // The bounds only shrink as the index grows, so no later candidate can beat the incumbent either
+            int coverageBound = Math.min(Long.bitCount(covered | suffixUnion[index]),
+                    Long.bitCount(covered) + placesLeft * suffixMaxBits[index]);
+            long scoreBound = coverageBound * COVERAGE_WEIGHT + experience
+                    + (long) placesLeft * suffixMaxExperience[index];
+            if (scoreBound <= bestScore) {
+                return;
+            }
+
+            if ((masks[index] & ~covered) != 0) {
+                chosen[index] = true;
+                search(index + 1, size + 1, covered | masks[index], experience + experiences[index], teamSize);
+                chosen[index] = false;
+            }
+        }
+    }
+
+    private void recordIfBetter(long covered, int experience) {
+        long score = Long.bitCount(covered) * COVERAGE_WEIGHT + experience;
+        if (score > bestScore) {
+            bestScore = score;
+            System.arraycopy(chosen, 0, bestChosen, 0, chosen.length);
+        }
+    }
+
+    private boolean isOutOfTime() {
+        if (isTimedOut) {
+            return true;
+        }
+        if (++nodes % NODES_PER_CLOCK_CHECK == 0 && System.nanoTime() > deadline) {
+            isTimedOut = true;
+        }
+        return isTimedOut;
+    }
+
+    /**
+     * Adds the most experienced persons of {@code pool} not yet in {@code members} until there are
+     * {@code teamSize} members or the pool runs out.
+     */
+    private void fillRemainingPlaces(List<Person> pool, List<Person> members, int teamSize) {
+        if (members.size() >= teamSize) {
+            return;
+        }
+
+        Set<Person> taken = Collections.newSetFromMap(new IdentityHashMap<>());
+        taken.addAll(members);
+        List<Person> others = new ArrayList<>();
+        for (Person person : pool) {
+            if (!taken.contains(person)) {
+                others.add(person);
+            }
+        }
+        others.sort(Comparator.comparingInt((Person person) -> -bitsets.experienceOf(person))
+                .thenComparingInt(person -> -person.getSkills().size()));
+        members.addAll(others.subList(0, Math.min(others.size(), teamSize - members.size())));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.teambuilding;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SkillRequirement;
+
+/**
+ * The members suggested for a team, together with the required skills they do and do not cover.
+ * Guarantees: immutable.
+ */
+public class TeamSuggestion {
+
+    private final List<Person> members;
+    private final List<SkillRequirement> coveredSkills;
+    private final List<SkillRequirement> missingSkills;
+    private final boolean isOptimal;
+
+    /**
+     * Creates a suggestion of {@code members}. {@code isOptimal} is false if the search ran out of time before it
+     * could prove that no better team exists.
+     */
+    public TeamSuggestion(List<Person> members, List<SkillRequirement> coveredSkills,
+            List<SkillRequirement> missingSkills, boolean isOptimal) {
+        requireAllNonNull(members, coveredSkills, missingSkills);
+        this.members = List.copyOf(members);
+        this.coveredSkills = List.copyOf(coveredSkills);
+        this.missingSkills = List.copyOf(missingSkills);
+        this.isOptimal = isOptimal;
+    }
+
+    public List<Person> getMembers() {
+        return Collections.unmodifiableList(members);
+    }
+
+    public List<SkillRequirement> getCoveredSkills() {
+        return coveredSkills;
+    }
+
+    public List<SkillRequirement> getMissingSkills() {
+        return missingSkills;
+    }
+
+    /**
+     * Returns true if no team of the same size covers more of the required skills, and no team covering as many
+     * has more experience among teams of persons with distinct skill profiles.
+     * A team with two persons of the same profile may still have more experience, as the search keeps only the
+     * most experienced person of each profile.
+     */
+    public boolean isOptimal() {
+        return isOptimal;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("members", members)
+                .add("coveredSkills", coveredSkills)
+                .add("missingSkills", missingSkills)
+                .add("isOptimal", isOptimal)
+                .toString();
+    }
+}
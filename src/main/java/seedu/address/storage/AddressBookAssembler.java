@@ -0,0 +1,263 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.DuplicatePersonDetector;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+
+/**
+ * Builds an {@code AddressBook} from adapted person and team records, one record at a time, so that records can be
+ * converted as soon as they are read.
+ * Teams refer to their members by name, so a team record is only converted once all the persons have been added;
+ * until then it is kept as it is.
+ * Persons can also be added in batches, whose records are converted and validated in parallel.
+ * Duplicates are found with hash sets as each record is added, and the address book is only built once every record
+ * is in, so assembling n records takes O(n) time.
+ * An assembler can also keep its persons and teams open to changes until the address book is built, so that the
+ * records of a journal can be replayed over those read from a data file.
+ */
+class AddressBookAssembler {
+
+    /** Batches smaller than this are converted sequentially as the fork/join overhead is not worth paying. */
+    static final int PARALLEL_THRESHOLD = 2_000;
+
+    /** Number of records a single fork/join task converts without splitting further. */
+    private static final int LEAF_SIZE = 250;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final DuplicatePersonDetector duplicatePersonDetector = new DuplicatePersonDetector();
+    private final Map<String, Person> personByName = new HashMap<>();
+    private final List<Team> teams = new ArrayList<>();
+    private final Set<TeamName> teamNames = new HashSet<>();
+    private final List<JsonAdaptedTeam> pendingTeams = new ArrayList<>();
+    private final boolean areChangesReplayed;
+    private boolean arePersonsComplete;
+    private boolean arePersonsReplaced;
+
+    /**
+     * Creates an assembler that converts teams as soon as all the persons have been added.
+     */
+    AddressBookAssembler() {
+        this(false);
+    }
+
+    /**
+     * Creates an assembler that, if {@code areChangesReplayed}, keeps all the teams until the address book is built,
+     * so that persons and teams can still be replaced once all of them have been added.
+     */
+    AddressBookAssembler(boolean areChangesReplayed) {
+        this.areChangesReplayed = areChangesReplayed;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it to the address book.
+     *
+     * @throws IllegalValueException if the person is invalid, or a duplicate by identity or contact fields.
+     */
+    void addPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        assert !arePersonsComplete && !arePersonsReplaced : "Persons cannot be added once complete or replaced";
+        add(jsonAdaptedPerson.toModelType());
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} and adds them to the address book in order.
+     * A batch of at least {@link #PARALLEL_THRESHOLD} records is converted across all available cores before the
+     * persons are added one at a time, so the error reported is still that of the first invalid or duplicate record,
+     * as if the records were added one at a time with {@link #addPerson}.
+     *
+     * @throws IllegalValueException if a person is invalid, or a duplicate by identity or contact fields.
+     */
+    void addPersons(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        if (jsonAdaptedPersons.size() < PARALLEL_THRESHOLD) {
+            for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+                addPerson(jsonAdaptedPerson);
+            }
+            return;
+        }
+
+        assert !arePersonsComplete && !arePersonsReplaced : "Persons cannot be added once complete or replaced";
+        ConvertTask task = new ConvertTask(jsonAdaptedPersons, 0, jsonAdaptedPersons.size());
+        ForkJoinPool.commonPool().invoke(task);
+        for (int i = 0; i < jsonAdaptedPersons.size(); i++) {
+            if (task.errors[i] != null) {
+                throw task.errors[i];
+            }
+            add(task.persons[i]);
+        }
+    }
+
+    private void add(Person person) throws IllegalValueException {
+        if (!duplicatePersonDetector.add(person)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        persons.add(person);
+        personByName.put(person.getName().fullName, person);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedTeam} and adds it to the address book, or keeps it until
+     * {@link #completePersons()} if persons may still be added.
+     *
+     * @throws IllegalValueException if the team is invalid or already in the address book.
+     */
+    void addTeam(JsonAdaptedTeam jsonAdaptedTeam) throws IllegalValueException {
+        if (!arePersonsComplete) {
+            pendingTeams.add(jsonAdaptedTeam);
+            return;
+        }
+        Team team = jsonAdaptedTeam.toModelType(personByName);
+        if (!teamNames.add(team.getTeamName())) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM);
+        }
+        teams.add(team);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} and puts them in place of the {@code removeCount} persons starting at index
+     * {@code at}. The persons are only replaced if all of them are valid.
+     * Only an assembler whose changes are replayed takes replacements. Duplicates among the persons are then only
+     * looked for once the address book is built.
+     *
+     * @throws IllegalValueException if the persons replaced are not all in the address book, or a person is invalid.
+     */
+    void replacePersons(int at, int removeCount, List<JsonAdaptedPerson> jsonAdaptedPersons)
+            throws IllegalValueException {
+        assert areChangesReplayed : "Persons can only be replaced if changes are replayed";
+        checkRange(persons, at, removeCount);
+        List<Person> added = new ArrayList<>(jsonAdaptedPersons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+            added.add(jsonAdaptedPerson.toModelType());
+        }
+        replace(persons, at, removeCount, added);
+        arePersonsReplaced = true;
+    }
+
+    /**
+     * Puts {@code jsonAdaptedTeams} in place of the {@code removeCount} teams starting at index {@code at}.
+     * Only an assembler whose changes are replayed takes replacements, and its teams are only converted once the
+     * address book is built.
+     *
+     * @throws IllegalValueException if the teams replaced are not all in the address book.
+     */
+    void replaceTeams(int at, int removeCount, List<JsonAdaptedTeam> jsonAdaptedTeams) throws IllegalValueException {
+        assert areChangesReplayed : "Teams can only be replaced if changes are replayed";
+        checkRange(pendingTeams, at, removeCount);
+        replace(pendingTeams, at, removeCount, jsonAdaptedTeams);
+    }
+
+    private static void checkRange(List<?> list, int at, int removeCount) throws IllegalValueException {
+        if (at < 0 || removeCount < 0 || at > list.size() - removeCount) {
+            throw new IllegalValueException(JsonAdaptedJournalRecord.MESSAGE_INVALID_RECORD);
+        }
+    }
+
+    private static <T> void replace(List<T> list, int at, int removeCount, List<? extends T> added) {
+        List<T> removed = list.subList(at, at + removeCount);
+        removed.clear();
+        removed.addAll(added);
+    }
+
+    /**
+     * Marks that all the persons have been added, and adds the teams kept until now.
+     * Does nothing if called again, or if changes are replayed, as persons may then still be replaced.
+     *
+     * @throws IllegalValueException if one of the teams kept is invalid or a duplicate.
+     */
+    void completePersons() throws IllegalValueException {
+        if (!areChangesReplayed) {
+            convertPendingTeams();
+        }
+    }
+
+    private void convertPendingTeams() throws IllegalValueException {
+        if (arePersonsComplete) {
+            return;
+        }
+        if (arePersonsReplaced) {
+            checkPersonsUnique();
+        }
+        arePersonsComplete = true;
+        for (JsonAdaptedTeam jsonAdaptedTeam : pendingTeams) {
+            addTeam(jsonAdaptedTeam);
+        }
+        pendingTeams.clear();
+    }
+
+    /**
+     * Returns the address book built, after adding any teams still kept.
+     *
+     * @throws IllegalValueException if one of the teams kept is invalid or a duplicate.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        convertPendingTeams();
+        return new AddressBook(persons, teams);
+    }
+
+    /**
+     * Checks the persons for duplicates again, as the checks made as they were added no longer hold once some of
+     * them have been replaced, and maps the names of the persons to the persons now in place.
+     */
+    private void checkPersonsUnique() throws IllegalValueException {
+        DuplicatePersonDetector detector = new DuplicatePersonDetector();
+        personByName.clear();
+        for (Person person : persons) {
+            if (!detector.add(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            personByName.put(person.getName().fullName, person);
+        }
+    }
+
+    /**
+     * Converts the records in {@code [from, to)} of a batch, recording the person or the error of each.
+     */
+    private static class ConvertTask extends RecursiveAction {
+        private final List<JsonAdaptedPerson> records;
+        private final Person[] persons;
+        private final IllegalValueException[] errors;
+        private final int from;
+        private final int to;
+
+        ConvertTask(List<JsonAdaptedPerson> records, int from, int to) {
+            this(records, new Person[records.size()], new IllegalValueException[records.size()], from, to);
+        }
+
+        private ConvertTask(List<JsonAdaptedPerson> records, Person[] persons, IllegalValueException[] errors,
+                int from, int to) {
+            this.records = records;
+            this.persons = persons;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        persons[i] = records.get(i).toModelType();
+                    } catch (IllegalValueException e) {
+                        errors[i] = e;
+                    }
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConvertTask(records, persons, errors, from, mid),
+                    new ConvertTask(records, persons, errors, mid, to));
+        }
+    }
+}
@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes any changes held back from the data file into it and waits for background work on it to finish.
+     * The data file can be saved again afterwards.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void closeAddressBook() throws IOException;
+
 }
@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * Snapshots load several times faster than JSON data files, but cannot be read or edited by hand, so JSON remains the
+ * format to import and export address books in. See {@link BinarySnapshotWriter} for the format.
+ * The app keeps its address book in a snapshot instead of its data file if the user prefs ask for it.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the snapshot kept next to the data file at {@code dataFilePath}, which is that of the data
+     * file with its extension replaced by {@value #FILE_EXTENSION}.
+     */
+    public static Path getSnapshotPath(Path dataFilePath) {
+        Path withoutExtension = FileUtil.removeExtension(dataFilePath);
+        return withoutExtension.resolveSibling(withoutExtension.getFileName() + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        logger.info("Snapshot " + filePath + " found.");
+        try {
+            return Optional.of(BinarySnapshotReader.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> BinarySnapshotWriter.write(addressBook, out));
+    }
+
+    /**
+     * Saves the address book read from {@code source} as the snapshot if there is no snapshot yet, such as the first
+     * time the app runs with this storage after keeping its data in a JSON file.
+     * The snapshot is written atomically, so if the address book cannot be saved the next run tries again.
+     *
+     * @return true if the address book was moved into the snapshot.
+     * @throws DataLoadingException if the address book could not be read from {@code source}.
+     * @throws IOException if the snapshot could not be written.
+     */
+    public boolean migrateFrom(AddressBookStorage source) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        if (Files.exists(filePath)) {
+            return false;
+        }
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        saveAddressBook(addressBook.get());
+        logger.info("Migrated " + source.getAddressBookFilePath() + " to snapshot " + filePath);
+        return true;
+    }
+
+    @Override
+    public void closeAddressBook() {
+        // Every save is written in full straight away
+    }
+}
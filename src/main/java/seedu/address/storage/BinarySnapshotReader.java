@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GitHub;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
+
+/**
+ * Reads an address book from a binary snapshot written by {@link BinarySnapshotWriter}.
+ * The file is mapped into memory rather than read into a buffer, and its checksum is checked before anything in it
+ * is read. The checksum only tells that the file is not damaged: every name, email and handle read is still
+ * validated by the model class it is read into, as it is when read from JSON. Each string of the dictionary is only
+ * decoded the first time it is used, and each skill, team name and hackathon name is created once and shared by every
+ * person that has it.
+ */
+class BinarySnapshotReader {
+
+    private static final ExperienceLevel[] EXPERIENCE_LEVELS = ExperienceLevel.values();
+
+    private final ByteBuffer body;
+    private int[] stringOffsets;
+    private String[] strings;
+    private Skill[] skills;
+    private Team[] teamsWithName;
+    private HackathonName[] hackathonNames;
+
+    private BinarySnapshotReader(ByteBuffer body) {
+        this.body = body;
+    }
+
+    /**
+     * Reads the address book in the snapshot at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a snapshot of a version that can be read.
+     * @throws IllegalValueException if a person or team in the snapshot is invalid or a duplicate.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // The mapping stays valid once the channel is closed
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return read(mapped, filePath);
+    }
+
+    private static AddressBook read(ByteBuffer snapshot, Path filePath) throws IOException, IllegalValueException {
+        if (snapshot.remaining() < BinarySnapshotWriter.HEADER_SIZE
+                || snapshot.getInt() != BinarySnapshotWriter.MAGIC) {
+            throw new IOException(filePath + " is not an address book snapshot");
+        }
+        int version = snapshot.getInt();
+        if (version != BinarySnapshotWriter.VERSION) {
+            throw new IOException(filePath + " is a snapshot of unsupported version " + version);
+        }
+        int bodyLength = snapshot.getInt();
+        int expectedChecksum = snapshot.getInt();
+        if (bodyLength != snapshot.remaining()) {
+            throw new IOException(filePath + " is a snapshot cut short or with extra bytes");
+        }
+
+        ByteBuffer body = snapshot.slice();
+        CRC32 checksum = new CRC32();
+        checksum.update(body.duplicate());
+        if ((int) checksum.getValue() != expectedChecksum) {
+            throw new IOException(filePath + " is a damaged snapshot, its checksum does not match");
+        }
+
+        try {
+            return new BinarySnapshotReader(body).readAddressBook();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException(filePath + " is a malformed snapshot", e);
+        } catch (IllegalArgumentException e) {
+            // A value constructor rejected a field, which only a snapshot written by a different version could hold
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private AddressBook readAddressBook() throws IllegalValueException {
+        readDictionary();
+
+        int personCount = readVarint();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson());
+        }
+
+        int teamCount = readVarint();
+        List<Team> teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            teams.add(readTeam(persons));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setTeams(teams);
+        } catch (DuplicateTeamException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Records where each string of the dictionary starts, leaving the strings to be decoded when first used.
+     */
+    private void readDictionary() {
+        int count = readVarint();
+        stringOffsets = new int[count];
+        strings = new String[count];
+        skills = new Skill[count << BinarySnapshotWriter.EXPERIENCE_LEVEL_BITS];
+        teamsWithName = new Team[count];
+        hackathonNames = new HackathonName[count];
+        for (int id = 0; id < count; id++) {
+            stringOffsets[id] = body.position();
+            int length = readVarint();
+            body.position(body.position() + length);
+        }
+    }
+
+    private Person readPerson() {
+        Name name = new Name(readString());
+        Email email = new Email(readString());
+        Telegram telegram = new Telegram(readString());
+        GitHub github = new GitHub(readString());
+
+        int skillCount = readVarint();
+        Set<Skill> personSkills = new HashSet<>();
+        for (int i = 0; i < skillCount; i++) {
+            personSkills.add(getSkill(readVarint()));
+        }
+
+        int teamCount = readVarint();
+        Set<Team> personTeams = new HashSet<>();
+        for (int i = 0; i < teamCount; i++) {
+            personTeams.add(getTeamWithName(readVarint()));
+        }
+
+        Set<HackathonName> interestedHackathons = readHackathonNames();
+        Set<HackathonName> participatingHackathons = readHackathonNames();
+        return new Person(name, email, telegram, github, personSkills, personTeams, interestedHackathons,
+                participatingHackathons);
+    }
+
+    private Set<HackathonName> readHackathonNames() {
+        int count = readVarint();
+        Set<HackathonName> names = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            names.add(getHackathonName(readVarint()));
+        }
+        return names;
+    }
+
+    private Team readTeam(List<Person> persons) {
+        TeamName teamName = getTeamWithName(readVarint()).getTeamName();
+        int hackathonId = readVarint();
+        int memberCount = readVarint();
+        Set<Person> members = new HashSet<>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(persons.get(readVarint()));
+        }
+        return hackathonId == 0
+                ? new Team(teamName, members)
+                : new Team(teamName, getHackathonName(hackathonId - 1), members);
+    }
+
+    /**
+     * Returns the skill encoded as {@code (name id << 2) | experience level}.
+     */
+    private Skill getSkill(int encoded) {
+        if (skills[encoded] == null) {
+            int id = encoded >>> BinarySnapshotWriter.EXPERIENCE_LEVEL_BITS;
+            int level = encoded & ((1 << BinarySnapshotWriter.EXPERIENCE_LEVEL_BITS) - 1);
+            skills[encoded] = new Skill(getString(id), EXPERIENCE_LEVELS[level]);
+        }
+        return skills[encoded];
+    }
+
+    /**
+     * Returns the team named by string {@code id} with no members, which is how persons refer to their teams.
+     */
+    private Team getTeamWithName(int id) {
+        if (teamsWithName[id] == null) {
+            teamsWithName[id] = new Team(new TeamName(getString(id)));
+        }
+        return teamsWithName[id];
+    }
+
+    private HackathonName getHackathonName(int id) {
+        if (hackathonNames[id] == null) {
+            hackathonNames[id] = new HackathonName(getString(id));
+        }
+        return hackathonNames[id];
+    }
+
+    private String readString() {
+        return getString(readVarint());
+    }
+
+    /**
+     * Returns string {@code id} of the dictionary, decoding it straight from the mapped file the first time.
+     */
+    private String getString(int id) {
+        String string = strings[id];
+        if (string == null) {
+            int position = body.position();
+            body.position(stringOffsets[id]);
+            byte[] bytes = new byte[readVarint()];
+            body.get(bytes);
+            body.position(position);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[id] = string;
+        }
+        return string;
+    }
+
+    private int readVarint() {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = body.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Varint is too long");
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.team.Team;
+
+/**
+ * Writes an address book as a binary snapshot, a compact format that {@link BinarySnapshotReader} loads without
+ * parsing any text.
+ * <p>
+ * A snapshot is a header followed by a body. The header holds {@link #MAGIC}, the format {@link #VERSION}, the length
+ * of the body and its CRC32 checksum, each as a 4-byte big-endian integer. The body holds, with every count and id
+ * written as an unsigned varint:
+ * <ul>
+ * <li>the string dictionary: the number of strings, then each string as its length in bytes and its UTF-8 bytes.
+ * Every string in the address book is written once and referred to by its index in the dictionary;</li>
+ * <li>the persons: their number, then for each person the ids of its name, email, Telegram and GitHub, its skills
+ * as a count followed by {@code (name id << 2) | experience level}, and its team names, interested hackathons and
+ * participating hackathons, each as a count followed by ids;</li>
+ * <li>the teams: their number, then for each team the id of its name, the id of its hackathon plus one or 0 if it has
+ * none, and its members as a count followed by the indices of the members among the persons.</li>
+ * </ul>
+ */
+class BinarySnapshotWriter {
+
+    /** The bytes "MATE" that every snapshot starts with. */
+    static final int MAGIC = 0x4d415445;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+    static final int EXPERIENCE_LEVEL_BITS = 2;
+
+    private final Map<String, Integer> idByString = new HashMap<>();
+    private final VarintOutputStream dictionary = new VarintOutputStream();
+    private final VarintOutputStream records = new VarintOutputStream();
+
+    private BinarySnapshotWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out} as a binary snapshot.
+     * {@code out} is flushed but left open.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        BinarySnapshotWriter writer = new BinarySnapshotWriter();
+        writer.writeRecords(addressBook);
+        writer.writeTo(out);
+    }
+
+    private void writeRecords(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = JsonSerializableAddressBook.getPersonsToSave(addressBook);
+        Map<String, Integer> indexByName = new HashMap<>();
+        records.writeVarint(persons.size());
+        for (Person person : persons) {
+            indexByName.put(person.getName().fullName, indexByName.size());
+            writePerson(person);
+        }
+
+        List<Team> teams = addressBook.getTeamList();
+        records.writeVarint(teams.size());
+        for (Team team : teams) {
+            writeString(team.getTeamName().fullTeamName);
+            HackathonName hackathonName = team.getHackathonName();
+            records.writeVarint(hackathonName == null ? 0 : idOf(hackathonName.value) + 1);
+            records.writeVarint(team.getSize());
+            for (Person member : team.getMembers()) {
+                records.writeVarint(indexByName.get(member.getName().fullName));
+            }
+        }
+    }
+
+    private void writePerson(Person person) {
+        writeString(person.getName().fullName);
+        writeString(person.getEmail().value);
+        writeString(person.getTelegram().value);
+        writeString(person.getGitHub().value);
+
+        records.writeVarint(person.getSkills().size());
+        for (Skill skill : person.getSkills()) {
+            records.writeVarint(idOf(skill.skillName) << EXPERIENCE_LEVEL_BITS | skill.experienceLevel.ordinal());
+        }
+
+        records.writeVarint(person.getTeams().size());
+        for (Team team : person.getTeams()) {
+            writeString(team.getTeamName().fullTeamName);
+        }
+        writeHackathonNames(person.getInterestedHackathons());
+        writeHackathonNames(person.getParticipatingHackathons());
+    }
+
+    private void writeHackathonNames(Set<HackathonName> hackathonNames) {
+        records.writeVarint(hackathonNames.size());
+        for (HackathonName hackathonName : hackathonNames) {
+            writeString(hackathonName.value);
+        }
+    }
+
+    private void writeString(String string) {
+        records.writeVarint(idOf(string));
+    }
+
+    /**
+     * Returns the id of {@code string} in the dictionary, adding it if it is not there yet.
+     */
+    private int idOf(String string) {
+        Integer id = idByString.get(string);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        dictionary.writeVarint(bytes.length);
+        dictionary.write(bytes, 0, bytes.length);
+        idByString.put(string, idByString.size());
+        return idByString.size() - 1;
+    }
+
+    private void writeTo(OutputStream out) throws IOException {
+        VarintOutputStream dictionaryCount = new VarintOutputStream();
+        dictionaryCount.writeVarint(idByString.size());
+
+        CRC32 checksum = new CRC32();
+        checksum.update(dictionaryCount.getBuffer(), 0, dictionaryCount.size());
+        checksum.update(dictionary.getBuffer(), 0, dictionary.size());
+        checksum.update(records.getBuffer(), 0, records.size());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(dictionaryCount.size() + dictionary.size() + records.size())
+                .putInt((int) checksum.getValue());
+        out.write(header.array());
+        out.write(dictionaryCount.getBuffer(), 0, dictionaryCount.size());
+        out.write(dictionary.getBuffer(), 0, dictionary.size());
+        out.write(records.getBuffer(), 0, records.size());
+        out.flush();
+    }
+
+    /**
+     * A growable byte buffer that writes unsigned varints, and whose content can be handed out without a copy.
+     */
+    private static class VarintOutputStream extends ByteArrayOutputStream {
+
+        /**
+         * Writes {@code value}, which must not be negative, seven bits at a time from the lowest, setting the top
+         * bit of every byte but the last.
+         */
+        void writeVarint(int value) {
+            assert value >= 0;
+            int remaining = value;
+            while ((remaining & ~0x7f) != 0) {
+                write((remaining & 0x7f) | 0x80);
+                remaining >>>= 7;
+            }
+            write(remaining);
+        }
+
+        byte[] getBuffer() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * The rolling generations of a data file: the file itself, which is the newest generation, and copies of its
+ * previous contents named {@code <file>.1} for the one before, {@code <file>.2} for the one before that, and so on.
+ * Keeping older generations means that a data file left unreadable, for example by a crash or an edit by hand, does
+ * not lose all the data.
+ */
+class FileGenerations {
+
+    private final Path file;
+    private final int count;
+
+    /**
+     * Creates the generations of {@code file}, keeping {@code count} of them including the file itself.
+     */
+    FileGenerations(Path file, int count) {
+        requireNonNull(file);
+        if (count < 1) {
+            throw new IllegalArgumentException("At least one generation must be kept");
+        }
+        this.file = file;
+        this.count = count;
+    }
+
+    /**
+     * Returns the path of the generation {@code age} saves old, which is the file itself for age 0.
+     */
+    Path get(int age) {
+        return age == 0 ? file : file.resolveSibling(file.getFileName() + "." + age);
+    }
+
+    /**
+     * Returns the generations that exist, newest first.
+     */
+    List<Path> getExisting() {
+        List<Path> existing = new ArrayList<>();
+        for (int age = 0; age < count; age++) {
+            if (Files.exists(get(age))) {
+                existing.add(get(age));
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Makes every generation one save older, dropping the oldest, so that the file itself can be replaced.
+     * The file is kept in place as well, so that there is always a newest generation to read.
+     */
+    void rotate() throws IOException {
+        if (count == 1 || !Files.exists(file)) {
+            return;
+        }
+        Files.deleteIfExists(get(count - 1));
+        for (int age = count - 2; age >= 1; age--) {
+            if (Files.exists(get(age))) {
+                FileUtil.moveAtomically(get(age), get(age + 1));
+            }
+        }
+        try {
+            Files.createLink(get(1), file);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Without hard links the file is copied instead, which takes longer but leaves it in place all the same
+            Files.copy(file, get(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
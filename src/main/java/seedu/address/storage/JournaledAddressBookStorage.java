@@ -0,0 +1,513 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk, together with a journal of the changes
+ * made since the file was last written in full.
+ * Saving appends only the persons and teams that changed to the journal, with a single fsync per save, instead of
+ * rewriting the whole file. Reading loads the file and replays the journal over it. Once the journal grows past the
+ * compaction threshold, a background thread folds it into a freshly written data file.
+ * The journal starts with a checksum of the data file it applies to, so a journal left over from a data file that
+ * has since been replaced or edited by hand is ignored.
+ * As with {@link JsonAddressBookStorage}, the data file is replaced atomically and its previous generations are kept,
+ * to be read instead if the data file cannot be loaded.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    /** Size in bytes past which the journal is folded into the data file. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final String JOURNAL_HEADER_PREFIX = "mate-journal ";
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final long compactionThreshold;
+    private final boolean isCompact;
+    private final boolean isCompressed;
+    private final Object lock = new Object();
+
+    // Guarded by lock. The address book held by the data file and journal together, or null if it is unknown.
+    private ReadOnlyAddressBook persisted;
+    // Guarded by lock. Length of the valid part of the journal, or -1 if the journal does not apply to the data file.
+    private long journalLength = -1;
+    // Guarded by lock. Length of the header of the journal, which the records follow.
+    private long journalHeaderLength;
+    private FileChannel journal;
+    private Thread compaction;
+    // Guarded by lock. Records appended while a compaction is running, or null if there is no compaction running.
+    private List<String> compactionTail;
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that compacts its journal at the default threshold.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, false, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that compacts its journal at the default threshold,
+     * and writes the data file without indentation if {@code isCompact} and compressed with GZIP if
+     * {@code isCompressed}.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, isCompact, isCompressed);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath} that compacts its journal once it is larger than
+     * {@code compactionThreshold} bytes, and writes the data file without indentation if {@code isCompact} and
+     * compressed with GZIP if {@code isCompressed}.
+     * Data files are read whether they are compressed or not.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold, boolean isCompact,
+            boolean isCompressed) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.compactionThreshold = compactionThreshold;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        List<Path> generations = new FileGenerations(filePath, JsonAddressBookStorage.DEFAULT_GENERATION_COUNT)
+                .getExisting();
+        DataLoadingException newestError = null;
+        for (Path generation : generations) {
+            try {
+                ReadOnlyAddressBook addressBook = readGeneration(generation, filePath);
+                if (newestError != null) {
+                    logger.warning("Loaded older generation " + generation + " as newer ones could not be loaded");
+                }
+                return Optional.of(addressBook);
+            } catch (DataLoadingException e) {
+                if (newestError == null) {
+                    newestError = e;
+                }
+            }
+        }
+
+        if (newestError != null) {
+            throw newestError;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the {@code generation} of the data file at {@code filePath} and replays the journal of the data file over
+     * it, if the journal applies to that generation.
+     * The data file is streamed into an {@link AddressBookAssembler}, which keeps its persons and teams open to the
+     * changes in the journal until the address book is built.
+     */
+    private ReadOnlyAddressBook readGeneration(Path generation, Path filePath) throws DataLoadingException {
+        AddressBookAssembler assembler = new AddressBookAssembler(true);
+        long checksum;
+        try {
+            // The journal holds the checksum of the data file as it is on disk, compressed or not
+            checksum = StreamingAddressBookReader.readWithChecksum(generation, assembler);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + generation + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + generation + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        long validJournalLength = replayJournal(getJournalPath(filePath), checksum, assembler);
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = assembler.toAddressBook();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + generation + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            synchronized (lock) {
+                closeJournal();
+                persisted = new AddressBookSnapshot(addressBook);
+                journalLength = validJournalLength;
+                journalHeaderLength = headerOf(checksum).length();
+            }
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            // Only the data file of this storage has a journal
+            StreamingAddressBookWriter.write(addressBook, filePath, isCompact, isCompressed);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = addressBook instanceof AddressBookSnapshot
+                ? addressBook : new AddressBookSnapshot(addressBook);
+        synchronized (lock) {
+            if (persisted == null || journalLength < 0) {
+                writeInFull(snapshot);
+                return;
+            }
+
+            List<String> records = new ArrayList<>();
+            addPersonRecords(persisted.getPersonList(), snapshot.getPersonList(), records);
+            addTeamRecords(persisted.getTeamList(), snapshot.getTeamList(), records);
+            if (!records.isEmpty()) {
+                appendToJournal(records);
+            }
+            persisted = snapshot;
+
+            if (journalLength > compactionThreshold && compaction == null) {
+                startCompaction();
+            }
+        }
+    }
+
+    @Override
+    public void closeAddressBook() throws IOException {
+        Thread runningCompaction;
+        synchronized (lock) {
+            runningCompaction = compaction;
+        }
+        if (runningCompaction != null) {
+            try {
+                runningCompaction.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the journal to be compacted", e);
+            }
+        }
+
+        synchronized (lock) {
+            if (persisted != null && journalLength != journalHeaderLength) {
+                writeInFull(persisted);
+            }
+            closeJournal();
+        }
+    }
+
+    /**
+     * Applies the valid records of the journal at {@code journalPath} to {@code assembler} if the journal applies to
+     * the data file with checksum {@code checksum}.
+     * A record that cannot be read, such as one cut short by a crash, or that holds an invalid person ends the valid
+     * part of the journal.
+     *
+     * @return the length of the valid part of the journal, or -1 if the journal does not apply.
+     */
+    private static long replayJournal(Path journalPath, long checksum, AddressBookAssembler assembler)
+            throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return -1;
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(journalPath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        String header = headerOf(checksum);
+        int lineEnd = indexOfNewline(content, 0);
+        if (lineEnd < 0 || !header.equals(new String(content, 0, lineEnd + 1, StandardCharsets.UTF_8))) {
+            logger.warning("Ignoring journal " + journalPath + " as it does not match the data file");
+            return -1;
+        }
+
+        int recordCount = 0;
+        int lineStart = lineEnd + 1;
+        while ((lineEnd = indexOfNewline(content, lineStart)) >= 0) {
+            String line = new String(content, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+            try {
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(assembler);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Ignoring journal " + journalPath + " from record " + (recordCount + 1)
+                        + " as it cannot be read: " + e.getMessage());
+                break;
+            }
+            recordCount++;
+            lineStart = lineEnd + 1;
+        }
+
+        logger.info("Replayed " + recordCount + " record(s) from journal " + journalPath);
+        return lineStart;
+    }
+
+    private static int indexOfNewline(byte[] content, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String headerOf(long checksum) {
+        return JOURNAL_HEADER_PREFIX + Long.toHexString(checksum) + "\n";
+    }
+
+    /**
+     * Adds records turning {@code before} into {@code after} to {@code records}.
+     */
+    private static void addPersonRecords(List<Person> before, List<Person> after, List<String> records)
+            throws IOException {
+        for (int[] change : diff(before, after, Person::isSameState)) {
+            List<JsonAdaptedPerson> added = new ArrayList<>();
+            for (Person person : after.subList(change[0], change[0] + change[2])) {
+                added.add(new JsonAdaptedPerson(person));
+            }
+            records.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.ofPersons(change[0], change[1], added)));
+        }
+    }
+
+    /**
+     * Adds records turning {@code before} into {@code after} to {@code records}.
+     */
+    private static void addTeamRecords(List<Team> before, List<Team> after, List<String> records)
+            throws IOException {
+        for (int[] change : diff(before, after, Team::equals)) {
+            List<JsonAdaptedTeam> added = new ArrayList<>();
+            for (Team team : after.subList(change[0], change[0] + change[2])) {
+                added.add(new JsonAdaptedTeam(team));
+            }
+            records.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.ofTeams(change[0], change[1], added)));
+        }
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}, in the order they are to be applied.
+     * Elements are unchanged if {@code isSame} holds for them, which must cover every field that is saved.
+     * Each change is an array of the index it starts at, the number of elements it removes and the number of
+     * elements of {@code after} it adds in their place.
+     * The common start and end of the lists are skipped. When the rest of the lists have the same length, as after
+     * edits, only the runs of elements that differ are replaced; otherwise the rest is replaced as a whole.
+     */
+    private static <T> List<int[]> diff(List<T> before, List<T> after, BiPredicate<T, T> isSame) {
+        int prefix = 0;
+        int maxCommon = Math.min(before.size(), after.size());
+        while (prefix < maxCommon && isSame.test(before.get(prefix), after.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+                && isSame.test(before.get(before.size() - 1 - suffix), after.get(after.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        List<int[]> changes = new ArrayList<>();
+        int beforeEnd = before.size() - suffix;
+        int afterEnd = after.size() - suffix;
+        if (beforeEnd - prefix != afterEnd - prefix) {
+            changes.add(new int[] {prefix, beforeEnd - prefix, afterEnd - prefix});
+            return changes;
+        }
+
+        int runStart = -1;
+        for (int i = prefix; i <= afterEnd; i++) {
+            boolean isChanged = i < afterEnd && !isSame.test(before.get(i), after.get(i));
+            if (isChanged && runStart < 0) {
+                runStart = i;
+            } else if (!isChanged && runStart >= 0) {
+                changes.add(new int[] {runStart, i - runStart, i - runStart});
+                runStart = -1;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Appends {@code records} to the journal with a single write and fsync.
+     */
+    private void appendToJournal(List<String> records) throws IOException {
+        StringBuilder batch = new StringBuilder();
+        for (String record : records) {
+            batch.append(record).append('\n');
+        }
+
+        try {
+            if (journal == null) {
+                journal = FileChannel.open(journalPath, StandardOpenOption.WRITE);
+                // Drop any record cut short by a crash before appending after it
+                journal.truncate(journalLength);
+                journal.position(journalLength);
+            }
+            writeFully(journal, batch.toString().getBytes(StandardCharsets.UTF_8));
+            journal.force(false);
+        } catch (IOException e) {
+            // The journal may now end with part of a record, so write the next save in full
+            journalLength = -1;
+            closeJournal();
+            throw e;
+        }
+        journalLength = journal.position();
+        if (compactionTail != null) {
+            compactionTail.addAll(records);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the data file in full and starts an empty journal.
+     */
+    private void writeInFull(ReadOnlyAddressBook addressBook) throws IOException {
+        // A compaction still running would otherwise replace this with an older address book
+        compactionTail = null;
+        Path temporary = FileUtil.getTemporaryPath(filePath);
+        long checksum = writeToTemporary(addressBook, temporary);
+        replaceFiles(temporary, checksum, new ArrayList<>());
+        persisted = addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code temporary} and syncs it to disk.
+     *
+     * @return the checksum of the content written.
+     */
+    private long writeToTemporary(ReadOnlyAddressBook addressBook, Path temporary) throws IOException {
+        // The checksum is worked out as the content is written, rather than over a copy of it in memory
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAndSync(temporary, out -> StreamingAddressBookWriter.write(addressBook,
+                new CheckedOutputStream(out, checksum), isCompact, isCompressed));
+        return checksum.getValue();
+    }
+
+    /**
+     * Replaces the data file with the {@code temporary} file, whose content has the checksum {@code checksum}, and
+     * the journal with one holding {@code records}.
+     * If this fails part way, the next save is written in full.
+     */
+    private void replaceFiles(Path temporary, long checksum, List<String> records) throws IOException {
+        closeJournal();
+        journalLength = -1;
+
+        new FileGenerations(filePath, JsonAddressBookStorage.DEFAULT_GENERATION_COUNT).rotate();
+        FileUtil.moveAtomically(temporary, filePath);
+        String header = headerOf(checksum);
+        StringBuilder newJournal = new StringBuilder(header);
+        for (String record : records) {
+            newJournal.append(record).append('\n');
+        }
+        byte[] journalContent = newJournal.toString().getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(journalPath, out -> out.write(journalContent));
+        journalLength = journalContent.length;
+        journalHeaderLength = header.length();
+    }
+
+    private void startCompaction() {
+        compactionTail = new ArrayList<>();
+        ReadOnlyAddressBook addressBook = persisted;
+        compaction = new Thread(() -> compact(addressBook), "address-book-compactor");
+        compaction.setDaemon(true);
+        compaction.start();
+    }
+
+    /**
+     * Writes {@code addressBook} to the data file in full, keeping in the journal only the records appended since
+     * the compaction started.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) {
+        Path temporary = filePath.resolveSibling(filePath.getFileName() + ".compaction.tmp");
+        try {
+            // Writing the address book is the slow part, so it is done without holding up saves
+            long checksum = writeToTemporary(addressBook, temporary);
+            synchronized (lock) {
+                if (compactionTail != null) {
+                    replaceFiles(temporary, checksum, compactionTail);
+                    logger.info("Compacted journal " + journalPath);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + journalPath + ": " + StringUtil.getDetails(e));
+        } finally {
+            synchronized (lock) {
+                compactionTail = null;
+                compaction = null;
+            }
+            deleteTemporary(temporary);
+        }
+    }
+
+    private void deleteTemporary(Path temporary) {
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            logger.warning("Failed to delete " + temporary + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close journal " + journalPath + ": " + StringUtil.getDetails(e));
+        }
+        journal = null;
+    }
+
+    private static void writeFully(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
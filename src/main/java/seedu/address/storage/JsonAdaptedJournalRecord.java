@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of a change to the person or team list of an address book, as kept in a journal.
+ * A record replaces {@code remove} elements of one of the lists, starting at index {@code at}, with the persons or
+ * teams it holds. Exactly one of {@code persons} and {@code teams} is present, which tells the list changed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record does not fit the address book it changes.";
+
+    private final int at;
+    private final int remove;
+    private final List<JsonAdaptedPerson> persons;
+    private final List<JsonAdaptedTeam> teams;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("at") int at, @JsonProperty("remove") int remove,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("teams") List<JsonAdaptedTeam> teams) {
+        this.at = at;
+        this.remove = remove;
+        this.persons = persons == null ? null : new ArrayList<>(persons);
+        this.teams = teams == null ? null : new ArrayList<>(teams);
+    }
+
+    /**
+     * Returns a record replacing {@code remove} persons from index {@code at} with {@code persons}.
+     */
+    public static JsonAdaptedJournalRecord ofPersons(int at, int remove, List<JsonAdaptedPerson> persons) {
+        return new JsonAdaptedJournalRecord(at, remove, persons, null);
+    }
+
+    /**
+     * Returns a record replacing {@code remove} teams from index {@code at} with {@code teams}.
+     */
+    public static JsonAdaptedJournalRecord ofTeams(int at, int remove, List<JsonAdaptedTeam> teams) {
+        return new JsonAdaptedJournalRecord(at, remove, null, teams);
+    }
+
+    /**
+     * Applies this record to the persons or teams of {@code assembler}, whichever it changes.
+     *
+     * @throws IllegalValueException if the record does not fit the list it changes, or a person in it is invalid.
+     */
+    public void applyTo(AddressBookAssembler assembler) throws IllegalValueException {
+        if ((persons == null) == (teams == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        if (persons != null) {
+            assembler.replacePersons(at, remove, persons);
+        } else {
+            assembler.replaceTeams(at, remove, teams);
+        }
+    }
+}
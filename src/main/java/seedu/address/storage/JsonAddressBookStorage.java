@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,20 +12,60 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Each save is written to a temporary file that is synced to disk before it replaces the data file, and the data
+ * file's previous contents are kept as older generations of it. Reading takes the newest generation that can be
+ * loaded, so an interrupted save or a damaged data file falls back to the last good one.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** Number of generations of the data file kept by default, including the data file itself. */
+    public static final int DEFAULT_GENERATION_COUNT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
+    private final int generationCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, written without indentation if {@code isCompact},
+     * that keeps the default number of generations.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, written without indentation if {@code isCompact} and
+     * compressed with GZIP if {@code isCompressed}, that keeps the default number of generations.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
+        this(filePath, isCompact, isCompressed, DEFAULT_GENERATION_COUNT);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, written without indentation if {@code isCompact} and
+     * compressed with GZIP if {@code isCompressed}, that keeps {@code generationCount} generations of it, including
+     * the data file itself.
+     * Data files are read whether they are compressed or not.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed, int generationCount) {
+        if (generationCount < 1) {
+            throw new IllegalArgumentException("At least one generation must be kept");
+        }
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isCompressed = isCompressed;
+        this.generationCount = generationCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +86,35 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        List<Path> generations = new FileGenerations(filePath, generationCount).getExisting();
+        DataLoadingException newestError = null;
+        for (Path generation : generations) {
+            try {
+                ReadOnlyAddressBook addressBook = read(generation);
+                if (newestError != null) {
+                    logger.warning("Loaded older generation " + generation + " as newer ones could not be loaded");
+                }
+                return Optional.of(addressBook);
+            } catch (DataLoadingException e) {
+                if (newestError == null) {
+                    newestError = e;
+                }
+            }
+        }
+
+        if (newestError != null) {
+            throw newestError;
         }
+        return Optional.empty();
+    }
 
+    private static ReadOnlyAddressBook read(Path filePath) throws DataLoadingException {
+        logger.info("JSON file " + filePath + " found.");
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return StreamingAddressBookReader.read(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from JSON file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +135,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        // The data file is only touched once the new content is safely on disk
+        Path temporary = FileUtil.getTemporaryPath(filePath);
+        FileUtil.writeAndSync(temporary, out ->
+                StreamingAddressBookWriter.write(addressBook, out, isCompact, isCompressed));
+        new FileGenerations(filePath, generationCount).rotate();
+        FileUtil.moveAtomically(temporary, filePath);
+    }
+
+    @Override
+    public void closeAddressBook() {
+        // Every save writes the whole file, so nothing is held back
     }
 
 }
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a segmented address book, listing in order the segment files that hold its persons
+ * and its teams.
+ */
+class JsonSegmentManifest {
+
+    public static final int VERSION = 1;
+
+    private final int version;
+    private final List<String> personSegments = new ArrayList<>();
+    private final List<String> teamSegments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("version") int version,
+            @JsonProperty("personSegments") List<String> personSegments,
+            @JsonProperty("teamSegments") List<String> teamSegments) {
+        this.version = version;
+        if (personSegments != null) {
+            this.personSegments.addAll(personSegments);
+        }
+        if (teamSegments != null) {
+            this.teamSegments.addAll(teamSegments);
+        }
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    List<String> getPersonSegments() {
+        return Collections.unmodifiableList(personSegments);
+    }
+
+    List<String> getTeamSegments() {
+        return Collections.unmodifiableList(teamSegments);
+    }
+}
@@ -1,9 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -48,27 +49,39 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        // Collect all persons from both the person list and team members to ensure no data loss
-        java.util.Set<String> knownPersonNames = new java.util.HashSet<>();
+        persons.addAll(getPersonsToSave(source).stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
 
-        // Add top-level persons first
-        for (Person person : source.getPersonList()) {
-            persons.add(new JsonAdaptedPerson(person));
+        // Serialize teams (members will be represented by names)
+        teams.addAll(source.getTeamList().stream().map(JsonAdaptedTeam::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the persons of {@code source} to save, which are those in its person list followed by team members
+     * missing from it, so that no data is lost.
+     */
+    static List<Person> getPersonsToSave(ReadOnlyAddressBook source) {
+        List<Person> personsToSave = new ArrayList<>(source.getPersonList());
+        Set<String> knownPersonNames = new HashSet<>();
+        for (Person person : personsToSave) {
             knownPersonNames.add(person.getName().fullName);
         }
 
-        // Add any persons who are only in teams but not in the top-level person list
         for (Team team : source.getTeamList()) {
             for (Person member : team.getMembers()) {
-                if (!knownPersonNames.contains(member.getName().fullName)) {
-                    persons.add(new JsonAdaptedPerson(member));
-                    knownPersonNames.add(member.getName().fullName);
+                if (knownPersonNames.add(member.getName().fullName)) {
+                    personsToSave.add(member);
                 }
             }
         }
+        return personsToSave;
+    }
 
-        // Serialize teams (members will be represented by names)
-        teams.addAll(source.getTeamList().stream().map(JsonAdaptedTeam::new).collect(Collectors.toList()));
+    List<JsonAdaptedPerson> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    List<JsonAdaptedTeam> getTeams() {
+        return Collections.unmodifiableList(teams);
     }
 
     /**
@@ -77,30 +90,13 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
-        // Load persons first
-        // Also build a map from name -> Person so teams can resolve member references
-        Map<String, Person> personByName = new HashMap<>();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-            personByName.put(person.getName().fullName, person);
-        }
-
-        // Load teams after persons (since teams reference persons)
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assembler.addPersons(persons);
+        assembler.completePersons();
         for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
-            Team team = jsonAdaptedTeam.toModelType(personByName);
-            if (addressBook.hasTeam(team)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
-            }
-            addressBook.addTeam(team);
+            assembler.addTeam(jsonAdaptedTeam);
         }
-
-        return addressBook;
+        return assembler.toAddressBook();
     }
 
 }
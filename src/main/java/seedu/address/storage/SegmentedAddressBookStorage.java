@@ -0,0 +1,449 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored in a directory on the hard disk as segments of persons and of teams,
+ * listed in order by a small manifest file.
+ * Each segment file is named by the hash of its contents and never changes once written, so a save only writes the
+ * segments that changed since the last save and then replaces the manifest atomically to point at them. The segments
+ * the new manifest no longer refers to are deleted afterwards, so a crash at any point leaves the previous or the new
+ * address book whole.
+ * Segments are not cut at fixed positions in the list, which adding or removing a person would shift for every later
+ * segment. Instead a segment ends after each person or team whose name hashes to a boundary, so where segments end
+ * only depends on the names around them. Adding, editing or removing one person writes at most one segment and the
+ * manifest, however large the address book is and wherever the person is in it.
+ * Every segment is in the JSON format of {@link JsonSerializableAddressBook}.
+ * The app keeps its address book in segments instead of its data file if the user prefs ask for it.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SEGMENTS_DIRECTORY_NAME = "segments";
+    public static final int DEFAULT_SEGMENT_SIZE = 256;
+    public static final String DIRECTORY_SUFFIX = "-segments";
+
+    /** Segments are cut after this many times the segment size even if no name hashes to a boundary. */
+    private static final int MAX_SEGMENT_SIZE_FACTOR = 4;
+
+    private static final String PERSON_SEGMENT_PREFIX = "persons-";
+    private static final String TEAM_SEGMENT_PREFIX = "teams-";
+    private static final String SEGMENT_SUFFIX = ".json";
+    private static final int HASH_BYTE_COUNT = 8;
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean isCompact;
+    private final Object lock = new Object();
+
+    // Guarded by lock. The person segments in the manifest, or null if they are unknown.
+    private List<Segment<Person>> persistedPersonSegments;
+    // Guarded by lock. The team segments in the manifest, or null if they are unknown.
+    private List<Segment<Team>> persistedTeamSegments;
+
+    public SegmentedAddressBookStorage(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE, false);
+    }
+
+    /**
+     * Creates a storage for the data in {@code directory}, with {@code segmentSize} persons or teams in each segment
+     * on average and at most {@value #MAX_SEGMENT_SIZE_FACTOR} times as many, whose files are written without
+     * indentation if {@code isCompact}.
+     */
+    public SegmentedAddressBookStorage(Path directory, int segmentSize, boolean isCompact) {
+        requireNonNull(directory);
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns the path of the directory of segments kept next to the data file at {@code dataFilePath}, which is that
+     * of the data file without its extension followed by {@value #DIRECTORY_SUFFIX}.
+     */
+    public static Path getDirectoryPath(Path dataFilePath) {
+        Path withoutExtension = FileUtil.removeExtension(dataFilePath);
+        return withoutExtension.resolveSibling(withoutExtension.getFileName() + DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+        Optional<JsonSegmentManifest> manifest =
+                JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME), JsonSegmentManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path segmentsDirectory = directory.resolve(SEGMENTS_DIRECTORY_NAME);
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        AddressBook addressBook;
+        try {
+            if (manifest.get().getVersion() != JsonSegmentManifest.VERSION) {
+                throw new IOException(directory + " holds segments of unsupported version "
+                        + manifest.get().getVersion());
+            }
+            for (String fileName : manifest.get().getPersonSegments()) {
+                readSegment(segmentsDirectory, fileName, assembler);
+            }
+            assembler.completePersons();
+            for (String fileName : manifest.get().getTeamSegments()) {
+                readSegment(segmentsDirectory, fileName, assembler);
+            }
+            addressBook = assembler.toAddressBook();
+        } catch (IOException e) {
+            logger.warning("Error reading from data directory " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (directory.equals(this.directory)) {
+            synchronized (lock) {
+                // The segments read may have been cut at another size, so the first save hashes each segment again
+                // but still writes only the ones not already on disk
+                persistedPersonSegments = null;
+                persistedTeamSegments = null;
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the segment {@code fileName} into {@code assembler}, after checking that its contents still have the
+     * hash in its name.
+     */
+    private static void readSegment(Path segmentsDirectory, String fileName, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        if (!isSegmentFileName(fileName)) {
+            throw new IOException(fileName + " is not a segment file");
+        }
+        byte[] content = Files.readAllBytes(segmentsDirectory.resolve(fileName));
+        if (!fileName.equals(getSegmentFileName(getPrefix(fileName), content))) {
+            throw new IOException(fileName + " is a damaged segment, its hash does not match");
+        }
+        StreamingAddressBookReader.read(new ByteArrayInputStream(content), assembler);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param directory location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+
+        List<Person> persons = JsonSerializableAddressBook.getPersonsToSave(addressBook);
+        List<Team> teams = addressBook.getTeamList();
+        if (!directory.equals(this.directory)) {
+            writeAll(directory, persons, teams, null, null);
+            return;
+        }
+        synchronized (lock) {
+            // Forget what was persisted until the manifest is written, so that a failed save is redone in full
+            List<Segment<Person>> previousPersonSegments = persistedPersonSegments;
+            List<Segment<Team>> previousTeamSegments = persistedTeamSegments;
+            persistedPersonSegments = null;
+            persistedTeamSegments = null;
+            SavedSegments saved = writeAll(directory, persons, teams, previousPersonSegments, previousTeamSegments);
+            persistedPersonSegments = saved.personSegments;
+            persistedTeamSegments = saved.teamSegments;
+        }
+    }
+
+    /**
+     * Writes the segments of {@code persons} and {@code teams} that differ from {@code previousPersonSegments} and
+     * {@code previousTeamSegments} and are not already in {@code directory}, then the manifest listing them all, then
+     * deletes the segment files the manifest no longer lists. Null previous segments are taken as unknown.
+     */
+    private SavedSegments writeAll(Path directory, List<Person> persons, List<Team> teams,
+            List<Segment<Person>> previousPersonSegments, List<Segment<Team>> previousTeamSegments)
+            throws IOException {
+        Path segmentsDirectory = directory.resolve(SEGMENTS_DIRECTORY_NAME);
+        SegmentWriter writer = new SegmentWriter(segmentsDirectory);
+        List<Segment<Person>> personSegments = writer.write(PERSON_SEGMENT_PREFIX, persons, Person::getName,
+                Person::isSameState, previousPersonSegments,
+                elements -> out -> StreamingAddressBookWriter.write(elements, new ArrayList<>(), out, isCompact));
+        List<Segment<Team>> teamSegments = writer.write(TEAM_SEGMENT_PREFIX, teams, Team::getTeamName,
+                Team::equals, previousTeamSegments,
+                elements -> out -> StreamingAddressBookWriter.write(new ArrayList<>(), elements, out, isCompact));
+
+        List<String> personFileNames = getFileNames(personSegments);
+        List<String> teamFileNames = getFileNames(teamSegments);
+        byte[] manifest = JsonUtil.toJsonString(
+                new JsonSegmentManifest(JsonSegmentManifest.VERSION, personFileNames, teamFileNames))
+                .getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(directory.resolve(MANIFEST_FILE_NAME), out -> out.write(manifest));
+
+        Set<String> referenced = new HashSet<>(personFileNames);
+        referenced.addAll(teamFileNames);
+        deleteUnreferencedSegments(segmentsDirectory, referenced);
+        logger.fine("Wrote " + writer.writtenCount + " of " + referenced.size() + " segment(s) in " + directory);
+        return new SavedSegments(personSegments, teamSegments);
+    }
+
+    private static void deleteUnreferencedSegments(Path segmentsDirectory, Set<String> referenced)
+            throws IOException {
+        if (!Files.isDirectory(segmentsDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(segmentsDirectory, "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isSegmentFileName(fileName) && !referenced.contains(fileName)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static <T> List<String> getFileNames(List<Segment<T>> segments) {
+        List<String> fileNames = new ArrayList<>(segments.size());
+        for (Segment<T> segment : segments) {
+            fileNames.add(segment.fileName);
+        }
+        return fileNames;
+    }
+
+    /**
+     * Returns the name of the segment file with {@code prefix} holding {@code content}.
+     */
+    private static String getSegmentFileName(String prefix, byte[] content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+        byte[] hash = digest.digest(content);
+        StringBuilder fileName = new StringBuilder(prefix);
+        for (int i = 0; i < HASH_BYTE_COUNT; i++) {
+            fileName.append(String.format("%02x", hash[i]));
+        }
+        return fileName.append(SEGMENT_SUFFIX).toString();
+    }
+
+    private static boolean isSegmentFileName(String fileName) {
+        return getPrefix(fileName) != null && fileName.endsWith(SEGMENT_SUFFIX)
+                && fileName.length() == getPrefix(fileName).length() + 2 * HASH_BYTE_COUNT + SEGMENT_SUFFIX.length();
+    }
+
+    private static String getPrefix(String fileName) {
+        if (fileName.startsWith(PERSON_SEGMENT_PREFIX)) {
+            return PERSON_SEGMENT_PREFIX;
+        }
+        if (fileName.startsWith(TEAM_SEGMENT_PREFIX)) {
+            return TEAM_SEGMENT_PREFIX;
+        }
+        return null;
+    }
+
+    /**
+     * Saves the address book read from {@code source} into the directory if it holds no manifest yet, such as the
+     * first time the app runs with this storage after keeping its data in a JSON file.
+     * The manifest is written last, so if the address book cannot be saved the next run tries again.
+     *
+     * @return true if the address book was moved into the directory.
+     * @throws DataLoadingException if the address book could not be read from {@code source}.
+     * @throws IOException if the address book could not be written to the directory.
+     */
+    public boolean migrateFrom(AddressBookStorage source) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        if (Files.exists(directory.resolve(MANIFEST_FILE_NAME))) {
+            return false;
+        }
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        saveAddressBook(addressBook.get());
+        logger.info("Migrated " + source.getAddressBookFilePath() + " to segments in " + directory);
+        return true;
+    }
+
+    @Override
+    public void closeAddressBook() {
+        // Every save writes the changed segments straight away
+    }
+
+    /**
+     * Persons or teams held in one segment file.
+     */
+    private static class Segment<T> {
+        private final List<T> elements;
+        private final String fileName;
+
+        Segment(List<T> elements, String fileName) {
+            this.elements = elements;
+            this.fileName = fileName;
+        }
+
+        /**
+         * Returns true if this segment holds {@code others}, where {@code isSame} tells whether two elements are
+         * saved the same.
+         * Unchanged persons and teams are the same immutable objects from save to save, so most are told apart
+         * without comparing their fields.
+         */
+        boolean holds(List<T> others, BiPredicate<T, T> isSame) {
+            if (elements.size() != others.size()) {
+                return false;
+            }
+            for (int i = 0; i < elements.size(); i++) {
+                T element = elements.get(i);
+                T other = others.get(i);
+                if (element != other && !isSame.test(element, other)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns a writer of the contents of a segment holding {@code elements}.
+     */
+    @FunctionalInterface
+    private interface SegmentContents<T> {
+        FileUtil.ContentWriter of(List<T> elements);
+    }
+
+    /**
+     * Cuts lists into segments and writes the new ones to a directory.
+     */
+    private class SegmentWriter {
+        private final Path segmentsDirectory;
+        private int writtenCount;
+
+        SegmentWriter(Path segmentsDirectory) {
+            this.segmentsDirectory = segmentsDirectory;
+        }
+
+        /**
+         * Returns {@code all} cut into segments at the elements whose names, given by {@code nameOf}, hash to a
+         * boundary, writing each segment that is not in {@code previousSegments} and not already on disk.
+         * {@code isSame} tells whether two elements are saved the same, so it must cover every field that is saved.
+         */
+        <T> List<Segment<T>> write(String prefix, List<T> all, Function<T, Object> nameOf, BiPredicate<T, T> isSame,
+                List<Segment<T>> previousSegments, SegmentContents<T> contents) throws IOException {
+            // Unchanged segments still start with the same object, wherever they now are in the list
+            Map<T, Segment<T>> previousByFirst = new IdentityHashMap<>();
+            if (previousSegments != null) {
+                for (Segment<T> previous : previousSegments) {
+                    previousByFirst.put(previous.elements.get(0), previous);
+                }
+            }
+
+            List<Segment<T>> segments = new ArrayList<>();
+            int start = 0;
+            for (int end = 1; end <= all.size(); end++) {
+                if (end < all.size() && !isSegmentEnd(nameOf.apply(all.get(end - 1)), end - start)) {
+                    continue;
+                }
+                segments.add(write(prefix, new ArrayList<>(all.subList(start, end)), isSame,
+                        previousByFirst.get(all.get(start)), contents));
+                start = end;
+            }
+            return segments;
+        }
+
+        /**
+         * Returns true if a segment of {@code length} elements ends with the element named {@code name}.
+         */
+        private boolean isSegmentEnd(Object name, int length) {
+            if (length >= MAX_SEGMENT_SIZE_FACTOR * segmentSize) {
+                return true;
+            }
+            // Names differing in a few letters have close hash codes, so they are spread out before being bucketed
+            int hash = name.hashCode() * 0x9e3779b9;
+            return Math.floorMod(hash ^ (hash >>> 16), segmentSize) == 0;
+        }
+
+        /**
+         * Returns the segment holding {@code elements}, writing it unless it is {@code previous} or already on disk.
+         */
+        private <T> Segment<T> write(String prefix, List<T> elements, BiPredicate<T, T> isSame, Segment<T> previous,
+                SegmentContents<T> contents) throws IOException {
+            if (previous != null && previous.holds(elements, isSame)) {
+                return new Segment<>(elements, previous.fileName);
+            }
+
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            contents.of(elements).write(content);
+            byte[] bytes = content.toByteArray();
+            String fileName = getSegmentFileName(prefix, bytes);
+            Path file = segmentsDirectory.resolve(fileName);
+            if (!Files.exists(file)) {
+                FileUtil.writeAtomically(file, out -> out.write(bytes));
+                writtenCount++;
+            }
+            return new Segment<>(elements, fileName);
+        }
+    }
+
+    /**
+     * The segments listed in a manifest just written.
+     */
+    private static class SavedSegments {
+        private final List<Segment<Person>> personSegments;
+        private final List<Segment<Team>> teamSegments;
+
+        SavedSegments(List<Segment<Person>> personSegments, List<Segment<Team>> teamSegments) {
+            this.personSegments = personSegments;
+            this.teamSegments = teamSegments;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored in a directory on the hard disk, split into a core file of persons and
+ * one shard file per hackathon holding the teams of that hackathon.
+ * Saving only rewrites the files whose saved contents changed since they were last read or written. The core file is
+ * rewritten whenever any person changes, which includes the teams and hackathons of members that team commands
+ * update, so a team edit writes the core file and its own hackathon's shard. The shards of the other hackathons are
+ * not written, as a shard holds only team names, hackathons and member names. Every file is in the JSON format of
+ * {@link JsonSerializableAddressBook} and is replaced atomically.
+ * Every shard is read when the address book is read, as the model holds all teams in one list: team names are
+ * unique across hackathons, persons and teams refer to each other, and the team list panel and team commands index
+ * into all teams. Only saving scales with the hackathons changed, not reading. Teams are read back grouped by
+ * hackathon.
+ * The app keeps its address book in shards instead of its data file if the user prefs ask for it.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String PERSONS_FILE_NAME = "persons.json";
+    public static final String TEAMS_DIRECTORY_NAME = "teams";
+
+    private static final String SHARD_SUFFIX = ".json";
+    private static final String NO_HACKATHON_SHARD_NAME = "no-hackathon" + SHARD_SUFFIX;
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directory;
+    private final boolean isCompact;
+    private final Object lock = new Object();
+
+    // Guarded by lock. The persons in the core file, or null if they are unknown.
+    private List<Person> persistedPersons;
+    // Guarded by lock. The teams in each shard file by the name of the file, or null if they are unknown.
+    private Map<String, List<Team>> persistedShards;
+
+    public ShardedAddressBookStorage(Path directory) {
+        this(directory, false);
+    }
+
+    /**
+     * Creates a storage for the data in {@code directory}, whose files are written without indentation if
+     * {@code isCompact}.
+     */
+    public ShardedAddressBookStorage(Path directory, boolean isCompact) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns the name of the shard file holding the teams of {@code hackathonName}, or of the teams without a
+     * hackathon if it is null.
+     * The hash of the name tells apart hackathons whose names differ only in case, on file systems that ignore it.
+     */
+    static String getShardFileName(HackathonName hackathonName) {
+        if (hackathonName == null) {
+            return NO_HACKATHON_SHARD_NAME;
+        }
+        String name = hackathonName.value;
+        return name.toLowerCase(Locale.ROOT).replace(' ', '_') + "-" + Integer.toHexString(name.hashCode())
+                + SHARD_SUFFIX;
+    }
+
+    /**
+     * Returns the path of the directory of shards kept next to the data file at {@code dataFilePath}, which is that
+     * of the data file without its extension.
+     */
+    public static Path getDirectoryPath(Path dataFilePath) {
+        return FileUtil.removeExtension(dataFilePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+        Path personsFile = directory.resolve(PERSONS_FILE_NAME);
+        if (!Files.exists(personsFile)) {
+            return Optional.empty();
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        AddressBook addressBook;
+        try {
+            StreamingAddressBookReader.read(personsFile, assembler);
+            assembler.completePersons();
+            for (Path shard : listShards(directory)) {
+                StreamingAddressBookReader.read(shard, assembler);
+            }
+            addressBook = assembler.toAddressBook();
+        } catch (IOException e) {
+            logger.warning("Error reading from data directory " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (directory.equals(this.directory)) {
+            synchronized (lock) {
+                persistedPersons = new ArrayList<>(addressBook.getPersonList());
+                persistedShards = groupByShard(addressBook.getTeamList());
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the shard files in {@code directory}, ordered by name.
+     */
+    private static List<Path> listShards(Path directory) throws IOException {
+        Map<String, Path> shards = new TreeMap<>();
+        Path teamsDirectory = directory.resolve(TEAMS_DIRECTORY_NAME);
+        if (!Files.isDirectory(teamsDirectory)) {
+            return new ArrayList<>();
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(teamsDirectory, "*" + SHARD_SUFFIX)) {
+            for (Path file : files) {
+                shards.put(file.getFileName().toString(), file);
+            }
+        }
+        return new ArrayList<>(shards.values());
+    }
+
+    private static Map<String, List<Team>> groupByShard(List<Team> teams) {
+        Map<String, List<Team>> shards = new HashMap<>();
+        for (Team team : teams) {
+            shards.computeIfAbsent(getShardFileName(team.getHackathonName()), unused -> new ArrayList<>()).add(team);
+        }
+        return shards;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param directory location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+
+        List<Person> persons = JsonSerializableAddressBook.getPersonsToSave(addressBook);
+        Map<String, List<Team>> shards = groupByShard(addressBook.getTeamList());
+        if (!directory.equals(this.directory)) {
+            writeAll(directory, persons, shards, null, null);
+            return;
+        }
+        synchronized (lock) {
+            // Forget what was persisted until the files are all written, so that a failed save is redone in full
+            List<Person> previousPersons = persistedPersons;
+            Map<String, List<Team>> previousShards = persistedShards;
+            persistedPersons = null;
+            persistedShards = null;
+            writeAll(directory, persons, shards, previousPersons, previousShards);
+            persistedPersons = persons;
+            persistedShards = shards;
+        }
+    }
+
+    /**
+     * Writes {@code persons} to the core file and {@code shards} to the shard files in {@code directory}, skipping
+     * the files whose contents are the same as {@code previousPersons} and {@code previousShards}, and deleting the
+     * shard files not in {@code shards}. Null previous contents are taken as unknown.
+     * Persons are written first, so that teams written in the same save find their new members. A crash between the
+     * files can still leave a shard referring to a person just removed, which then fails to load.
+     */
+    private void writeAll(Path directory, List<Person> persons, Map<String, List<Team>> shards,
+            List<Person> previousPersons, Map<String, List<Team>> previousShards) throws IOException {
+        if (!isSameSavedPersons(persons, previousPersons)) {
+            FileUtil.writeAtomically(directory.resolve(PERSONS_FILE_NAME), out ->
+                    StreamingAddressBookWriter.write(persons, new ArrayList<>(), out, isCompact));
+        }
+
+        Path teamsDirectory = directory.resolve(TEAMS_DIRECTORY_NAME);
+        int writtenShardCount = 0;
+        for (Map.Entry<String, List<Team>> shard : shards.entrySet()) {
+            if (previousShards != null && isSameSavedTeams(shard.getValue(), previousShards.get(shard.getKey()))) {
+                continue;
+            }
+            FileUtil.writeAtomically(teamsDirectory.resolve(shard.getKey()), out ->
+                    StreamingAddressBookWriter.write(new ArrayList<>(), shard.getValue(), out, isCompact));
+            writtenShardCount++;
+        }
+
+        for (Path file : listShards(directory)) {
+            if (!shards.containsKey(file.getFileName().toString())) {
+                Files.delete(file);
+            }
+        }
+        logger.fine("Wrote " + writtenShardCount + " of " + shards.size() + " shard(s) in " + directory);
+    }
+
+    /**
+     * Returns true if {@code persons} are saved the same as {@code previousPersons}, which may be null if unknown.
+     * Person equality compares skills by name only, so the experience levels are compared as well.
+     */
+    private static boolean isSameSavedPersons(List<Person> persons, List<Person> previousPersons) {
+        if (previousPersons == null || persons.size() != previousPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (!persons.get(i).isSameState(previousPersons.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code teams} are saved the same as {@code previousTeams}, which may be null if unknown.
+     * A team is saved as its name, hackathon and the names of its members, so edits to members that keep their
+     * names do not change a shard.
+     */
+    private static boolean isSameSavedTeams(List<Team> teams, List<Team> previousTeams) {
+        if (previousTeams == null || teams.size() != previousTeams.size()) {
+            return false;
+        }
+        for (int i = 0; i < teams.size(); i++) {
+            Team team = teams.get(i);
+            Team previousTeam = previousTeams.get(i);
+            if (team != previousTeam && (!team.getTeamName().equals(previousTeam.getTeamName())
+                    || !Objects.equals(team.getHackathonName(), previousTeam.getHackathonName())
+                    || !getMemberNames(team).equals(getMemberNames(previousTeam)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> getMemberNames(Team team) {
+        Set<String> names = new HashSet<>();
+        for (Person member : team.getMembers()) {
+            names.add(member.getName().fullName);
+        }
+        return names;
+    }
+
+    /**
+     * Saves the address book read from {@code source} into the directory if it holds no persons file yet, such as the
+     * first time the app runs with this storage after keeping its data in a JSON file.
+     * If the address book cannot be saved, the persons file is deleted so that the next run tries again.
+     *
+     * @return true if the address book was moved into the directory.
+     * @throws DataLoadingException if the address book could not be read from {@code source}.
+     * @throws IOException if the address book could not be written to the directory.
+     */
+    public boolean migrateFrom(AddressBookStorage source) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        Path personsFile = directory.resolve(PERSONS_FILE_NAME);
+        if (Files.exists(personsFile)) {
+            return false;
+        }
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        try {
+            saveAddressBook(addressBook.get());
+        } catch (IOException e) {
+            Files.deleteIfExists(personsFile);
+            throw e;
+        }
+        logger.info("Migrated " + source.getAddressBookFilePath() + " to shards in " + directory);
+        return true;
+    }
+
+    @Override
+    public void closeAddressBook() {
+        // Every save writes the changed files straight away
+    }
+}
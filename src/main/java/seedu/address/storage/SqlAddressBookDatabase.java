@@ -0,0 +1,526 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GitHub;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
+
+/**
+ * An address book held in the normalized tables of an embedded H2 database file.
+ * Persons and teams are rows keyed by their case-insensitive names, with their skills, hackathons, the teams each
+ * person names and the members of each team in tables of their own. Each row remembers the person or team it was
+ * last written from, so saving an address book only updates, inserts and deletes the rows of the persons and teams
+ * that changed, in a single transaction.
+ * The order of the lists is kept in a list index column that leaves gaps where rows are deleted, so removing a person
+ * does not renumber the persons after it.
+ */
+class SqlAddressBookDatabase implements AutoCloseable {
+
+    /** The suffix H2 adds to the path of a database to name its file. */
+    static final String FILE_SUFFIX = ".mv.db";
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS person (id BIGINT PRIMARY KEY, list_index BIGINT NOT NULL,"
+                + " name VARCHAR(255) NOT NULL, name_key VARCHAR(255) NOT NULL UNIQUE, email VARCHAR(255) NOT NULL,"
+                + " telegram VARCHAR(255) NOT NULL, github VARCHAR(255) NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS skill (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE)",
+        "CREATE TABLE IF NOT EXISTS hackathon (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE)",
+        "CREATE TABLE IF NOT EXISTS team (id BIGINT PRIMARY KEY, list_index BIGINT NOT NULL,"
+                + " name VARCHAR(255) NOT NULL, name_key VARCHAR(255) NOT NULL UNIQUE,"
+                + " hackathon_id BIGINT REFERENCES hackathon (id))",
+        "CREATE TABLE IF NOT EXISTS person_skill (person_id BIGINT NOT NULL REFERENCES person (id) ON DELETE CASCADE,"
+                + " skill_id BIGINT NOT NULL REFERENCES skill (id), experience_level VARCHAR(32) NOT NULL,"
+                + " PRIMARY KEY (person_id, skill_id))",
+        "CREATE TABLE IF NOT EXISTS person_hackathon (person_id BIGINT NOT NULL REFERENCES person (id)"
+                + " ON DELETE CASCADE, hackathon_id BIGINT NOT NULL REFERENCES hackathon (id),"
+                + " is_participating BOOLEAN NOT NULL, PRIMARY KEY (person_id, hackathon_id, is_participating))",
+        "CREATE TABLE IF NOT EXISTS person_team (person_id BIGINT NOT NULL REFERENCES person (id) ON DELETE CASCADE,"
+                + " team_name VARCHAR(255) NOT NULL, PRIMARY KEY (person_id, team_name))",
+        "CREATE TABLE IF NOT EXISTS membership (team_id BIGINT NOT NULL REFERENCES team (id) ON DELETE CASCADE,"
+                + " person_id BIGINT NOT NULL REFERENCES person (id) ON DELETE CASCADE,"
+                + " PRIMARY KEY (team_id, person_id))",
+        "CREATE INDEX IF NOT EXISTS person_skill_by_skill ON person_skill (skill_id)",
+        "CREATE INDEX IF NOT EXISTS membership_by_person ON membership (person_id)",
+    };
+
+    private final Connection connection;
+    // The rows of the persons and teams by the lower-case names they are keyed by
+    private final Map<String, Row<Person>> personRows = new HashMap<>();
+    private final Map<String, Row<Team>> teamRows = new HashMap<>();
+    private final Map<String, Long> skillIds = new HashMap<>();
+    private final Map<String, Long> hackathonIds = new HashMap<>();
+    private long nextId = 1;
+
+    private SqlAddressBookDatabase(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Opens the database at {@code databasePath}, creating it and its tables if they do not exist yet.
+     */
+    static SqlAddressBookDatabase open(Path databasePath) throws SQLException {
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + databasePath.toAbsolutePath());
+        try {
+            connection.setAutoCommit(false);
+            SqlAddressBookDatabase database = new SqlAddressBookDatabase(connection);
+            database.createTables();
+            database.readKeys();
+            connection.commit();
+            return database;
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private void createTables() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Reads the ids of every row, leaving the persons and teams they were written from unknown until
+     * {@link #read()}.
+     */
+    private void readKeys() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            readRows(statement, "SELECT id, name_key, list_index FROM person", personRows);
+            readRows(statement, "SELECT id, name_key, list_index FROM team", teamRows);
+            readIds(statement, "SELECT id, name FROM skill", skillIds);
+            readIds(statement, "SELECT id, name FROM hackathon", hackathonIds);
+        }
+    }
+
+    private <T> void readRows(Statement statement, String sql, Map<String, Row<T>> rows) throws SQLException {
+        try (ResultSet result = statement.executeQuery(sql)) {
+            while (result.next()) {
+                long id = result.getLong(1);
+                rows.put(result.getString(2), new Row<>(id, result.getLong(3), null));
+                nextId = Math.max(nextId, id + 1);
+            }
+        }
+    }
+
+    private void readIds(Statement statement, String sql, Map<String, Long> ids) throws SQLException {
+        try (ResultSet result = statement.executeQuery(sql)) {
+            while (result.next()) {
+                long id = result.getLong(1);
+                ids.put(result.getString(2), id);
+                nextId = Math.max(nextId, id + 1);
+            }
+        }
+    }
+
+    /**
+     * Reads the address book in the database.
+     *
+     * @throws IllegalValueException if a person or team in the database is invalid or a duplicate.
+     */
+    AddressBook read() throws SQLException, IllegalValueException {
+        Map<Long, Set<Skill>> skills = new HashMap<>();
+        Map<Long, Set<HackathonName>> interestedHackathons = new HashMap<>();
+        Map<Long, Set<HackathonName>> participatingHackathons = new HashMap<>();
+        Map<Long, Set<Team>> personTeams = new HashMap<>();
+        Map<Long, Set<Person>> members = new HashMap<>();
+        Map<Long, Person> personsById = new HashMap<>();
+        List<Person> persons = new ArrayList<>();
+        List<Team> teams = new ArrayList<>();
+
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet result = statement.executeQuery("SELECT ps.person_id, s.name, ps.experience_level"
+                    + " FROM person_skill ps JOIN skill s ON s.id = ps.skill_id")) {
+                while (result.next()) {
+                    skills.computeIfAbsent(result.getLong(1), unused -> new HashSet<>())
+                            .add(new Skill(result.getString(2), ExperienceLevel.valueOf(result.getString(3))));
+                }
+            }
+            try (ResultSet result = statement.executeQuery("SELECT ph.person_id, h.name, ph.is_participating"
+                    + " FROM person_hackathon ph JOIN hackathon h ON h.id = ph.hackathon_id")) {
+                while (result.next()) {
+                    Map<Long, Set<HackathonName>> hackathons =
+                            result.getBoolean(3) ? participatingHackathons : interestedHackathons;
+                    hackathons.computeIfAbsent(result.getLong(1), unused -> new HashSet<>())
+                            .add(new HackathonName(result.getString(2)));
+                }
+            }
+            try (ResultSet result = statement.executeQuery("SELECT person_id, team_name FROM person_team")) {
+                while (result.next()) {
+                    personTeams.computeIfAbsent(result.getLong(1), unused -> new HashSet<>())
+                            .add(new Team(new TeamName(result.getString(2))));
+                }
+            }
+            try (ResultSet result = statement.executeQuery("SELECT id, name, email, telegram, github FROM person"
+                    + " ORDER BY list_index, id")) {
+                while (result.next()) {
+                    long id = result.getLong(1);
+                    Person person = new Person(new Name(result.getString(2)), new Email(result.getString(3)),
+                            new Telegram(result.getString(4)), new GitHub(result.getString(5)),
+                            skills.getOrDefault(id, new HashSet<>()), personTeams.getOrDefault(id, new HashSet<>()),
+                            interestedHackathons.getOrDefault(id, new HashSet<>()),
+                            participatingHackathons.getOrDefault(id, new HashSet<>()));
+                    personsById.put(id, person);
+                    persons.add(person);
+                }
+            }
+            try (ResultSet result = statement.executeQuery("SELECT team_id, person_id FROM membership")) {
+                while (result.next()) {
+                    members.computeIfAbsent(result.getLong(1), unused -> new HashSet<>())
+                            .add(personsById.get(result.getLong(2)));
+                }
+            }
+            try (ResultSet result = statement.executeQuery("SELECT t.id, t.name, h.name FROM team t"
+                    + " LEFT JOIN hackathon h ON h.id = t.hackathon_id ORDER BY t.list_index, t.id")) {
+                while (result.next()) {
+                    TeamName teamName = new TeamName(result.getString(2));
+                    Set<Person> teamMembers = members.getOrDefault(result.getLong(1), new HashSet<>());
+                    String hackathonName = result.getString(3);
+                    teams.add(hackathonName == null
+                            ? new Team(teamName, teamMembers)
+                            : new Team(teamName, new HackathonName(hackathonName), teamMembers));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // A value constructor rejected a column, which only a database edited by hand could hold
+            throw new IllegalValueException(e.getMessage());
+        } finally {
+            connection.commit();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setTeams(teams);
+        } catch (DuplicateTeamException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM);
+        }
+        remember(persons, personRows, SqlAddressBookDatabase::getKey);
+        remember(teams, teamRows, SqlAddressBookDatabase::getKey);
+        return addressBook;
+    }
+
+    /**
+     * Remembers each of {@code values} as what its row was written from.
+     */
+    private static <T> void remember(List<T> values, Map<String, Row<T>> rows, Function<T, String> keyOf) {
+        for (T value : values) {
+            Row<T> row = rows.get(keyOf.apply(value));
+            rows.put(keyOf.apply(value), new Row<>(row.id, row.listIndex, value));
+        }
+    }
+
+    /**
+     * Saves {@code persons} and {@code teams} in a single transaction, writing only the rows of the persons and teams
+     * that differ from what their rows were last written from.
+     * If saving fails the transaction is rolled back, and the database should be closed as the rows it remembers may
+     * no longer match the tables.
+     */
+    void save(List<Person> persons, List<Team> teams) throws SQLException {
+        try (Statements statements = new Statements()) {
+            deleteRemoved(persons, personRows, SqlAddressBookDatabase::getKey, statements.deletePerson);
+            deleteRemoved(teams, teamRows, SqlAddressBookDatabase::getKey, statements.deleteTeam);
+            saveRows(persons, personRows, SqlAddressBookDatabase::getKey, Person::isSameState,
+                    (person, id, isNew) -> writePerson(statements, person, id, isNew));
+            saveRows(teams, teamRows, SqlAddressBookDatabase::getKey, Team::equals,
+                    (team, id, isNew) -> writeTeam(statements, team, id, isNew));
+            statements.executeBatches();
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes the rows of the keys not among {@code values}.
+     */
+    private static <T> void deleteRemoved(List<T> values, Map<String, Row<T>> rows, Function<T, String> keyOf,
+            PreparedStatement delete) throws SQLException {
+        Set<String> keys = new HashSet<>();
+        for (T value : values) {
+            keys.add(keyOf.apply(value));
+        }
+        Iterator<Map.Entry<String, Row<T>>> entries = rows.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Row<T>> entry = entries.next();
+            if (!keys.contains(entry.getKey())) {
+                delete.setLong(1, entry.getValue().id);
+                delete.executeUpdate();
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * Writes the rows of {@code values} that are new, changed, or moved to a different list index.
+     * Each value keeps the list index of its row while the indices stay in order, and otherwise takes the index after
+     * the value before it.
+     * A value is unchanged if {@code isSame} holds for it and the value its row was written from, so {@code isSame}
+     * must cover every field that is saved.
+     */
+    private <T> void saveRows(List<T> values, Map<String, Row<T>> rows, Function<T, String> keyOf,
+            BiPredicate<T, T> isSame, RowWriter<T> writer) throws SQLException {
+        long lastListIndex = -1;
+        for (T value : values) {
+            String key = keyOf.apply(value);
+            Row<T> row = rows.get(key);
+            long listIndex = row != null && row.listIndex > lastListIndex ? row.listIndex : lastListIndex + 1;
+            lastListIndex = listIndex;
+            if (row != null && row.listIndex == listIndex && row.value != null
+                    && (row.value == value || isSame.test(row.value, value))) {
+                continue;
+            }
+
+            long id = row == null ? nextId++ : row.id;
+            rows.put(key, new Row<>(id, listIndex, value));
+            writer.write(value, id, row == null);
+        }
+    }
+
+    private void writePerson(Statements statements, Person person, long id, boolean isNew) throws SQLException {
+        PreparedStatement write = isNew ? statements.insertPerson : statements.updatePerson;
+        write.setLong(1, personRows.get(getKey(person)).listIndex);
+        write.setString(2, person.getName().fullName);
+        write.setString(3, getKey(person));
+        write.setString(4, person.getEmail().value);
+        write.setString(5, person.getTelegram().value);
+        write.setString(6, person.getGitHub().value);
+        write.setLong(7, id);
+        write.executeUpdate();
+
+        if (!isNew) {
+            for (PreparedStatement clear : statements.clearPerson) {
+                clear.setLong(1, id);
+                clear.executeUpdate();
+            }
+        }
+        for (Skill skill : person.getSkills()) {
+            statements.insertPersonSkill.setLong(1, id);
+            statements.insertPersonSkill.setLong(2, getSkillId(statements, skill.skillName));
+            statements.insertPersonSkill.setString(3, skill.getExperienceLevel().name());
+            statements.insertPersonSkill.addBatch();
+        }
+        addPersonHackathons(statements, id, person.getInterestedHackathons(), false);
+        addPersonHackathons(statements, id, person.getParticipatingHackathons(), true);
+        // Teams of a person are told apart by all their details, but only their names are kept, so two teams with
+        // the same name would break the key of person_team
+        Set<TeamName> teamNames = new HashSet<>();
+        for (Team team : person.getTeams()) {
+            if (!teamNames.add(team.getTeamName())) {
+                continue;
+            }
+            statements.insertPersonTeam.setLong(1, id);
+            statements.insertPersonTeam.setString(2, team.getTeamName().fullTeamName);
+            statements.insertPersonTeam.addBatch();
+        }
+    }
+
+    private void addPersonHackathons(Statements statements, long personId, Set<HackathonName> hackathonNames,
+            boolean isParticipating) throws SQLException {
+        for (HackathonName hackathonName : hackathonNames) {
+            statements.insertPersonHackathon.setLong(1, personId);
+            statements.insertPersonHackathon.setLong(2, getHackathonId(statements, hackathonName));
+            statements.insertPersonHackathon.setBoolean(3, isParticipating);
+            statements.insertPersonHackathon.addBatch();
+        }
+    }
+
+    private void writeTeam(Statements statements, Team team, long id, boolean isNew) throws SQLException {
+        PreparedStatement write = isNew ? statements.insertTeam : statements.updateTeam;
+        write.setLong(1, teamRows.get(getKey(team)).listIndex);
+        write.setString(2, team.getTeamName().fullTeamName);
+        write.setString(3, getKey(team));
+        if (team.getHackathonName() == null) {
+            write.setNull(4, Types.BIGINT);
+        } else {
+            write.setLong(4, getHackathonId(statements, team.getHackathonName()));
+        }
+        write.setLong(5, id);
+        write.executeUpdate();
+
+        if (!isNew) {
+            statements.clearMembership.setLong(1, id);
+            statements.clearMembership.executeUpdate();
+        }
+        for (Person member : team.getMembers()) {
+            Row<Person> memberRow = personRows.get(getKey(member));
+            if (memberRow == null) {
+                throw new SQLException("Team " + team.getTeamName() + " has a member not in the address book: "
+                        + member.getName());
+            }
+            statements.insertMembership.setLong(1, id);
+            statements.insertMembership.setLong(2, memberRow.id);
+            statements.insertMembership.addBatch();
+        }
+    }
+
+    private long getSkillId(Statements statements, String skillName) throws SQLException {
+        return getId(skillIds, skillName, statements.insertSkill);
+    }
+
+    private long getHackathonId(Statements statements, HackathonName hackathonName) throws SQLException {
+        return getId(hackathonIds, hackathonName.value, statements.insertHackathon);
+    }
+
+    /**
+     * Returns the id of the row named {@code name} in {@code ids}, inserting the row first if there is none.
+     */
+    private long getId(Map<String, Long> ids, String name, PreparedStatement insert) throws SQLException {
+        Long id = ids.get(name);
+        if (id == null) {
+            id = nextId++;
+            insert.setLong(1, id);
+            insert.setString(2, name);
+            insert.executeUpdate();
+            ids.put(name, id);
+        }
+        return id;
+    }
+
+    private static String getKey(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    private static String getKey(Team team) {
+        return team.getTeamName().fullTeamName.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * The row of a person or team.
+     */
+    private static class Row<T> {
+        private final long id;
+        private final long listIndex;
+        // What the row was last written from, or null if it is unknown
+        private final T value;
+
+        Row(long id, long listIndex, T value) {
+            this.id = id;
+            this.listIndex = listIndex;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Writes the row of a person or team.
+     */
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T value, long id, boolean isNew) throws SQLException;
+    }
+
+    /**
+     * The statements a save is made of.
+     * The rows a person or team is made of are only added to batches, which run after every person and team row is
+     * written.
+     */
+    private class Statements implements AutoCloseable {
+        private final List<PreparedStatement> all = new ArrayList<>();
+        private final PreparedStatement insertPerson;
+        private final PreparedStatement updatePerson;
+        private final PreparedStatement deletePerson;
+        private final List<PreparedStatement> clearPerson = new ArrayList<>();
+        private final PreparedStatement insertPersonSkill;
+        private final PreparedStatement insertPersonHackathon;
+        private final PreparedStatement insertPersonTeam;
+        private final PreparedStatement insertTeam;
+        private final PreparedStatement updateTeam;
+        private final PreparedStatement deleteTeam;
+        private final PreparedStatement clearMembership;
+        private final PreparedStatement insertMembership;
+        private final PreparedStatement insertSkill;
+        private final PreparedStatement insertHackathon;
+
+        Statements() throws SQLException {
+            try {
+                insertPerson = prepare("INSERT INTO person"
+                        + " (list_index, name, name_key, email, telegram, github, id) VALUES (?, ?, ?, ?, ?, ?, ?)");
+                updatePerson = prepare("UPDATE person SET list_index = ?, name = ?, name_key = ?, email = ?,"
+                        + " telegram = ?, github = ? WHERE id = ?");
+                deletePerson = prepare("DELETE FROM person WHERE id = ?");
+                clearPerson.add(prepare("DELETE FROM person_skill WHERE person_id = ?"));
+                clearPerson.add(prepare("DELETE FROM person_hackathon WHERE person_id = ?"));
+                clearPerson.add(prepare("DELETE FROM person_team WHERE person_id = ?"));
+                insertPersonSkill = prepare("INSERT INTO person_skill"
+                        + " (person_id, skill_id, experience_level) VALUES (?, ?, ?)");
+                insertPersonHackathon = prepare("INSERT INTO person_hackathon"
+                        + " (person_id, hackathon_id, is_participating) VALUES (?, ?, ?)");
+                insertPersonTeam = prepare("INSERT INTO person_team (person_id, team_name) VALUES (?, ?)");
+                insertTeam = prepare("INSERT INTO team"
+                        + " (list_index, name, name_key, hackathon_id, id) VALUES (?, ?, ?, ?, ?)");
+                updateTeam = prepare("UPDATE team"
+                        + " SET list_index = ?, name = ?, name_key = ?, hackathon_id = ? WHERE id = ?");
+                deleteTeam = prepare("DELETE FROM team WHERE id = ?");
+                clearMembership = prepare("DELETE FROM membership WHERE team_id = ?");
+                insertMembership = prepare("INSERT INTO membership (team_id, person_id) VALUES (?, ?)");
+                insertSkill = prepare("INSERT INTO skill (id, name) VALUES (?, ?)");
+                insertHackathon = prepare("INSERT INTO hackathon (id, name) VALUES (?, ?)");
+            } catch (SQLException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            all.add(statement);
+            return statement;
+        }
+
+        void executeBatches() throws SQLException {
+            insertPersonSkill.executeBatch();
+            insertPersonHackathon.executeBatch();
+            insertPersonTeam.executeBatch();
+            insertMembership.executeBatch();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (PreparedStatement statement : all) {
+                statement.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file on the hard disk.
+ * The database is opened in the process of the app, with no server, and kept open until the storage is closed. Each
+ * save runs as one transaction that only writes the rows of the persons and teams changed by the command before it.
+ * See {@link SqlAddressBookDatabase} for the tables. An existing JSON data file is moved into the database once with
+ * {@link #migrateFrom(AddressBookStorage)}.
+ * The app keeps its address book in a database instead of its data file if the user prefs ask for it.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private final Path databasePath;
+    private final Object lock = new Object();
+
+    // Guarded by lock. The open database at databasePath, or null if it is not open.
+    private SqlAddressBookDatabase database;
+
+    /**
+     * Creates a storage for the database at {@code databasePath}, which H2 keeps in the file named by the path with
+     * {@code .mv.db} added.
+     */
+    public SqlAddressBookStorage(Path databasePath) {
+        requireNonNull(databasePath);
+        this.databasePath = databasePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return databasePath;
+    }
+
+    /**
+     * Returns the path of the database kept next to the data file at {@code dataFilePath}, which is that of the data
+     * file without its extension.
+     */
+    public static Path getDatabasePath(Path dataFilePath) {
+        return FileUtil.removeExtension(dataFilePath);
+    }
+
+    /**
+     * Returns the file the database at {@code databasePath} is kept in.
+     */
+    static Path getDatabaseFile(Path databasePath) {
+        return databasePath.resolveSibling(databasePath.getFileName() + SqlAddressBookDatabase.FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(databasePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path databasePath) throws DataLoadingException {
+        requireNonNull(databasePath);
+        if (!Files.exists(getDatabaseFile(databasePath))) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!databasePath.equals(this.databasePath)) {
+                try (SqlAddressBookDatabase other = SqlAddressBookDatabase.open(databasePath)) {
+                    return Optional.of(other.read());
+                }
+            }
+            synchronized (lock) {
+                return Optional.of(getDatabase().read());
+            }
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + databasePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + databasePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, databasePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param databasePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path databasePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(databasePath);
+
+        FileUtil.createParentDirsOfFile(databasePath);
+        try {
+            if (!databasePath.equals(this.databasePath)) {
+                try (SqlAddressBookDatabase other = SqlAddressBookDatabase.open(databasePath)) {
+                    other.save(JsonSerializableAddressBook.getPersonsToSave(addressBook), addressBook.getTeamList());
+                }
+                return;
+            }
+            synchronized (lock) {
+                save(addressBook);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error saving to database " + databasePath, e);
+        }
+    }
+
+    private void save(ReadOnlyAddressBook addressBook) throws SQLException {
+        assert Thread.holdsLock(lock);
+        try {
+            getDatabase().save(JsonSerializableAddressBook.getPersonsToSave(addressBook), addressBook.getTeamList());
+        } catch (SQLException | RuntimeException e) {
+            // The rows the database remembers may no longer match its tables, so they are read again on next use
+            closeDatabase();
+            throw e;
+        }
+    }
+
+    /**
+     * Saves the address book read from {@code source} into the database if there is no database yet, such as the
+     * first time the app runs with this storage after keeping its data in a JSON file.
+     * A database left empty by deleting every person is not filled from {@code source} again. If the address book
+     * cannot be saved, the new database is deleted so that the next run tries again.
+     *
+     * @return true if the address book was moved into the database.
+     * @throws DataLoadingException if the address book could not be read from {@code source}.
+     * @throws IOException if the database could not be opened or written to.
+     */
+    public boolean migrateFrom(AddressBookStorage source) throws DataLoadingException, IOException {
+        requireNonNull(source);
+        synchronized (lock) {
+            Path databaseFile = getDatabaseFile(databasePath);
+            if (Files.exists(databaseFile)) {
+                return false;
+            }
+            Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+            if (addressBook.isEmpty()) {
+                return false;
+            }
+
+            FileUtil.createParentDirsOfFile(databasePath);
+            try {
+                save(addressBook.get());
+            } catch (SQLException e) {
+                closeDatabase();
+                Files.deleteIfExists(databaseFile);
+                throw new IOException("Error migrating to database " + databasePath, e);
+            }
+        }
+        logger.info("Migrated " + source.getAddressBookFilePath() + " to database " + databasePath);
+        return true;
+    }
+
+    private SqlAddressBookDatabase getDatabase() throws SQLException {
+        assert Thread.holdsLock(lock);
+        if (database == null) {
+            database = SqlAddressBookDatabase.open(databasePath);
+        }
+        return database;
+    }
+
+    private void closeDatabase() {
+        assert Thread.holdsLock(lock);
+        if (database == null) {
+            return;
+        }
+        try {
+            database.close();
+        } catch (SQLException e) {
+            logger.warning("Error closing database " + databasePath + ": " + e);
+        }
+        database = null;
+    }
+
+    @Override
+    public void closeAddressBook() {
+        synchronized (lock) {
+            closeDatabase();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book from a JSON file in the format of {@link JsonSerializableAddressBook}, converting each person
+ * and team into the model as soon as it is parsed. Files compressed with GZIP are decompressed as they are read.
+ * Neither the text of the file nor the full lists of adapted records are ever held in memory, so reading takes little
+ * memory beyond the address book itself.
+ * Persons are converted in batches across all available cores.
+ */
+class StreamingAddressBookReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PERSON_BATCH_SIZE = 8 * AddressBookAssembler.PARALLEL_THRESHOLD;
+
+    /**
+     * Reads the address book in {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not an address book in JSON.
+     * @throws IllegalValueException if a person or team in the file is invalid or a duplicate.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        read(filePath, assembler);
+        return assembler.toAddressBook();
+    }
+
+    /**
+     * Reads the persons and teams in {@code filePath} into {@code assembler}, so that an address book can be read
+     * from several files.
+     *
+     * @throws IOException if the file could not be read or is not an address book in JSON.
+     * @throws IllegalValueException if a person or team in the file is invalid or a duplicate.
+     */
+    static void read(Path filePath, AddressBookAssembler assembler) throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            read(in, assembler);
+        }
+    }
+
+    /**
+     * Reads the persons and teams in {@code filePath} into {@code assembler}, and returns the CRC-32 checksum of the
+     * file as it is on disk, compressed or not. The checksum is worked out as the file is read, rather than over a
+     * copy of it in memory.
+     *
+     * @see #read(Path, AddressBookAssembler)
+     */
+    static long readWithChecksum(Path filePath, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new BufferedInputStream(
+                new CheckedInputStream(Files.newInputStream(filePath), checksum), BUFFER_SIZE);
+             InputStream content = CompressionUtil.decompressIfCompressed(in);
+             JsonParser parser = JsonUtil.createParser(content)) {
+            read(parser, assembler);
+            // The parser stops at the end of the address book, so whatever follows is read for the checksum to cover
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Reads the persons and teams in {@code in}, which must support {@link InputStream#mark}, into
+     * {@code assembler}. {@code in} is closed afterwards.
+     *
+     * @see #read(Path, AddressBookAssembler)
+     */
+    static void read(InputStream in, AddressBookAssembler assembler) throws IOException, IllegalValueException {
+        try (InputStream content = CompressionUtil.decompressIfCompressed(in);
+             JsonParser parser = JsonUtil.createParser(content)) {
+            read(parser, assembler);
+        }
+    }
+
+    private static void read(JsonParser parser, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        boolean hasReadPersons = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                readPersons(parser, assembler);
+                hasReadPersons = true;
+                break;
+            case "teams":
+                // Persons are only complete once a file holding them has teams, as the persons of an address book
+                // read from several files may be spread over more than one of them
+                boolean arePersonsComplete = hasReadPersons;
+                readRecords(parser, JsonAdaptedTeam.class, jsonAdaptedTeam -> {
+                    if (arePersonsComplete) {
+                        assembler.completePersons();
+                    }
+                    assembler.addTeam(jsonAdaptedTeam);
+                });
+                break;
+            default:
+                // Unknown fields are ignored, as when the file is read into a JsonSerializableAddressBook
+                parser.skipChildren();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Reads the array of persons at the current token of {@code parser} into {@code assembler} in batches of
+     * {@link #PERSON_BATCH_SIZE}, so that each batch is converted in parallel while only a batch of records is held.
+     */
+    private static void readPersons(JsonParser parser, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        try {
+            readRecords(parser, JsonAdaptedPerson.class, jsonAdaptedPerson -> {
+                batch.add(jsonAdaptedPerson);
+                if (batch.size() == PERSON_BATCH_SIZE) {
+                    assembler.addPersons(batch);
+                    batch.clear();
+                }
+            });
+        } catch (IOException e) {
+            // An invalid person before the record that could not be parsed is reported first, as it comes first
+            assembler.addPersons(batch);
+            throw e;
+        }
+        assembler.addPersons(batch);
+    }
+
+    /**
+     * Reads the array of records at the current token of {@code parser} one record at a time, passing each to
+     * {@code consumer} before reading the next. A null array is read as an empty one.
+     */
+    private static <T> void readRecords(JsonParser parser, Class<T> recordType, RecordConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + recordType.getSimpleName());
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            consumer.accept(parser.readValueAs(recordType));
+        }
+        if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + recordType.getSimpleName());
+        }
+    }
+
+    /**
+     * Takes in a record as soon as it is read.
+     */
+    @FunctionalInterface
+    private interface RecordConsumer<T> {
+        void accept(T record) throws IllegalValueException;
+    }
+}
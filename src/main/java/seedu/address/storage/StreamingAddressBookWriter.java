@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Writes an address book as JSON in the format of {@link JsonSerializableAddressBook}, converting one person or team
+ * at a time and handing it straight to the output, so that neither the full lists of adapted records nor the text of
+ * the file are ever held in memory.
+ */
+class StreamingAddressBookWriter {
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath} atomically, creating it if it is missing.
+     *
+     * @see FileUtil#writeAtomically
+     * @see #write(ReadOnlyAddressBook, OutputStream, boolean, boolean)
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact, boolean isCompressed)
+            throws IOException {
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, out, isCompact, isCompressed));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as {@link #write(ReadOnlyAddressBook, OutputStream, boolean)} does,
+     * compressed with GZIP if {@code isCompressed}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact, boolean isCompressed)
+            throws IOException {
+        if (isCompressed) {
+            CompressionUtil.writeCompressed(out, compressed -> write(addressBook, compressed, isCompact));
+        } else {
+            write(addressBook, out, isCompact);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, indented or, if {@code isCompact}, without any whitespace.
+     * {@code out} is flushed but left open.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact) throws IOException {
+        write(JsonSerializableAddressBook.getPersonsToSave(addressBook), addressBook.getTeamList(), out, isCompact);
+    }
+
+    /**
+     * Writes an address book of {@code persons} and {@code teams} to {@code out}, as
+     * {@link #write(ReadOnlyAddressBook, OutputStream, boolean)} does, but without adding team members missing from
+     * {@code persons}.
+     */
+    static void write(List<Person> persons, List<Team> teams, OutputStream out, boolean isCompact)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("teams");
+            for (Team team : teams) {
+                generator.writeObject(new JsonAdaptedTeam(team));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+        out.flush();
+    }
+}
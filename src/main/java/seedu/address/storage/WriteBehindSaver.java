@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books on a dedicated writer thread so that callers do not wait for the file to be written.
+ * Snapshots submitted while an earlier one is being written replace each other, so only the latest of them is
+ * written next. Failed writes are reported to the error handler on the writer thread.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Consumer<IOException> errorHandler;
+    private final Thread writer;
+    private final Object lock = new Object();
+
+    // Guarded by lock
+    private ReadOnlyAddressBook pending;
+    private boolean isWriting;
+    private boolean isClosed;
+    private long writeCount;
+
+    /**
+     * Creates a saver that writes to {@code storage} and reports failed writes to {@code errorHandler},
+     * and starts its writer thread.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, Consumer<IOException> errorHandler) {
+        requireNonNull(storage);
+        requireNonNull(errorHandler);
+        this.storage = storage;
+        this.errorHandler = errorHandler;
+        writer = new Thread(this::writeSubmittedSnapshots, "address-book-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues {@code snapshot} to be written, replacing any snapshot that has not started to be written yet.
+     * {@code snapshot} must not change afterwards.
+     * @throws IllegalStateException if this saver has been closed.
+     */
+    public void submit(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        synchronized (lock) {
+            if (isClosed) {
+                throw new IllegalStateException("Saver has been closed");
+            }
+            pending = snapshot;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every submitted snapshot has been written or replaced by a later one that has been written.
+     */
+    public void flush() {
+        synchronized (lock) {
+            while (pending != null || isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warning("Interrupted while waiting for the address book to be saved");
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the last submitted snapshot, if any, and stops the writer thread.
+     */
+    public void close() {
+        synchronized (lock) {
+            isClosed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for the address book writer to stop");
+        }
+    }
+
+    /**
+     * Returns the number of snapshots written so far, which is less than the number submitted if some were
+     * replaced before they could be written or failed to be written.
+     */
+    public long getWriteCount() {
+        synchronized (lock) {
+            return writeCount;
+        }
+    }
+
+    private void writeSubmittedSnapshots() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            synchronized (lock) {
+                while (pending == null && !isClosed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        // Nothing interrupts the writer on purpose, so keep waiting for work
+                        logger.fine("Address book writer interrupted");
+                    }
+                }
+                if (pending == null) {
+                    return;
+                }
+                snapshot = pending;
+                pending = null;
+                isWriting = true;
+            }
+
+            boolean isWritten = false;
+            try {
+                storage.saveAddressBook(snapshot);
+                isWritten = true;
+            } catch (IOException e) {
+                logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+                errorHandler.accept(e);
+            } finally {
+                synchronized (lock) {
+                    isWriting = false;
+                    if (isWritten) {
+                        writeCount++;
+                    }
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+}
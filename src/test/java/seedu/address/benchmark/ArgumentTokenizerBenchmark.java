@@ -0,0 +1,85 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HACKATHON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * Compares {@link ArgumentTokenizer} with the tokenizer it replaced, which searched the arguments once for every
+ * prefix, on the arguments of long {@code add} and {@code createteam} commands.
+ * Run with {@code gradlew benchmark -Pbench=ArgumentTokenizerBenchmark}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final int OPERATIONS_PER_ROUND = 20_000;
+
+    private static final Prefix[] ADD_PREFIXES = {
+        PREFIX_NAME, PREFIX_EMAIL, PREFIX_TELEGRAM, PREFIX_GITHUB, PREFIX_SKILL, PREFIX_HACKATHON
+    };
+    private static final Prefix[] CREATE_TEAM_PREFIXES = { PREFIX_TEAM_NAME, PREFIX_HACKATHON, PREFIX_PERSON };
+
+    public static void main(String[] args) {
+        StringBuilder add = new StringBuilder(" n/Alexandra Tan Wei Ling e/alexandra.tan@example.com t/alexandra_tan"
+                + " g/alexandra-tan");
+        for (int i = 0; i < 40; i++) {
+            add.append(" sk/skill").append(i).append(" h/Hackathon ").append(i);
+        }
+        StringBuilder createTeam = new StringBuilder(" tn/Development Team h/Hackathon 2025");
+        for (int i = 1; i <= 100; i++) {
+            createTeam.append(" p/").append(i);
+        }
+        String addArgs = add.toString();
+        String createTeamArgs = createTeam.toString();
+
+        Benchmark benchmark = new Benchmark();
+        benchmark.measure("add, previous tokenizer", OPERATIONS_PER_ROUND, () ->
+                PreviousTokenizer.tokenize(addArgs, ADD_PREFIXES));
+        benchmark.measure("add, single pass tokenizer", OPERATIONS_PER_ROUND, () ->
+                ArgumentTokenizer.tokenize(addArgs, ADD_PREFIXES));
+        benchmark.measure("createteam, previous tokenizer", OPERATIONS_PER_ROUND, () ->
+                PreviousTokenizer.tokenize(createTeamArgs, CREATE_TEAM_PREFIXES));
+        benchmark.measure("createteam, single pass tokenizer", OPERATIONS_PER_ROUND, () ->
+                ArgumentTokenizer.tokenize(createTeamArgs, CREATE_TEAM_PREFIXES));
+    }
+
+    /**
+     * The tokenizer before the single pass one, kept as the baseline to compare against.
+     */
+    private static class PreviousTokenizer {
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<int[]> positions = new ArrayList<>();
+            List<Prefix> positionPrefixes = new ArrayList<>();
+            for (int p = 0; p < prefixes.length; p++) {
+                int position = argsString.indexOf(" " + prefixes[p].getPrefix());
+                while (position != -1) {
+                    positions.add(new int[] {position + 1, p});
+                    position = argsString.indexOf(" " + prefixes[p].getPrefix(), position + 1);
+                }
+            }
+            positions.sort((first, second) -> first[0] - second[0]);
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix current = new Prefix("");
+            int valueStart = 0;
+            for (int[] position : positions) {
+                argMultimap.put(current, argsString.substring(valueStart, position[0]).trim());
+                current = prefixes[position[1]];
+                valueStart = position[0] + current.getPrefix().length();
+            }
+            argMultimap.put(current, argsString.substring(valueStart).trim());
+            return argMultimap;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Times a piece of code and counts the bytes it allocates, for the benchmarks run by {@code gradlew benchmark}.
+ * Each measurement is repeated a few times after warming up, and the fastest round is reported, which is the one
+ * least disturbed by garbage collection and other work on the machine.
+ */
+public class Benchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    // Keeps the results of the code measured reachable, so that the JIT compiler cannot drop the work
+    private static volatile Object sink;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Runs {@code operation} {@code operationsPerRound} times per round and prints the time and bytes allocated
+     * per operation under {@code name}.
+     *
+     * @return the time per operation in nanoseconds.
+     */
+    public double measure(String name, int operationsPerRound, Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runRound(operationsPerRound, operation);
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long startBytes = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            long startNanos = System.nanoTime();
+            runRound(operationsPerRound, operation);
+            long nanos = System.nanoTime() - startNanos;
+            long bytes = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - startBytes;
+            bestNanos = Math.min(bestNanos, nanos);
+            bestBytes = Math.min(bestBytes, bytes);
+        }
+
+        double nanosPerOperation = (double) bestNanos / operationsPerRound;
+        System.out.printf("%-40s %12.1f ns/op %12.1f B/op%n", name, nanosPerOperation,
+                (double) bestBytes / operationsPerRound);
+        return nanosPerOperation;
+    }
+
+    private static void runRound(int operationsPerRound, Supplier<?> operation) {
+        for (int i = 0; i < operationsPerRound; i++) {
+            sink = operation.get();
+        }
+    }
+}
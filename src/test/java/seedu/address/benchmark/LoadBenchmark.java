@@ -0,0 +1,71 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures loading the address book from a data file of generated persons, plain and compressed, or from the data
+ * file given as the argument, which leaves out the memory used to generate one.
+ * The file is loaded through the journaled storage the app uses, with a journal of a few edits, and through the
+ * plain JSON storage for comparison.
+ * Run with {@code gradlew benchmark -Pbench=LoadBenchmark}.
+ */
+public class LoadBenchmark {
+
+    private static final int PERSON_COUNT = 50_000;
+    private static final int JOURNALED_EDIT_COUNT = 10;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0) {
+            measureLoad(Paths.get(args[0]));
+            return;
+        }
+
+        Path file = Files.createTempFile("load-benchmark", ".json");
+        try {
+            writeWithJournal(file, false);
+            measureLoad(file);
+            writeWithJournal(file, true);
+            measureLoad(file);
+        } finally {
+            Files.delete(file);
+            Files.deleteIfExists(JournaledAddressBookStorage.getJournalPath(file));
+        }
+    }
+
+    private static void writeWithJournal(Path file, boolean isCompressed) throws IOException {
+        AddressBook addressBook = SampleData.addressBook(PERSON_COUNT);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(file, false, isCompressed);
+        storage.saveAddressBook(addressBook);
+        for (int i = 0; i < JOURNALED_EDIT_COUNT; i++) {
+            addressBook.removePerson(addressBook.getPersonList().get(i));
+            storage.saveAddressBook(addressBook);
+        }
+    }
+
+    private static void measureLoad(Path file) throws IOException {
+        System.out.printf("%s, %d bytes%n", file, Files.size(file));
+        Benchmark benchmark = new Benchmark();
+        measureLoad(benchmark, "load journaled", new JournaledAddressBookStorage(file));
+        measureLoad(benchmark, "load json", new JsonAddressBookStorage(file));
+    }
+
+    private static void measureLoad(Benchmark benchmark, String name, AddressBookStorage storage) {
+        benchmark.measure(name, 1, () -> {
+            try {
+                return storage.readAddressBook();
+            } catch (DataLoadingException e) {
+                throw new UncheckedIOException(new IOException(e));
+            }
+        });
+    }
+}
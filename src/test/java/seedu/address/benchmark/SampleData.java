@@ -0,0 +1,47 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Generates address books of realistic shape and any size for the benchmarks.
+ */
+public class SampleData {
+
+    /**
+     * Returns an address book of {@code personCount} distinct persons, each with a few skills and hackathons.
+     */
+    public static AddressBook addressBook(int personCount) {
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            String word = letters(i);
+            persons.add(new PersonBuilder()
+                    .withName("Participant " + word + " Tan")
+                    .withEmail("participant." + word + "@example-mail.com")
+                    .withTelegram("tele_" + word + "_user")
+                    .withGitHub("git-" + word)
+                    .withSkills("java", "python", "c++", "skill" + (i % 50))
+                    .withInterestedHackathons("Hack " + (i % 20), "Hack Winter " + (i % 7))
+                    .withParticipatingHackathons("Hack " + (i % 20))
+                    .build());
+        }
+        return new AddressBook(persons, new ArrayList<>());
+    }
+
+    /**
+     * Returns {@code number} written with the letters a to z as digits, so that it can be used in names.
+     */
+    public static String letters(int number) {
+        StringBuilder word = new StringBuilder();
+        int remaining = number;
+        do {
+            word.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return word.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures writing a large address book to its data file, indented and compact, plain and compressed.
+ * Run with {@code gradlew benchmark -Pbench=SaveBenchmark}.
+ */
+public class SaveBenchmark {
+
+    private static final int PERSON_COUNT = 50_000;
+
+    public static void main(String[] args) throws IOException {
+        AddressBook addressBook = SampleData.addressBook(PERSON_COUNT);
+        Path file = Files.createTempFile("save-benchmark", ".json");
+        try {
+            measureSave("save, indented", false, false, addressBook, file);
+            measureSave("save, compact", true, false, addressBook, file);
+            measureSave("save, compressed", false, true, addressBook, file);
+            measureSave("save, compact, compressed", true, true, addressBook, file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void measureSave(String name, boolean isCompact, boolean isCompressed, AddressBook addressBook,
+            Path file) throws IOException {
+        // Older generations are not kept, so that only writing the file is measured
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(file, isCompact, isCompressed, 1);
+        new Benchmark().measure(name, 1, () -> {
+            try {
+                storage.saveAddressBook(addressBook);
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        System.out.printf("%-40s %12d bytes%n", "", Files.size(file));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares loading the address book from a JSON data file and from a binary snapshot, for address books of the sizes
+ * given as the arguments or of 10,000 and 100,000 persons.
+ * Run with {@code gradlew benchmark -Pbench=SnapshotBenchmark}.
+ */
+public class SnapshotBenchmark {
+
+    private static final int[] DEFAULT_PERSON_COUNTS = {10_000, 100_000};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            for (int personCount : DEFAULT_PERSON_COUNTS) {
+                measure(personCount);
+            }
+        }
+        for (String arg : args) {
+            measure(Integer.parseInt(arg));
+        }
+    }
+
+    private static void measure(int personCount) throws IOException {
+        AddressBook addressBook = SampleData.addressBook(personCount);
+        Path jsonFile = Files.createTempFile("snapshot-benchmark", ".json");
+        Path snapshotFile = Files.createTempFile("snapshot-benchmark", ".bin");
+        try {
+            JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFile, false, false, 1);
+            BinaryAddressBookStorage snapshotStorage = new BinaryAddressBookStorage(snapshotFile);
+            jsonStorage.saveAddressBook(addressBook);
+            snapshotStorage.saveAddressBook(addressBook);
+
+            measureLoad("load " + personCount + ", json", jsonStorage, jsonFile);
+            measureLoad("load " + personCount + ", snapshot", snapshotStorage, snapshotFile);
+        } finally {
+            Files.delete(jsonFile);
+            Files.delete(snapshotFile);
+        }
+    }
+
+    private static void measureLoad(String name, AddressBookStorage storage, Path file) throws IOException {
+        new Benchmark().measure(name, 1, () -> {
+            try {
+                return storage.readAddressBook();
+            } catch (DataLoadingException e) {
+                throw new UncheckedIOException(new IOException(e));
+            }
+        });
+        System.out.printf("%-40s %12d bytes%n", "", Files.size(file));
+    }
+}
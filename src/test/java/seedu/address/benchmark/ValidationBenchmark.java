@@ -0,0 +1,87 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GitHub;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.skill.Skill;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures the validation of the fields of persons, on its own with {@code String.matches} and with the validators
+ * of the value classes, and as part of loading a large data file.
+ * Run with {@code gradlew benchmark -Pbench=ValidationBenchmark}.
+ */
+public class ValidationBenchmark {
+
+    private static final int PERSON_COUNT = 50_000;
+
+    public static void main(String[] args) throws IOException {
+        AddressBook addressBook = SampleData.addressBook(PERSON_COUNT);
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+
+        Benchmark benchmark = new Benchmark();
+        benchmark.measure("validate fields, String.matches", 1, () -> validateWithRegex(persons));
+        benchmark.measure("validate fields, value classes", 1, () -> validate(persons));
+
+        Path file = Files.createTempFile("validation-benchmark", ".json");
+        try {
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+            storage.saveAddressBook(addressBook);
+            benchmark.measure("load " + PERSON_COUNT + " persons", 1, () -> {
+                try {
+                    return storage.readAddressBook();
+                } catch (DataLoadingException e) {
+                    throw new UncheckedIOException(new IOException(e));
+                }
+            });
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static int validateWithRegex(List<Person> persons) {
+        int validCount = 0;
+        for (Person person : persons) {
+            validCount += person.getName().fullName.matches(Name.VALIDATION_REGEX) ? 1 : 0;
+            validCount += person.getEmail().value.matches(Email.VALIDATION_REGEX) ? 1 : 0;
+            validCount += person.getTelegram().value.matches(Telegram.VALIDATION_REGEX) ? 1 : 0;
+            validCount += person.getGitHub().value.matches(GitHub.VALIDATION_REGEX) ? 1 : 0;
+            for (Skill skill : person.getSkills()) {
+                validCount += skill.skillName.matches(Skill.VALIDATION_REGEX) ? 1 : 0;
+            }
+            for (HackathonName hackathon : person.getInterestedHackathons()) {
+                validCount += hackathon.value.matches(HackathonName.VALIDATION_REGEX) ? 1 : 0;
+            }
+        }
+        return validCount;
+    }
+
+    private static int validate(List<Person> persons) {
+        int validCount = 0;
+        for (Person person : persons) {
+            validCount += Name.isValidName(person.getName().fullName) ? 1 : 0;
+            validCount += Email.isValidEmail(person.getEmail().value) ? 1 : 0;
+            validCount += Telegram.isValidTelegram(person.getTelegram().value) ? 1 : 0;
+            validCount += GitHub.isValidGitHub(person.getGitHub().value) ? 1 : 0;
+            for (Skill skill : person.getSkills()) {
+                validCount += Skill.isValidSkillName(skill.skillName) ? 1 : 0;
+            }
+            for (HackathonName hackathon : person.getInterestedHackathons()) {
+                validCount += HackathonName.isValidHackathonName(hackathon.value) ? 1 : 0;
+            }
+        }
+        return validCount;
+    }
+}
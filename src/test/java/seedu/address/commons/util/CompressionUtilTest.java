@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressionUtilTest {
+
+    private static final byte[] CONTENT = "{ \"persons\": [] }".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void writeCompressed_decompressIfCompressed_sameContent() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressionUtil.writeCompressed(out, compressed -> compressed.write(CONTENT));
+        byte[] compressedContent = out.toByteArray();
+
+        assertTrue(CompressionUtil.isCompressed(compressedContent));
+        try (InputStream in = CompressionUtil.decompressIfCompressed(
+                new BufferedInputStream(new ByteArrayInputStream(compressedContent)))) {
+            assertArrayEquals(CONTENT, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void decompressIfCompressed_plainContent_unchanged() throws Exception {
+        assertFalse(CompressionUtil.isCompressed(CONTENT));
+        try (InputStream in = CompressionUtil.decompressIfCompressed(
+                new BufferedInputStream(new ByteArrayInputStream(CONTENT)))) {
+            assertArrayEquals(CONTENT, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void decompressIfCompressed_emptyOrShortContent_unchanged() throws Exception {
+        assertFalse(CompressionUtil.isCompressed(new byte[0]));
+        assertFalse(CompressionUtil.isCompressed(new byte[] {0x1f}));
+        try (InputStream in = CompressionUtil.decompressIfCompressed(
+                new BufferedInputStream(new ByteArrayInputStream(new byte[0])))) {
+            assertArrayEquals(new byte[0], in.readAllBytes());
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,53 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void removeExtension() {
+        assertEquals(Path.of("data", "mate"), FileUtil.removeExtension(Path.of("data", "mate.json")));
+        assertEquals(Path.of("data", "mate.tar"), FileUtil.removeExtension(Path.of("data", "mate.tar.gz")));
+
+        // no extension -> unchanged
+        assertEquals(Path.of("data", "mate"), FileUtil.removeExtension(Path.of("data", "mate")));
+        assertEquals(Path.of(".mate"), FileUtil.removeExtension(Path.of(".mate")));
+    }
+
+    @Test
+    public void writeAtomically_missingFile_createdWithParentDirs() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTemporaryPath(file)));
+    }
+
+    @Test
+    public void writeAtomically_interruptedWrite_fileUnchangedAndTemporaryDeleted() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Disk full");
+        }));
+        assertThrows(IllegalStateException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes(StandardCharsets.UTF_8));
+            throw new IllegalStateException();
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTemporaryPath(file)));
+    }
+
+    @Test
+    public void moveAtomically_targetExists_targetReplaced() throws Exception {
+        Path source = testFolder.resolve("source.txt");
+        Path target = testFolder.resolve("target.txt");
+        FileUtil.writeToFile(source, "new content");
+        FileUtil.writeToFile(target, "old content");
+
+        FileUtil.moveAtomically(source, target);
+
+        assertEquals("new content", FileUtil.readFromFile(target));
+        assertFalse(Files.exists(source));
+    }
 }
@@ -0,0 +1,94 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.ParallelFilterUtil.ExpensivePredicate;
+
+public class ParallelFilterUtilTest {
+
+    @Test
+    public void precompute_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelFilterUtil.precompute(null, x -> true));
+        assertThrows(NullPointerException.class, () -> ParallelFilterUtil.precompute(new ArrayList<>(), null));
+    }
+
+    @Test
+    public void precompute_smallList_returnsSamePredicate() {
+        Predicate<String> predicate = s -> s.isEmpty();
+        assertSame(predicate, ParallelFilterUtil.precompute(List.of("a", "b"), predicate));
+    }
+
+    @Test
+    public void precompute_cheapPredicateOnLargeList_returnsSamePredicate() {
+        Predicate<String> predicate = s -> s.isEmpty();
+        assertSame(predicate, ParallelFilterUtil.precompute(createItems(ParallelFilterUtil.PARALLEL_THRESHOLD),
+                predicate));
+    }
+
+    @Test
+    public void precompute_largeList_matchesSequentialResult() {
+        List<String> items = createItems(ParallelFilterUtil.PARALLEL_THRESHOLD * 3 + 7);
+        AtomicInteger evaluations = new AtomicInteger();
+        ExpensivePredicate<String> predicate = s -> {
+            evaluations.incrementAndGet();
+            return s.hashCode() % 3 == 0;
+        };
+
+        Predicate<String> precomputed = ParallelFilterUtil.precompute(items, predicate);
+        assertEquals(items.size(), evaluations.get());
+
+        // filtering the snapshot only looks up the precomputed results
+        List<String> expected = items.stream().filter(s -> s.hashCode() % 3 == 0).collect(Collectors.toList());
+        assertEquals(expected, items.stream().filter(precomputed).collect(Collectors.toList()));
+        assertEquals(items.size(), evaluations.get());
+    }
+
+    @Test
+    public void precompute_elementNotInSnapshot_fallsBackToPredicate() {
+        List<String> items = createItems(ParallelFilterUtil.PARALLEL_THRESHOLD);
+        ExpensivePredicate<String> predicate = s -> s.startsWith("new");
+        Predicate<String> precomputed = ParallelFilterUtil.precompute(items, predicate);
+
+        assertFalse(precomputed.test(items.get(0)));
+        assertTrue(precomputed.test(new String("new item")));
+        assertFalse(precomputed.test(new String("other item")));
+    }
+
+    @Test
+    public void release_precomputedPredicate_testsWithPredicate() {
+        List<String> items = createItems(ParallelFilterUtil.PARALLEL_THRESHOLD);
+        AtomicInteger evaluations = new AtomicInteger();
+        ExpensivePredicate<String> predicate = s -> {
+            evaluations.incrementAndGet();
+            return s.equals("item0");
+        };
+        Predicate<String> precomputed = ParallelFilterUtil.precompute(items, predicate);
+        evaluations.set(0);
+
+        ParallelFilterUtil.release(precomputed);
+
+        assertTrue(precomputed.test(items.get(0)));
+        assertFalse(precomputed.test(items.get(1)));
+        assertEquals(2, evaluations.get());
+    }
+
+    private static List<String> createItems(int count) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add("item" + i);
+        }
+        return items;
+    }
+}
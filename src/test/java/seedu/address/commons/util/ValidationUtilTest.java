@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric('a'));
+        assertTrue(ValidationUtil.isAlphanumeric('Z'));
+        assertTrue(ValidationUtil.isAlphanumeric('0'));
+
+        // Only ASCII counts, as in \p{Alnum}
+        assertFalse(ValidationUtil.isAlphanumeric('é'));
+        assertFalse(ValidationUtil.isAlphanumeric('٣'));
+        assertFalse(ValidationUtil.isAlphanumeric('_'));
+        assertFalse(ValidationUtil.isAlphanumeric(' '));
+    }
+
+    @Test
+    public void isAlphanumericPhrase() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericPhrase(null));
+
+        assertFalse(ValidationUtil.isAlphanumericPhrase(""));
+        assertFalse(ValidationUtil.isAlphanumericPhrase(" "));
+        assertFalse(ValidationUtil.isAlphanumericPhrase(" Hack"));
+        assertFalse(ValidationUtil.isAlphanumericPhrase("Hack-a-thon"));
+
+        assertTrue(ValidationUtil.isAlphanumericPhrase("9"));
+        assertTrue(ValidationUtil.isAlphanumericPhrase("Hack 2025 "));
+    }
+
+    @Test
+    public void isSeparatedWord_lengthLimits() {
+        assertFalse(ValidationUtil.isSeparatedWord("abcd", "_", 5, 8)); // too short
+        assertTrue(ValidationUtil.isSeparatedWord("ab_cd", "_", 5, 8));
+        assertTrue(ValidationUtil.isSeparatedWord("abc_defg", "_", 5, 8));
+        assertFalse(ValidationUtil.isSeparatedWord("abc_defgh", "_", 5, 8)); // too long
+    }
+
+    @Test
+    public void isSeparatedWord_range() {
+        String test = "--a.b+c--";
+        assertTrue(ValidationUtil.isSeparatedWord(test, 2, 7, "+."));
+        assertFalse(ValidationUtil.isSeparatedWord(test, 2, 7, "+")); // '.' is not a separator
+        assertFalse(ValidationUtil.isSeparatedWord(test, 1, 7, "+.-")); // starts with a separator
+        assertFalse(ValidationUtil.isSeparatedWord(test, 2, 8, "+.-")); // ends with a separator
+        assertFalse(ValidationUtil.isSeparatedWord(test, 0, 3, "+.-")); // separators next to each other
+        assertFalse(ValidationUtil.isSeparatedWord(test, 4, 4, "+.")); // empty
+    }
+}
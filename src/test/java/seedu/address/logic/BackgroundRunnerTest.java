@@ -0,0 +1,55 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.BackgroundRunner.Completion;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class BackgroundRunnerTest {
+
+    private final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+    private final BackgroundRunner backgroundRunner = new BackgroundRunner(completions::add);
+
+    @AfterEach
+    public void tearDown() {
+        backgroundRunner.close();
+    }
+
+    @Test
+    public void run_workDone_completionPassesResultToContinuation() throws Exception {
+        backgroundRunner.run(() -> "first", result -> new CommandResult(result));
+        backgroundRunner.run(() -> "second", result -> new CommandResult(result));
+
+        List<String> feedback = new ArrayList<>();
+        feedback.add(completions.poll(10, TimeUnit.SECONDS).complete().getFeedbackToUser());
+        feedback.add(completions.poll(10, TimeUnit.SECONDS).complete().getFeedbackToUser());
+        assertEquals(List.of("first", "second"), feedback);
+    }
+
+    @Test
+    public void run_workThrows_completionThrowsCommandException() throws Exception {
+        backgroundRunner.run(() -> {
+            throw new IllegalStateException("search failed");
+        }, result -> new CommandResult("unreachable"));
+
+        Completion completion = completions.poll(10, TimeUnit.SECONDS);
+        assertThrows(CommandException.class, String.format(BackgroundRunner.MESSAGE_FAILED, "search failed"),
+                completion::complete);
+    }
+
+    @Test
+    public void run_nullWork_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> backgroundRunner.run(null, result -> null));
+    }
+}
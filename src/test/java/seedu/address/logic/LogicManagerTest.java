@@ -9,21 +9,37 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.SKILL_DESC_PYTHON;
 import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.BackgroundRunner.Completion;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AutoTeamCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -33,6 +49,7 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -83,6 +100,171 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommands_savesOnlyAfterChanges() throws Exception {
+        CountingStorage storage = createCountingStorage();
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, storage.saveCount);
+
+        logic.execute(PersonUtil.getAddCommand(ALICE));
+        assertEquals(1, storage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, storage.saveCount);
+
+        logic.execute(PersonUtil.getAddCommand(BENSON));
+        assertEquals(2, storage.saveCount);
+    }
+
+    @Test
+    public void execute_runScript_savesOnceAndReportsFailedLines() throws Exception {
+        CountingStorage storage = createCountingStorage();
+        logic = new LogicManager(model, storage);
+        Path script = writeScript("# onboarding", PersonUtil.getAddCommand(ALICE), "",
+                "delete p/9", PersonUtil.getAddCommand(BENSON), "unknownCommand");
+
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script)
+                + String.format(RunCommand.MESSAGE_FAILED_LINES, 2)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 4, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 6, MESSAGE_UNKNOWN_COMMAND),
+                result.getFeedbackToUser());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void execute_runScriptWithCheckpoints_savesAtEachCheckpoint() throws Exception {
+        CountingStorage storage = createCountingStorage();
+        logic = new LogicManager(model, storage);
+        Path script = writeScript(PersonUtil.getAddCommand(ALICE), PersonUtil.getAddCommand(BENSON),
+                PersonUtil.getAddCommand(CARL), PersonUtil.getAddCommand(DANIEL));
+
+        logic.execute(RunCommand.COMMAND_WORD + " " + script + " every/2");
+
+        // Two checkpoints; the save at the end of the command is skipped as the last checkpoint saved everything
+        assertEquals(2, storage.saveCount);
+    }
+
+    @Test
+    public void execute_runScriptWithRollback_undoesAllChanges() throws Exception {
+        CountingStorage storage = createCountingStorage();
+        logic = new LogicManager(model, storage);
+        Path script = writeScript(PersonUtil.getAddCommand(ALICE), "delete p/9", PersonUtil.getAddCommand(BENSON));
+
+        assertCommandException(RunCommand.COMMAND_WORD + " " + script + " onerror/rollback",
+                String.format(RunCommand.MESSAGE_ROLLED_BACK, 2, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, script));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void execute_scriptRunsScript_reportsNestedScript() throws Exception {
+        Path script = writeScript(RunCommand.COMMAND_WORD + " other.txt");
+
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + script);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 0, script)
+                + String.format(RunCommand.MESSAGE_FAILED_LINES, 1)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 1, RunCommand.MESSAGE_NESTED_SCRIPT),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_writeBehind_savesBeforeClosing() throws Exception {
+        Path filePath = temporaryFolder.resolve("writeBehind.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, true);
+
+        logic.execute(PersonUtil.getAddCommand(ALICE));
+        logic.execute(PersonUtil.getAddCommand(BENSON));
+        logic.close();
+
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_writeBehindStorageThrowsAdException_reportsToSaveErrorHandler() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_AD_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        logic = new LogicManager(model, storage, true);
+        logic.setSaveErrorHandler(errors::add);
+
+        // The command succeeds as the save fails after it returns
+        logic.execute(PersonUtil.getAddCommand(ALICE));
+        logic.close();
+
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage())), errors);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_afterWriteBehindSaveFailed_savesAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("retry.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw DUMMY_AD_EXCEPTION;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BlockingQueue<String> errors = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, storage, true);
+        logic.setSaveErrorHandler(errors::add);
+
+        logic.execute(PersonUtil.getAddCommand(ALICE));
+        errors.poll(10, TimeUnit.SECONDS);
+        // Changes nothing, but the failed save must still be retried
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.close();
+
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_autoTeamWithCompletionHandler_savesWhenCompleted() throws Exception {
+        CountingStorage storage = createCountingStorage();
+        logic = new LogicManager(model, storage);
+        BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        logic.setCompletionHandler(completions::add);
+        model.addPerson(new PersonBuilder(ALICE).withInterestedHackathons("NUSHack").build());
+        model.addPerson(new PersonBuilder(BENSON).withInterestedHackathons("NUSHack").build());
+
+        try {
+            CommandResult result = logic.execute(AutoTeamCommand.COMMAND_WORD + " h/NUSHack size/2");
+            assertEquals(String.format(AutoTeamCommand.MESSAGE_IN_PROGRESS, "NUSHack"), result.getFeedbackToUser());
+            int saveCountBeforeCompletion = storage.saveCount;
+
+            completions.poll(10, TimeUnit.SECONDS).complete();
+
+            assertEquals(1, model.getAddressBook().getTeamList().size());
+            assertEquals(saveCountBeforeCompletion + 1, storage.saveCount);
+        } finally {
+            logic.close();
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -173,4 +355,32 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+
+    private CountingStorage createCountingStorage() {
+        return new CountingStorage(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    /**
+     * A {@code StorageManager} that counts how often the address book is saved.
+     */
+    private static class CountingStorage extends StorageManager {
+        private int saveCount = 0;
+
+        CountingStorage(JsonAddressBookStorage addressBookStorage, JsonUserPrefsStorage userPrefsStorage) {
+            super(addressBookStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.benchmark.SampleData;
+import seedu.address.commons.util.ParallelFilterUtil;
+import seedu.address.commons.util.ParallelFilterUtil.ExpensivePredicate;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.Skill;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchResultCacheTest {
+
+    private ObservableList<Person> persons;
+    private AtomicInteger evaluations;
+    private Predicate<Person> meierPredicate;
+
+    @BeforeEach
+    public void setUp() {
+        persons = FXCollections.observableArrayList(getTypicalPersons());
+        evaluations = new AtomicInteger();
+        meierPredicate = person -> {
+            evaluations.incrementAndGet();
+            return person.getName().fullName.contains("Meier");
+        };
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchResultCache(persons, 0));
+    }
+
+    @Test
+    public void lookup_repeatedKey_doesNotRescan() {
+        SearchResultCache cache = new SearchResultCache(persons);
+        List<Person> expected = List.of(BENSON, DANIEL);
+
+        assertEquals(expected, filter(cache.lookup("meier", meierPredicate)));
+        int evaluationsAfterMiss = evaluations.get();
+        assertEquals(persons.size(), evaluationsAfterMiss);
+
+        assertEquals(expected, filter(cache.lookup("meier", meierPredicate)));
+        assertEquals(evaluationsAfterMiss, evaluations.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void lookup_hitOnLargeAddressBook_publishedWithoutReevaluating() {
+        Model model = new ModelManager(SampleData.addressBook(ParallelFilterUtil.PARALLEL_THRESHOLD), new UserPrefs());
+        ObservableList<Person> largePersons = model.getAddressBook().getPersonList();
+        Predicate<Person> isSkilled = person -> person.getSkills().contains(new Skill("skill7"));
+        List<Person> expected = largePersons.stream().filter(isSkilled).collect(Collectors.toList());
+        ExpensivePredicate<Person> predicate = person -> {
+            evaluations.incrementAndGet();
+            return isSkilled.test(person);
+        };
+        SearchResultCache cache = new SearchResultCache(largePersons);
+        model.updateFilteredPersonList(cache.lookup("skill7", predicate));
+        int evaluationsAfterMiss = evaluations.get();
+
+        Predicate<Person> cached = cache.lookup("skill7", predicate);
+        // The cached result is a lookup, so the model filters with it directly instead of precomputing it again
+        assertSame(cached, ParallelFilterUtil.precompute(largePersons, cached));
+        model.updateFilteredPersonList(cached);
+
+        assertEquals(expected, model.getFilteredPersonList());
+        assertEquals(evaluationsAfterMiss, evaluations.get());
+    }
+
+    @Test
+    public void lookup_afterListChanges_returnsPatchedResult() {
+        SearchResultCache cache = new SearchResultCache(persons);
+        cache.lookup("meier", meierPredicate);
+
+        persons.add(HOON);
+        persons.remove(BENSON);
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Tan").build();
+        persons.set(persons.indexOf(DANIEL), editedDaniel);
+
+        Predicate<Person> cached = cache.lookup("meier", meierPredicate);
+        assertEquals(List.of(HOON), filter(cached));
+        assertFalse(cached.test(editedDaniel));
+    }
+
+    @Test
+    public void lookup_personNotYetSeen_testsPredicateDirectly() {
+        SearchResultCache cache = new SearchResultCache(persons);
+        Predicate<Person> cached = cache.lookup("meier", meierPredicate);
+        assertTrue(cached.test(new PersonBuilder().withName("New Meier").build()));
+        assertFalse(cached.test(ALICE));
+    }
+
+    @Test
+    public void lookup_overCapacity_evictsLeastRecentlyUsed() {
+        SearchResultCache cache = new SearchResultCache(persons, 2);
+        cache.lookup("first", meierPredicate);
+        cache.lookup("second", meierPredicate);
+        cache.lookup("first", meierPredicate);
+        cache.lookup("third", meierPredicate);
+        assertEquals(2, cache.size());
+
+        // "first" was used more recently than "second", so it is still cached
+        int evaluationsBefore = evaluations.get();
+        cache.lookup("first", meierPredicate);
+        assertEquals(evaluationsBefore, evaluations.get());
+        cache.lookup("second", meierPredicate);
+        assertEquals(evaluationsBefore + persons.size(), evaluations.get());
+    }
+
+    @Test
+    public void clear_removesAllResults() {
+        SearchResultCache cache = new SearchResultCache(persons);
+        cache.lookup("meier", meierPredicate);
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
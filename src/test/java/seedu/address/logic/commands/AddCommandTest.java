@@ -10,6 +10,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,7 +24,11 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.hackathon.HackathonName;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.IndexStatistics;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.teambuilding.CompatibilityMatrix;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -133,6 +140,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -158,6 +170,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithSkillLevels(List<SkillRequirement> requirements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public IndexStatistics getIndexStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompatibilityMatrix getCompatibilityMatrix(HackathonName hackathonName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTeam(seedu.address.model.team.Team team) {
             throw new AssertionError("This method should not be called.");
@@ -193,6 +225,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addTeamsWithMembers(List<seedu.address.model.team.Team> teams) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public seedu.address.model.team.Team removeFromTeam(seedu.address.model.team.Team team, Person person) {
             throw new AssertionError("This method should not be called.");
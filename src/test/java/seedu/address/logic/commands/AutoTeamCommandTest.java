@@ -0,0 +1,187 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.BackgroundRunner;
+import seedu.address.logic.BackgroundRunner.Completion;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AutoTeamCommand}.
+ */
+public class AutoTeamCommandTest {
+
+    private static final HackathonName NUS_HACK = new HackathonName("NUSHack");
+
+    private static final Person AMY = interested("Amy", "python");
+    private static final Person BOB = interested("Bob", "react");
+    private static final Person CAT = interested("Cat", "python");
+    private static final Person DAN = interested("Dan", "react");
+    private static final Person EVE = interested("Eve", "docker");
+    private static final Person ASSIGNED = new PersonBuilder().withName("Fay").withEmail("fay@example.com")
+            .withTelegram("fay_tg").withGitHub("fay-github").withSkills("python")
+            .withInterestedHackathons("NUSHack").withParticipatingHackathons("NUSHack").build();
+    private static final Person OTHER_HACKATHON = new PersonBuilder().withName("Gus").withEmail("gus@example.com")
+            .withTelegram("gus_tg").withGitHub("gus-github").withSkills("python")
+            .withInterestedHackathons("iNTUition").build();
+
+    @Test
+    public void execute_availablePool_formsTeamsAndAssignsMembers() throws Exception {
+        Model model = createModel(AMY, BOB, CAT, DAN, EVE, ASSIGNED, OTHER_HACKATHON);
+        CommandResult result = new AutoTeamCommand(NUS_HACK, 2).execute(model);
+
+        assertEquals(String.format(AutoTeamCommand.MESSAGE_SUCCESS, 2, 2, NUS_HACK)
+                + String.format(AutoTeamCommand.MESSAGE_UNASSIGNED, 1), result.getFeedbackToUser());
+        assertTrue(result.isShowTeams());
+
+        List<Team> teams = model.getAddressBook().getTeamList();
+        assertEquals(2, teams.size());
+        assertEquals(new TeamName("NUSHack Team 1"), teams.get(0).getTeamName());
+        assertEquals(new TeamName("NUSHack Team 2"), teams.get(1).getTeamName());
+
+        int assignedCount = 0;
+        for (Person person : model.getAddressBook().getPersonList()) {
+            boolean isInNewTeam = teams.stream().anyMatch(team -> team.getMembers().contains(person));
+            if (isInNewTeam) {
+                assignedCount++;
+                assertEquals(1, person.getTeams().size());
+                assertTrue(person.getParticipatingHackathons().contains(NUS_HACK));
+                assertFalse(person.getInterestedHackathons().contains(NUS_HACK));
+            }
+        }
+        assertEquals(4, assignedCount);
+        for (Team team : teams) {
+            assertEquals(NUS_HACK, team.getHackathonName());
+            assertEquals(2, team.getSize());
+            // Both pythons and both reacts are split up so that every team covers both skills
+            Set<String> skillNames = new HashSet<>();
+            team.getMembers().forEach(member -> member.getSkills().forEach(skill -> skillNames.add(skill.skillName)));
+            assertTrue(skillNames.size() >= 2);
+        }
+    }
+
+    @Test
+    public void execute_takenTeamName_skipsName() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(AMY);
+        addressBook.addPerson(BOB);
+        addressBook.addTeam(new Team(new TeamName("Squad 1")));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        new AutoTeamCommand(NUS_HACK, 2, "Squad").execute(model);
+
+        assertTrue(model.hasTeam(new Team(new TeamName("Squad 2"))));
+        assertEquals(2, model.getAddressBook().getTeamList().size());
+    }
+
+    @Test
+    public void execute_backgroundRunner_formsTeamsOnCompletion() throws Exception {
+        Model model = createModel(AMY, BOB, CAT, DAN, EVE, ASSIGNED, OTHER_HACKATHON);
+        BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        BackgroundRunner backgroundRunner = new BackgroundRunner(completions::add);
+        AutoTeamCommand command = new AutoTeamCommand(NUS_HACK, 2);
+        command.setBackgroundRunner(backgroundRunner);
+
+        try {
+            CommandResult result = command.execute(model);
+            assertEquals(String.format(AutoTeamCommand.MESSAGE_IN_PROGRESS, NUS_HACK), result.getFeedbackToUser());
+
+            Completion completion = completions.poll(10, TimeUnit.SECONDS);
+            // Teams are only added once the completion runs on the thread executing commands
+            assertTrue(model.getAddressBook().getTeamList().isEmpty());
+            CommandResult completedResult = completion.complete();
+            assertEquals(String.format(AutoTeamCommand.MESSAGE_SUCCESS, 2, 2, NUS_HACK)
+                    + String.format(AutoTeamCommand.MESSAGE_UNASSIGNED, 1), completedResult.getFeedbackToUser());
+            assertEquals(2, model.getAddressBook().getTeamList().size());
+        } finally {
+            backgroundRunner.close();
+        }
+    }
+
+    @Test
+    public void execute_poolChangedBeforeCompletion_throwsCommandException() throws Exception {
+        Model model = createModel(AMY, BOB, CAT, DAN, EVE, ASSIGNED, OTHER_HACKATHON);
+        BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        BackgroundRunner backgroundRunner = new BackgroundRunner(completions::add);
+        AutoTeamCommand command = new AutoTeamCommand(NUS_HACK, 2);
+        command.setBackgroundRunner(backgroundRunner);
+
+        try {
+            command.execute(model);
+            Completion completion = completions.poll(10, TimeUnit.SECONDS);
+            model.deletePerson(EVE);
+
+            assertThrows(CommandException.class, String.format(AutoTeamCommand.MESSAGE_POOL_CHANGED, NUS_HACK),
+                    completion::complete);
+            assertTrue(model.getAddressBook().getTeamList().isEmpty());
+        } finally {
+            backgroundRunner.close();
+        }
+    }
+
+    @Test
+    public void execute_poolTooSmall_throwsCommandException() {
+        Model model = createModel(AMY, ASSIGNED, OTHER_HACKATHON);
+        assertCommandFailure(new AutoTeamCommand(NUS_HACK, 2), model,
+                String.format(AutoTeamCommand.MESSAGE_POOL_TOO_SMALL, 1, NUS_HACK, 2));
+    }
+
+    @Test
+    public void equals() {
+        AutoTeamCommand command = new AutoTeamCommand(NUS_HACK, 4);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new AutoTeamCommand(NUS_HACK, 4, "NUSHack Team")));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different team size -> returns false
+        assertFalse(command.equals(new AutoTeamCommand(NUS_HACK, 5)));
+
+        // different name prefix -> returns false
+        assertFalse(command.equals(new AutoTeamCommand(NUS_HACK, 4, "Squad")));
+
+        // different hackathon -> returns false
+        assertFalse(command.equals(new AutoTeamCommand(new HackathonName("iNTUition"), 4)));
+    }
+
+    private static Person interested(String name, String skill) {
+        return new PersonBuilder().withName(name).withEmail(name.toLowerCase() + "@example.com")
+                .withTelegram(name.toLowerCase() + "_tg").withGitHub(name.toLowerCase() + "-github")
+                .withSkills(skill).withInterestedHackathons("NUSHack").build();
+    }
+
+    private static Model createModel(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+}
@@ -10,7 +10,9 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -27,8 +29,11 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.hackathon.HackathonName;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.IndexStatistics;
+import seedu.address.model.search.SkillRequirement;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.TeamName;
+import seedu.address.model.teambuilding.CompatibilityMatrix;
 import seedu.address.testutil.TeamBuilder;
 import seedu.address.testutil.TypicalPersons;
 
@@ -256,6 +261,11 @@ public class CreateTeamCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -281,6 +291,26 @@ public class CreateTeamCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsWithSkillLevels(List<SkillRequirement> requirements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public IndexStatistics getIndexStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompatibilityMatrix getCompatibilityMatrix(HackathonName hackathonName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addTeam(Team team) {
             throw new AssertionError("This method should not be called.");
@@ -316,6 +346,11 @@ public class CreateTeamCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addTeamsWithMembers(List<Team> teams) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Team removeFromTeam(Team team, Person person) {
             throw new AssertionError("This method should not be called.");
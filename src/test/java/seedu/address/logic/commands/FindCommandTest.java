@@ -11,14 +11,22 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
+import seedu.address.logic.SearchResultCache;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.QueryClause;
+import seedu.address.model.search.QueryField;
+import seedu.address.model.search.RelevanceRanker;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -188,11 +196,62 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fieldScopedQuery_personsFound() {
+        String expectedMessage = Messages.getPersonsListedOverview(1);
+        PersonQuery query = new PersonQuery(Arrays.asList(
+                new QueryClause(QueryField.NAME, Arrays.asList("e"), false),
+                new QueryClause(QueryField.SKILL, Arrays.asList("java", "python"), false),
+                new QueryClause(QueryField.NAME, Arrays.asList("alice"), true)));
+        FindCommand command = new FindCommand(query);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_ranked_showsMostRelevantFirst() {
+        NameContainsKeywordsPredicate predicate = preparePredicate("Meier");
+        FindCommand command = new FindCommand(predicate).ranked(1);
+        expectedModel.updateFilteredPersonList(BENSON::equals);
+        assertCommandSuccess(command, model, Messages.getPersonsListedOverview(1), expectedModel);
+
+        // matches are ordered by relevance instead of address book order
+        List<Person> matches = getTypicalAddressBook().getPersonList().stream()
+                .filter(preparePredicate("e"))
+                .collect(Collectors.toList());
+        List<Person> expected = new RelevanceRanker(Arrays.asList("e")).topK(matches, 3);
+        new FindCommand(preparePredicate("e")).ranked(3).execute(model);
+        assertEquals(expected, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void getCacheKey_sameKeywordsInAnyOrderOrCase_equal() {
+        FindCommand first = new FindCommand(preparePredicate("Alice java"));
+        FindCommand second = new FindCommand(preparePredicate("JAVA alice"));
+        FindCommand third = new FindCommand(preparePredicate("alice"));
+        assertEquals(first.getCacheKey(), second.getCacheKey());
+        assertFalse(first.getCacheKey().equals(third.getCacheKey()));
+    }
+
+    @Test
+    public void execute_withSearchResultCache_matchesUncachedResult() {
+        String expectedMessage = Messages.getPersonsListedOverview(1);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Alice java");
+        FindCommand command = new FindCommand(predicate);
+        command.setSearchResultCache(new SearchResultCache(model.getAddressBook().getPersonList()));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", limit=" + FindCommand.NO_LIMIT + "}";
         assertEquals(expected, findCommand.toString());
     }
 
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.ExperienceLevel;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindSkillCommand}.
+ */
+public class FindSkillCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        List<SkillRequirement> firstRequirements =
+                Collections.singletonList(new SkillRequirement("java", ExperienceLevel.BEGINNER));
+        List<SkillRequirement> secondRequirements =
+                Collections.singletonList(new SkillRequirement("java", ExperienceLevel.ADVANCED));
+        FindSkillCommand firstCommand = new FindSkillCommand(firstRequirements);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FindSkillCommand(firstRequirements)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different level -> returns false
+        assertFalse(firstCommand.equals(new FindSkillCommand(secondRequirements)));
+    }
+
+    @Test
+    public void execute_anyLevel_personsFound() {
+        SkillRequirement requirement = new SkillRequirement("python", ExperienceLevel.BEGINNER);
+        FindSkillCommand command = new FindSkillCommand(Collections.singletonList(requirement));
+        expectedModel.updateFilteredPersonList(requirement);
+        assertCommandSuccess(command, model, Messages.getPersonsListedOverview(1), expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_levelAboveEveryPerson_noPersonFound() {
+        SkillRequirement requirement = new SkillRequirement("java", ExperienceLevel.INTERMEDIATE);
+        FindSkillCommand command = new FindSkillCommand(Collections.singletonList(requirement));
+        expectedModel.updateFilteredPersonList(requirement);
+        assertCommandSuccess(command, model, Messages.getPersonsListedOverview(0), expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleSkills_intersectionFound() {
+        List<SkillRequirement> requirements = Arrays.asList(
+                new SkillRequirement("python", ExperienceLevel.BEGINNER),
+                new SkillRequirement("java", ExperienceLevel.BEGINNER));
+        FindSkillCommand command = new FindSkillCommand(requirements);
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(command, model, Messages.getPersonsListedOverview(0), expectedModel);
+
+        FindSkillCommand javaCommand = new FindSkillCommand(
+                Collections.singletonList(new SkillRequirement("java", ExperienceLevel.BEGINNER)));
+        javaCommand.execute(model);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<SkillRequirement> requirements =
+                Collections.singletonList(new SkillRequirement("java", ExperienceLevel.BEGINNER));
+        FindSkillCommand command = new FindSkillCommand(requirements);
+        String expected = FindSkillCommand.class.getCanonicalName() + "{requirements=" + requirements + "}";
+        assertEquals(expected, command.toString());
+    }
+}
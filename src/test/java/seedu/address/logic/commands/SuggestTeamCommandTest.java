@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SuggestTeamCommand}.
+ */
+public class SuggestTeamCommandTest {
+
+    private static final HackathonName NUS_HACK = new HackathonName("NUSHack");
+    private static final List<SkillRequirement> PYTHON_AND_REACT = Arrays.asList(
+            new SkillRequirement("python", ExperienceLevel.BEGINNER),
+            new SkillRequirement("react", ExperienceLevel.BEGINNER));
+
+    private static final Person PYTHON = new PersonBuilder().withName("Amy").withEmail("amy@example.com")
+            .withTelegram("amy_tg").withGitHub("amy-github").withSkills("python")
+            .withInterestedHackathons("NUSHack").build();
+    private static final Person REACT = new PersonBuilder().withName("Bob").withEmail("bob@example.com")
+            .withTelegram("bob_tg").withGitHub("bob-github").withSkills("react")
+            .withInterestedHackathons("NUSHack").build();
+    private static final Person ASSIGNED_REACT = new PersonBuilder().withName("Cat").withEmail("cat@example.com")
+            .withTelegram("cat_tg").withGitHub("cat-github").withSkills("react", "python")
+            .withInterestedHackathons("NUSHack").withParticipatingHackathons("NUSHack").build();
+    private static final Person OTHER_HACKATHON = new PersonBuilder().withName("Dan").withEmail("dan@example.com")
+            .withTelegram("dan_tg").withGitHub("dan-github").withSkills("python", "react")
+            .withInterestedHackathons("iNTUition").build();
+
+    @Test
+    public void execute_poolCoversSkills_listsSuggestedMembers() throws Exception {
+        Model model = createModel(OTHER_HACKATHON, ASSIGNED_REACT, REACT, PYTHON);
+        CommandResult result = new SuggestTeamCommand(NUS_HACK, PYTHON_AND_REACT, 2).execute(model);
+
+        assertEquals(String.format(SuggestTeamCommand.MESSAGE_SUCCESS, 2, NUS_HACK, 2, 2),
+                result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredPersonList().size());
+        assertTrue(model.getFilteredPersonList().containsAll(Arrays.asList(PYTHON, REACT)));
+    }
+
+    @Test
+    public void execute_skillNotCovered_reportsMissingSkill() throws Exception {
+        Model model = createModel(PYTHON);
+        CommandResult result = new SuggestTeamCommand(NUS_HACK, PYTHON_AND_REACT, 3).execute(model);
+
+        assertEquals(String.format(SuggestTeamCommand.MESSAGE_SUCCESS, 1, NUS_HACK, 1, 2)
+                + String.format(SuggestTeamCommand.MESSAGE_MISSING_SKILLS, "react"), result.getFeedbackToUser());
+        assertEquals(Collections.singletonList(PYTHON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noAvailablePerson_throwsCommandException() {
+        Model model = createModel(ASSIGNED_REACT, OTHER_HACKATHON);
+        assertCommandFailure(new SuggestTeamCommand(NUS_HACK, PYTHON_AND_REACT, 2), model,
+                String.format(SuggestTeamCommand.MESSAGE_EMPTY_POOL, NUS_HACK));
+    }
+
+    @Test
+    public void equals() {
+        SuggestTeamCommand command = new SuggestTeamCommand(NUS_HACK, PYTHON_AND_REACT, 2);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new SuggestTeamCommand(NUS_HACK, PYTHON_AND_REACT, 2)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different team size -> returns false
+        assertFalse(command.equals(new SuggestTeamCommand(NUS_HACK, PYTHON_AND_REACT, 3)));
+
+        // different hackathon -> returns false
+        assertFalse(command.equals(new SuggestTeamCommand(new HackathonName("iNTUition"), PYTHON_AND_REACT, 2)));
+    }
+
+    private static Model createModel(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+}
@@ -2,29 +2,43 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNABBREVIATED_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AutoTeamCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteTeamCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindSkillCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListTeamCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.hackathon.HackathonName;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.ExperienceLevel;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -40,6 +54,13 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_autoTeam() throws Exception {
+        AutoTeamCommand command = (AutoTeamCommand) parser.parseCommand(
+                AutoTeamCommand.COMMAND_WORD + " h/NUSHack size/5");
+        assertEquals(new AutoTeamCommand(new HackathonName("NUSHack"), 5), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -77,6 +98,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findSkill() throws Exception {
+        FindSkillCommand command = (FindSkillCommand) parser.parseCommand(
+                FindSkillCommand.COMMAND_WORD + " sk/python:intermediate");
+        assertEquals(new FindSkillCommand(Arrays.asList(
+                new SkillRequirement("python", ExperienceLevel.INTERMEDIATE))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -89,6 +118,60 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " onboarding.txt every/100");
+        assertEquals(new RunCommand(Paths.get("onboarding.txt"), 100, false), command);
+    }
+
+    @Test
+    public void parseCommand_mixedCaseAndSurroundingWhitespace_parsed() throws Exception {
+        assertTrue(parser.parseCommand("  LiSt \t") instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_uniquePrefix_parsedAsFullCommand() throws Exception {
+        assertTrue(parser.parseCommand("listt") instanceof ListTeamCommand);
+        assertEquals(new RunCommand(Paths.get("onboarding.txt"), 100, false),
+                parser.parseCommand("ru onboarding.txt every/100"));
+    }
+
+    @Test
+    public void parseCommand_prefixOfFullWordOnlyCommand_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNABBREVIATED_COMMAND, ClearCommand.COMMAND_WORD), ()
+            -> parser.parseCommand("cl"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNABBREVIATED_COMMAND, ExitCommand.COMMAND_WORD), ()
+            -> parser.parseCommand("ex"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNABBREVIATED_COMMAND,
+                DeleteTeamCommand.COMMAND_WORD), () -> parser.parseCommand("deletet 1"));
+    }
+
+    @Test
+    public void parseCommand_ambiguousPrefix_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "del", "delete, deleteteam"), ()
+            -> parser.parseCommand("del p/1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "e", "edit, exit"), ()
+            -> parser.parseCommand("e"));
+    }
+
+    @Test
+    public void parseCommand_alias_parsedAsAliasedCommand() throws Exception {
+        AddressBookParser aliasedParser = new AddressBookParser(Collections.singletonMap("ls", "LIST"));
+        assertTrue(aliasedParser.parseCommand("ls") instanceof ListCommand);
+        assertEquals(Collections.singletonMap("ls", ListCommand.COMMAND_WORD), aliasedParser.getAliases());
+    }
+
+    @Test
+    public void constructor_invalidAliases_skipped() {
+        Map<String, String> aliases = new LinkedHashMap<>();
+        aliases.put("list", ExitCommand.COMMAND_WORD);
+        aliases.put("two words", ListCommand.COMMAND_WORD);
+        aliases.put("x", "unknownCommand");
+        aliases.put("q", ExitCommand.COMMAND_WORD);
+        assertEquals(Collections.singletonMap("q", ExitCommand.COMMAND_WORD),
+                new AddressBookParser(aliases).getAliases());
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -136,6 +136,36 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestPrefixTaken() {
+        Prefix t = new Prefix("t/");
+        Prefix tn = new Prefix("tn/");
+        Prefix tnx = new Prefix("tnx/");
+        String argsString = " t/first tn/second tnx/third tn third tnx/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, t, tn, tnx);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, t, "first");
+        assertArgumentPresent(argMultimap, tn, "second");
+        assertArgumentPresent(argMultimap, tnx, "third tn third", "");
+    }
+
+    @Test
+    public void tokenize_samePrefixesInDifferentOrder_sameResult() {
+        String argsString = "preamble p/ pSlash value -t dashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        ArgumentMultimap reorderedArgMultimap = ArgumentTokenizer.tokenize(argsString, dashT, pSlash);
+        for (ArgumentMultimap result : new ArgumentMultimap[] {argMultimap, reorderedArgMultimap}) {
+            assertPreamblePresent(result, "preamble");
+            assertArgumentPresent(result, pSlash, "pSlash value");
+            assertArgumentPresent(result, dashT, "dashT value");
+        }
+
+        // Prefixes left out are not recognized, even after being used with the same arguments
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value -t dashT value");
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
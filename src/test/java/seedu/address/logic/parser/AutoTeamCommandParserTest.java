@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AutoTeamCommand;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.team.TeamName;
+
+public class AutoTeamCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutoTeamCommand.MESSAGE_USAGE);
+
+    private AutoTeamCommandParser parser = new AutoTeamCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAutoTeamCommand() {
+        assertParseSuccess(parser, " h/NUSHack size/5", new AutoTeamCommand(new HackathonName("NUSHack"), 5));
+        assertParseSuccess(parser, " size/4 h/NUSHack tn/Squad",
+                new AutoTeamCommand(new HackathonName("NUSHack"), 4, "Squad"));
+    }
+
+    @Test
+    public void parse_missingFields_throwsParseException() {
+        assertParseFailure(parser, " size/4", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " h/NUSHack", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "preamble h/NUSHack size/4", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " h/NUSHack size/0", AutoTeamCommand.MESSAGE_INVALID_TEAM_SIZE);
+        assertParseFailure(parser, " h/NUSHack size/-3", AutoTeamCommand.MESSAGE_INVALID_TEAM_SIZE);
+        assertParseFailure(parser, " h/NUSHack size/4 tn/Squad*", TeamName.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_throwsParseException() {
+        assertParseFailure(parser, " h/NUSHack size/4 size/5",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SIZE));
+    }
+}
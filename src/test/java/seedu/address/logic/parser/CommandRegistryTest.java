@@ -0,0 +1,101 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNABBREVIATED_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final Parser<ListCommand> listParser = arguments -> new ListCommand();
+    private final Parser<ListCommand> listTeamParser = arguments -> new ListCommand();
+    private final Parser<ClearCommand> clearParser = arguments -> new ClearCommand();
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        Map<String, Parser<? extends Command>> parsers = new LinkedHashMap<>();
+        parsers.put("list", listParser);
+        parsers.put("listteam", listTeamParser);
+        parsers.put("LISTTEAMS", listTeamParser);
+        parsers.put("clear", clearParser);
+        registry = new CommandRegistry(parsers);
+    }
+
+    @Test
+    public void resolve_commandWord_returnsCommandWord() throws Exception {
+        assertEquals("list", registry.resolve("list"));
+        assertEquals("listteams", registry.resolve("ListTeams"));
+    }
+
+    @Test
+    public void resolve_uniquePrefix_returnsCommandWord() throws Exception {
+        assertEquals("clear", registry.resolve("c"));
+        assertEquals("clear", registry.resolve("CLEA"));
+    }
+
+    @Test
+    public void resolve_prefixOfFullWordOnly_throwsParseException() throws Exception {
+        CommandRegistry fullWordRegistry = new CommandRegistry(Map.of("list", listParser, "clear", clearParser),
+                Set.of("CLEAR"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNABBREVIATED_COMMAND, "clear"),
+            () -> fullWordRegistry.resolve("cl"));
+        assertEquals("clear", fullWordRegistry.resolve("Clear"));
+        assertEquals("list", fullWordRegistry.resolve("l"));
+    }
+
+    @Test
+    public void constructor_fullWordOnlyNotCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandRegistry(Map.of("list", listParser),
+                Set.of("clear")));
+    }
+
+    @Test
+    public void resolve_sharedPrefix_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "li", "list, listteam, listteams"),
+            () -> registry.resolve("li"));
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "listt", "listteam, listteams"),
+            () -> registry.resolve("listt"));
+    }
+
+    @Test
+    public void resolve_unknownWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.resolve("listteamsx"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.resolve("x"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.resolve(""));
+    }
+
+    @Test
+    public void getParser_alias_returnsParserOfAliasedCommand() throws Exception {
+        registry.addAlias("LS", "List");
+        assertEquals("list", registry.resolve("ls"));
+        assertSame(listParser, registry.getParser("Ls"));
+
+        // an alias is only matched in full
+        registry.addAlias("wipe", "clear");
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.resolve("wip"));
+    }
+
+    @Test
+    public void addAlias_invalidAlias_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.addAlias("list", "clear"));
+        assertThrows(IllegalArgumentException.class, () -> registry.addAlias(" ", "clear"));
+        assertThrows(IllegalArgumentException.class, () -> registry.addAlias("l s", "list"));
+        assertThrows(IllegalArgumentException.class, () -> registry.addAlias("ls", "unknown"));
+        assertThrows(NullPointerException.class, () -> registry.addAlias(null, "list"));
+    }
+}
@@ -10,6 +10,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.search.PersonQuery;
+import seedu.address.model.search.QueryClause;
+import seedu.address.model.search.QueryField;
 
 public class FindCommandParserTest {
 
@@ -60,4 +63,53 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " k/AI Hackathon 2024 k/John k/Python Developer", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldScopedArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(Arrays.asList(
+                new QueryClause(QueryField.KEYWORD, Arrays.asList("Alice"), false),
+                new QueryClause(QueryField.NAME, Arrays.asList("Tan"), false),
+                new QueryClause(QueryField.SKILL, Arrays.asList("java", "python:ADVANCED"), false),
+                new QueryClause(QueryField.HACKATHON, Arrays.asList("NUSHack"), false),
+                new QueryClause(QueryField.TEAM, Arrays.asList("Alpha Team"), true))));
+
+        // skill names are lowercased and levels are normalised
+        assertParseSuccess(parser, " k/Alice n/Tan sk/Java|python:advanced h/NUSHack tn/!Alpha Team",
+                expectedFindCommand);
+    }
+
+    @Test
+    public void parse_negatedKeyword_returnsFieldScopedFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(Arrays.asList(
+                new QueryClause(QueryField.KEYWORD, Arrays.asList("Alice"), true))));
+        assertParseSuccess(parser, " k/!Alice", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFieldScopedArgs_throwsParseException() {
+        // empty alternative
+        assertParseFailure(parser, " sk/java|", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+
+        // only a negation marker
+        assertParseFailure(parser, " n/!", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_withLimit_returnsRankedFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("java"))).ranked(5);
+        assertParseSuccess(parser, " k/java top/5", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, " k/java top/0", FindCommand.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " k/java top/ten", FindCommand.MESSAGE_INVALID_LIMIT);
+
+        // limit without any search term
+        assertParseFailure(parser, " top/5", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
 }
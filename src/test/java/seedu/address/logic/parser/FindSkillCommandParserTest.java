@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindSkillCommand;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+
+public class FindSkillCommandParserTest {
+
+    private FindSkillCommandParser parser = new FindSkillCommandParser();
+
+    @Test
+    public void parse_noSkill_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSkillCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "python",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSkillCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidSkill_throwsParseException() {
+        assertParseFailure(parser, " sk/#sharp", Skill.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " sk/python:expert", ExperienceLevel.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindSkillCommand() {
+        FindSkillCommand expectedCommand = new FindSkillCommand(Arrays.asList(
+                new SkillRequirement("python", ExperienceLevel.INTERMEDIATE),
+                new SkillRequirement("react", ExperienceLevel.BEGINNER)));
+        assertParseSuccess(parser, " sk/Python:intermediate sk/react", expectedCommand);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " onboarding.txt",
+                new RunCommand(Paths.get("onboarding.txt"), RunCommand.NO_CHECKPOINTS, false));
+        assertParseSuccess(parser, " data/onboarding 2.txt every/500 onerror/rollback",
+                new RunCommand(Paths.get("data/onboarding 2.txt"), 500, true));
+        assertParseSuccess(parser, " onboarding.txt onerror/Continue",
+                new RunCommand(Paths.get("onboarding.txt"), RunCommand.NO_CHECKPOINTS, false));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " every/5", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " onboarding.txt every/0", RunCommand.MESSAGE_INVALID_CHECKPOINT);
+        assertParseFailure(parser, " onboarding.txt every/often", RunCommand.MESSAGE_INVALID_CHECKPOINT);
+        assertParseFailure(parser, " onboarding.txt onerror/stop", RunCommand.MESSAGE_INVALID_ON_ERROR);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_throwsParseException() {
+        assertParseFailure(parser, " onboarding.txt every/5 every/6",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_CHECKPOINT));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SuggestTeamCommand;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.ExperienceLevel;
+
+public class SuggestTeamCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestTeamCommand.MESSAGE_USAGE);
+
+    private SuggestTeamCommandParser parser = new SuggestTeamCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSuggestTeamCommand() {
+        SuggestTeamCommand expectedCommand = new SuggestTeamCommand(new HackathonName("NUSHack"), Arrays.asList(
+                new SkillRequirement("python", ExperienceLevel.BEGINNER),
+                new SkillRequirement("react", ExperienceLevel.INTERMEDIATE)), 4);
+        assertParseSuccess(parser, " h/NUSHack sk/Python sk/react:intermediate size/4", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingFields_throwsParseException() {
+        assertParseFailure(parser, " sk/python size/4", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " h/NUSHack size/4", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " h/NUSHack sk/python", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "preamble h/NUSHack sk/python size/4", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTeamSize_throwsParseException() {
+        assertParseFailure(parser, " h/NUSHack sk/python size/0", SuggestTeamCommand.MESSAGE_INVALID_TEAM_SIZE);
+        assertParseFailure(parser, " h/NUSHack sk/python size/four", SuggestTeamCommand.MESSAGE_INVALID_TEAM_SIZE);
+    }
+
+    @Test
+    public void parse_duplicateSize_throwsParseException() {
+        assertParseFailure(parser, " h/NUSHack sk/python size/4 size/5",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SIZE));
+    }
+}
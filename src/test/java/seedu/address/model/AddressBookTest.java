@@ -6,7 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SKILL_JAVA;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTeams.ALPHA_TEAM;
+import static seedu.address.testutil.TypicalTeams.BETA_TEAM;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,7 +24,9 @@ import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TeamBuilder;
 
 public class AddressBookTest {
 
@@ -31,6 +37,27 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void constructor_personsAndTeams_success() {
+        AddressBook typicalAddressBook = getTypicalAddressBookWithTeams();
+        assertEquals(typicalAddressBook, new AddressBook(typicalAddressBook.getPersonList(),
+                typicalAddressBook.getTeamList()));
+    }
+
+    @Test
+    public void constructor_duplicatePersons_throwsDuplicatePersonException() {
+        Person aliceWithBensonGitHub = new PersonBuilder(ALICE).withGitHub(BENSON.getGitHub().value).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                new AddressBook(Arrays.asList(aliceWithBensonGitHub, BENSON), Collections.emptyList()));
+    }
+
+    @Test
+    public void constructor_duplicateTeams_throwsDuplicateTeamException() {
+        Team renamedAlphaTeam = new TeamBuilder(BETA_TEAM).withTeamName("ALPHA team").build();
+        assertThrows(DuplicateTeamException.class, () ->
+                new AddressBook(Collections.emptyList(), Arrays.asList(ALPHA_TEAM, renamedAlphaTeam)));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -83,6 +110,20 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_personAndTeamChanges_increases() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getModificationCount();
+        assertTrue(afterAdd > initialCount);
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getModificationCount() > afterAdd);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -11,12 +12,17 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.hackathon.HackathonName;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.IndexStatistics;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +99,39 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortFilteredPersonList_resetByFilterUpdate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        modelManager.sortFilteredPersonList(Comparator.comparing((Person person) -> person.getName().fullName)
+                .reversed());
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getIndexStatistics_personListChanged_rebuilt() {
+        modelManager.addPerson(ALICE);
+        IndexStatistics statistics = modelManager.getIndexStatistics();
+        assertSame(statistics, modelManager.getIndexStatistics());
+
+        modelManager.addPerson(BENSON);
+        assertEquals(2, modelManager.getIndexStatistics().getPersonCount());
+    }
+
+    @Test
+    public void getCompatibilityMatrix_personsChangedBeforeAndAfterFirstUse_upToDate() {
+        HackathonName hackathonName = new HackathonName("NUSHack");
+        modelManager.addPerson(new PersonBuilder(ALICE).withInterestedHackathons("NUSHack").build());
+        assertEquals(1, modelManager.getCompatibilityMatrix(hackathonName).size());
+
+        modelManager.addPerson(new PersonBuilder(BENSON).withInterestedHackathons("NUSHack").build());
+        assertEquals(2, modelManager.getCompatibilityMatrix(hackathonName).size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
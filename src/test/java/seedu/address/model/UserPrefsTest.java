@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +22,46 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setCommandAliases_nullAliases_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setCommandAliases(null));
+    }
+
+    @Test
+    public void equals_differentCommandAliases_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs aliased = new UserPrefs();
+        aliased.setCommandAliases(Collections.singletonMap("ls", "list"));
+        assertFalse(userPrefs.equals(aliased));
+        assertEquals(aliased, new UserPrefs(aliased));
+    }
+
+    @Test
+    public void equals_differentDataFileCompact_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs compact = new UserPrefs();
+        compact.setDataFileCompact(true);
+        assertFalse(userPrefs.equals(compact));
+        assertEquals(compact, new UserPrefs(compact));
+    }
+
+    @Test
+    public void equals_differentDataFileCompressed_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs compressed = new UserPrefs();
+        compressed.setDataFileCompressed(true);
+        assertFalse(userPrefs.equals(compressed));
+        assertEquals(compressed, new UserPrefs(compressed));
+    }
+
+    @Test
+    public void equals_differentDataStorageType_returnsFalse() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs sharded = new UserPrefs();
+        sharded.setDataStorageType(DataStorageType.SHARDED);
+        assertFalse(userPrefs.equals(sharded));
+        assertEquals(sharded, new UserPrefs(sharded));
+    }
+
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidatorTestUtil.assertAgreesWithRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +38,11 @@ public class HackathonNameTest {
         assertTrue(HackathonName.isValidHackathonName("h")); // single character
     }
 
+    @Test
+    public void isValidHackathonName_agreesWithValidationRegex() {
+        assertAgreesWithRegex(HackathonName::isValidHackathonName, HackathonName.VALIDATION_REGEX, "aZ9 _", 6);
+    }
+
     @Test
     public void equals_sameHackathonName_returnsTrue() {
         HackathonName hackathon = new HackathonName("NUSHack");
@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class DuplicatePersonDetectorTest {
+
+    private final DuplicatePersonDetector detector = new DuplicatePersonDetector();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> detector.add(null));
+    }
+
+    @Test
+    public void add_distinctPersons_returnsTrue() {
+        assertTrue(detector.add(ALICE));
+        assertTrue(detector.add(BENSON));
+        assertTrue(detector.add(CARL));
+    }
+
+    @Test
+    public void add_sameIdentityInDifferentCase_returnsFalse() {
+        detector.add(ALICE);
+        assertFalse(detector.add(new PersonBuilder(BENSON).withName(ALICE.getName().fullName.toUpperCase()).build()));
+    }
+
+    @Test
+    public void add_sharedContactField_returnsFalse() {
+        detector.add(ALICE);
+        assertFalse(detector.add(new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build()));
+        assertFalse(detector.add(new PersonBuilder(BENSON).withTelegram(ALICE.getTelegram().value).build()));
+        assertFalse(detector.add(new PersonBuilder(BENSON).withGitHub(ALICE.getGitHub().value).build()));
+    }
+
+    @Test
+    public void add_afterDuplicate_duplicateNotRecorded() {
+        detector.add(ALICE);
+        // Shares the name of ALICE, so its email is not recorded and BENSON with that email is still distinct
+        assertFalse(detector.add(new PersonBuilder(ALICE).withEmail(BENSON.getEmail().value).build()));
+        assertTrue(detector.add(BENSON));
+    }
+}
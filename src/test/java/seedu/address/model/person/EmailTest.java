@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidatorTestUtil.assertAgreesWithRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -66,6 +67,11 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_agreesWithValidationRegex() {
+        assertAgreesWithRegex(Email::isValidEmail, Email.VALIDATION_REGEX, "a9@.-_", 7);
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidatorTestUtil.assertAgreesWithRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +38,11 @@ public class GitHubTest {
         assertTrue(GitHub.isValidGitHub("john-doe123"));
     }
 
+    @Test
+    public void isValidGitHub_agreesWithValidationRegex() {
+        assertAgreesWithRegex(GitHub::isValidGitHub, GitHub.VALIDATION_REGEX, "aZ9-_", 6);
+    }
+
     @Test
     public void equals() {
         GitHub github = new GitHub("john-doe");
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidatorTestUtil.assertAgreesWithRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +42,11 @@ public class NameTest {
         assertTrue(Name.isValidName("Mary Anne")); // with space
     }
 
+    @Test
+    public void isValidName_agreesWithValidationRegex() {
+        assertAgreesWithRegex(Name::isValidName, Name.VALIDATION_REGEX, "aZ /-", 6);
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -10,8 +10,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -49,6 +54,22 @@ public class PersonTest {
         assertTrue(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void isSameState() {
+        // same values -> returns true
+        assertTrue(ALICE.isSameState(new PersonBuilder(ALICE).build()));
+
+        // different person -> returns false
+        assertFalse(ALICE.isSameState(BOB));
+
+        // only a skill level differs -> equal, but not the same state
+        Person advancedAlice = new PersonBuilder(ALICE)
+                .withSkillSet(Set.of(new Skill("java", ExperienceLevel.ADVANCED))).build();
+        assertTrue(ALICE.equals(advancedAlice));
+        assertFalse(ALICE.isSameState(advancedAlice));
+        assertFalse(advancedAlice.isSameState(ALICE));
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidatorTestUtil.assertAgreesWithRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +44,11 @@ public class TelegramTest {
         assertTrue(Telegram.isValidTelegram("john_doe_1"));
     }
 
+    @Test
+    public void isValidTelegram_agreesWithValidationRegex() {
+        assertAgreesWithRegex(Telegram::isValidTelegram, Telegram.VALIDATION_REGEX, "aZ9_@-", 7);
+    }
+
     @Test
     public void equals() {
         Telegram telegram = new Telegram("johndoe");
@@ -165,6 +165,31 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSharedContactFields_throwsDuplicatePersonException() {
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value.toUpperCase()).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(BOB, aliceWithBobEmail)));
+    }
+
+    @Test
+    public void getModificationCount_mutations_incrementsOnlyOnSuccess() {
+        assertEquals(0, uniquePersonList.getModificationCount());
+        uniquePersonList.add(ALICE);
+        assertEquals(1, uniquePersonList.getModificationCount());
+
+        // failed mutations leave the count unchanged
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(BOB));
+        uniquePersonList.contains(ALICE);
+        assertEquals(1, uniquePersonList.getModificationCount());
+
+        uniquePersonList.setPerson(ALICE, BOB);
+        uniquePersonList.remove(BOB);
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertEquals(4, uniquePersonList.getModificationCount());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
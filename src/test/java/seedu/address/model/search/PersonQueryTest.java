@@ -0,0 +1,139 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private static final Person PYTHON_EXPERT = new PersonBuilder().withName("Alice Tan")
+            .withEmail("alice@example.com")
+            .withSkillSet(Set.of(new Skill("python", ExperienceLevel.ADVANCED), new Skill("java")))
+            .withInterestedHackathons("NUSHack")
+            .withTeam(new Team(new TeamName("Alpha Team")))
+            .build();
+    private static final Person JAVA_BEGINNER = new PersonBuilder().withName("Bob Lim")
+            .withEmail("bob@example.com")
+            .withSkills("java")
+            .withParticipatingHackathons("iNTUition")
+            .build();
+
+    @Test
+    public void equals() {
+        QueryClause nameClause = clause(QueryField.NAME, false, "alice");
+        PersonQuery firstQuery = new PersonQuery(Collections.singletonList(nameClause));
+        PersonQuery secondQuery = new PersonQuery(Collections.singletonList(clause(QueryField.NAME, true, "alice")));
+
+        // same object -> returns true
+        assertTrue(firstQuery.equals(firstQuery));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(new PersonQuery(Collections.singletonList(
+                clause(QueryField.NAME, false, "alice")))));
+
+        // different types -> returns false
+        assertFalse(firstQuery.equals(1));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+
+        // different negation -> returns false
+        assertFalse(firstQuery.equals(secondQuery));
+    }
+
+    @Test
+    public void test_fieldScopedClauses() {
+        // name and email are substring matches
+        assertTrue(clause(QueryField.NAME, false, "ali").test(PYTHON_EXPERT));
+        assertFalse(clause(QueryField.NAME, false, "ali").test(JAVA_BEGINNER));
+        assertTrue(clause(QueryField.EMAIL, false, "BOB@").test(JAVA_BEGINNER));
+
+        // skills match exactly, and the level must match if given
+        assertTrue(clause(QueryField.SKILL, false, "python").test(PYTHON_EXPERT));
+        assertTrue(clause(QueryField.SKILL, false, "python:ADVANCED").test(PYTHON_EXPERT));
+        assertFalse(clause(QueryField.SKILL, false, "python:BEGINNER").test(PYTHON_EXPERT));
+        assertFalse(clause(QueryField.SKILL, false, "pyth").test(PYTHON_EXPERT));
+
+        // hackathons match interested and participating hackathons, ignoring case
+        assertTrue(clause(QueryField.HACKATHON, false, "nushack").test(PYTHON_EXPERT));
+        assertTrue(clause(QueryField.HACKATHON, false, "iNTUition").test(JAVA_BEGINNER));
+        assertFalse(clause(QueryField.HACKATHON, false, "NUSHack").test(JAVA_BEGINNER));
+
+        // teams
+        assertTrue(clause(QueryField.TEAM, false, "alpha team").test(PYTHON_EXPERT));
+        assertFalse(clause(QueryField.TEAM, false, "alpha team").test(JAVA_BEGINNER));
+
+        // keywords search all fields
+        assertTrue(clause(QueryField.KEYWORD, false, "NUS").test(PYTHON_EXPERT));
+    }
+
+    @Test
+    public void test_negationAndAlternatives() {
+        QueryClause pythonOrJava = clause(QueryField.SKILL, false, "python", "rust");
+        assertTrue(pythonOrJava.test(PYTHON_EXPERT));
+        assertFalse(pythonOrJava.test(JAVA_BEGINNER));
+
+        QueryClause notPythonNorRust = clause(QueryField.SKILL, true, "python", "rust");
+        assertFalse(notPythonNorRust.test(PYTHON_EXPERT));
+        assertTrue(notPythonNorRust.test(JAVA_BEGINNER));
+
+        PersonQuery query = new PersonQuery(Arrays.asList(clause(QueryField.SKILL, false, "java"),
+                clause(QueryField.NAME, true, "alice")));
+        assertFalse(query.test(PYTHON_EXPERT));
+        assertTrue(query.test(JAVA_BEGINNER));
+    }
+
+    @Test
+    public void plan_ordersMostSelectiveCheapestClauseFirst() {
+        IndexStatistics statistics = new IndexStatistics(Arrays.asList(PYTHON_EXPERT, JAVA_BEGINNER));
+        assertEquals(2, statistics.countWithSkill("java"));
+        assertEquals(1, statistics.countWithSkill("python", ExperienceLevel.ADVANCED));
+        assertEquals(1, statistics.countInHackathon("nushack"));
+        assertEquals(0, statistics.countInTeam("beta"));
+
+        QueryClause keyword = clause(QueryField.KEYWORD, false, "a");
+        QueryClause commonSkill = clause(QueryField.SKILL, false, "java");
+        QueryClause hackathon = clause(QueryField.HACKATHON, false, "NUSHack");
+        QueryClause name = clause(QueryField.NAME, false, "bob");
+        PersonQuery query = new PersonQuery(Arrays.asList(keyword, commonSkill, hackathon, name));
+
+        QueryPlan plan = query.plan(statistics);
+
+        // the cheap name clause is tried before the hackathon clause,
+        // and clauses that are not expected to reject anyone are evaluated last
+        assertEquals(Arrays.asList(name, hackathon, keyword, commonSkill), plan.getOrderedClauses());
+
+        // planning does not change the result
+        for (Person person : Arrays.asList(PYTHON_EXPERT, JAVA_BEGINNER)) {
+            assertEquals(query.test(person), plan.test(person));
+        }
+    }
+
+    @Test
+    public void estimateSelectivity_negatedAndAlternatives() {
+        IndexStatistics statistics = new IndexStatistics(Arrays.asList(PYTHON_EXPERT, JAVA_BEGINNER));
+        assertEquals(0.5, clause(QueryField.SKILL, false, "python").estimateSelectivity(statistics), 1e-9);
+        assertEquals(0.5, clause(QueryField.SKILL, true, "python").estimateSelectivity(statistics), 1e-9);
+        assertEquals(1.0, clause(QueryField.SKILL, false, "python", "java").estimateSelectivity(statistics), 1e-9);
+        assertEquals(0.0, clause(QueryField.TEAM, false, "Beta").estimateSelectivity(statistics), 1e-9);
+    }
+
+    private static QueryClause clause(QueryField field, boolean isNegated, String... values) {
+        List<String> valueList = Arrays.asList(values);
+        return new QueryClause(field, valueList, isNegated);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.testutil.PersonBuilder;
+
+public class RelevanceRankerTest {
+
+    private static final Person EXACT_NAME = new PersonBuilder().withName("Java").withTelegram("exact_tg")
+            .withGitHub("exact-github").withEmail("exact@example.com").build();
+    private static final Person PARTIAL_NAME = new PersonBuilder().withName("Javan Lee").withTelegram("partial_tg")
+            .withGitHub("partial-github").withEmail("partial@example.com").build();
+    private static final Person HANDLE = new PersonBuilder().withName("Handle Person").withTelegram("java_tg")
+            .withGitHub("handle-github").withEmail("handle@example.com").build();
+    private static final Person ADVANCED_SKILL = new PersonBuilder().withName("Advanced Person")
+            .withTelegram("advanced_tg").withGitHub("advanced-github").withEmail("advanced@example.com")
+            .withSkillSet(Set.of(new Skill("java", ExperienceLevel.ADVANCED))).build();
+    private static final Person BEGINNER_SKILL = new PersonBuilder().withName("Beginner Person")
+            .withTelegram("beginner_tg").withGitHub("beginner-github").withEmail("beginner@example.com")
+            .withSkills("java").build();
+    private static final Person HACKATHON = new PersonBuilder().withName("Hackathon Person")
+            .withTelegram("hackathon_tg").withGitHub("hackathon-github").withEmail("hackathon@example.com")
+            .withInterestedHackathons("JavaJam").build();
+    private static final Person UNRELATED = new PersonBuilder().withName("Unrelated Person")
+            .withTelegram("unrelated_tg").withGitHub("unrelated-github").withEmail("unrelated@example.com").build();
+
+    @Test
+    public void score_fieldWeights_orderedByField() {
+        RelevanceRanker ranker = new RelevanceRanker(Collections.singletonList("Java"));
+        assertTrue(ranker.score(EXACT_NAME) > ranker.score(PARTIAL_NAME));
+        assertTrue(ranker.score(PARTIAL_NAME) > ranker.score(HANDLE));
+        assertTrue(ranker.score(HANDLE) > ranker.score(ADVANCED_SKILL));
+        assertTrue(ranker.score(ADVANCED_SKILL) > ranker.score(BEGINNER_SKILL));
+        assertTrue(ranker.score(BEGINNER_SKILL) > ranker.score(HACKATHON));
+        assertEquals(0, ranker.score(UNRELATED));
+    }
+
+    @Test
+    public void score_wordOfName_scoresExactName() {
+        int exactScore = RelevanceRanker.WEIGHT_EXACT_NAME + RelevanceRanker.WEIGHT_COVERAGE;
+        int partialScore = RelevanceRanker.WEIGHT_NAME + RelevanceRanker.WEIGHT_COVERAGE;
+        Person person = new PersonBuilder().withName("Jo Ann  Joanne Lee").build();
+
+        assertEquals(exactScore, new RelevanceRanker(List.of("jo")).score(person));
+        assertEquals(exactScore, new RelevanceRanker(List.of("ann")).score(person));
+        assertEquals(exactScore, new RelevanceRanker(List.of("joanne")).score(person));
+        assertEquals(exactScore, new RelevanceRanker(List.of("lee")).score(person));
+        assertEquals(partialScore, new RelevanceRanker(List.of("anne")).score(person));
+        assertEquals(partialScore, new RelevanceRanker(List.of("le")).score(person));
+    }
+
+    @Test
+    public void score_moreTermsMatched_scoresHigher() {
+        RelevanceRanker ranker = new RelevanceRanker(Arrays.asList("java", "advanced"));
+        assertTrue(ranker.score(ADVANCED_SKILL) > ranker.score(BEGINNER_SKILL));
+    }
+
+    @Test
+    public void topK_returnsMostRelevantFirst() {
+        RelevanceRanker ranker = new RelevanceRanker(Collections.singletonList("java"));
+        List<Person> candidates = Arrays.asList(UNRELATED, HACKATHON, BEGINNER_SKILL, ADVANCED_SKILL, HANDLE,
+                PARTIAL_NAME, EXACT_NAME);
+
+        assertEquals(Arrays.asList(EXACT_NAME, PARTIAL_NAME, HANDLE), ranker.topK(candidates, 3));
+        assertEquals(Arrays.asList(EXACT_NAME, PARTIAL_NAME, HANDLE, ADVANCED_SKILL, BEGINNER_SKILL, HACKATHON,
+                UNRELATED), ranker.topK(candidates, 100));
+    }
+
+    @Test
+    public void topK_equalScores_keepsCandidateOrder() {
+        RelevanceRanker ranker = new RelevanceRanker(Collections.singletonList("person"));
+        List<Person> candidates = Arrays.asList(UNRELATED, HACKATHON, HANDLE);
+        assertEquals(Arrays.asList(UNRELATED, HACKATHON), ranker.topK(candidates, 2));
+    }
+
+    @Test
+    public void topK_invalidK_throwsIllegalArgumentException() {
+        RelevanceRanker ranker = new RelevanceRanker(Collections.singletonList("java"));
+        assertThrows(IllegalArgumentException.class, () -> ranker.topK(Collections.emptyList(), 0));
+    }
+
+    @Test
+    public void equals() {
+        RelevanceRanker ranker = new RelevanceRanker(Collections.singletonList("Java"));
+        assertTrue(ranker.equals(ranker));
+        assertTrue(ranker.equals(new RelevanceRanker(Collections.singletonList(" java "))));
+        assertFalse(ranker.equals(null));
+        assertFalse(ranker.equals(new RelevanceRanker(Collections.singletonList("python"))));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.testutil.PersonBuilder;
+
+public class SkillLevelIndexTest {
+
+    private static final Person PYTHON_ADVANCED_REACT_ADVANCED = new PersonBuilder().withName("Amy")
+            .withEmail("amy@example.com").withTelegram("amy_tg").withGitHub("amy-github")
+            .withSkillSet(Set.of(new Skill("python", ExperienceLevel.ADVANCED),
+                    new Skill("react", ExperienceLevel.ADVANCED)))
+            .build();
+    private static final Person PYTHON_INTERMEDIATE_REACT_BEGINNER = new PersonBuilder().withName("Bob")
+            .withEmail("bob@example.com").withTelegram("bob_tg").withGitHub("bob-github")
+            .withSkillSet(Set.of(new Skill("python", ExperienceLevel.INTERMEDIATE),
+                    new Skill("react", ExperienceLevel.BEGINNER)))
+            .build();
+    private static final Person PYTHON_BEGINNER = new PersonBuilder().withName("Cat")
+            .withEmail("cat@example.com").withTelegram("cat_tg").withGitHub("cat-github")
+            .withSkills("python")
+            .build();
+
+    private static final SkillRequirement PYTHON_AT_LEAST_INTERMEDIATE =
+            new SkillRequirement("python", ExperienceLevel.INTERMEDIATE);
+    private static final SkillRequirement REACT_AT_LEAST_ADVANCED =
+            new SkillRequirement("react", ExperienceLevel.ADVANCED);
+
+    private ObservableList<Person> persons;
+    private SkillLevelIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        persons = FXCollections.observableArrayList(PYTHON_ADVANCED_REACT_ADVANCED,
+                PYTHON_INTERMEDIATE_REACT_BEGINNER, PYTHON_BEGINNER);
+        index = new SkillLevelIndex(persons);
+    }
+
+    @Test
+    public void count_levelThreshold_countsLevelsAtOrAbove() {
+        assertEquals(3, index.count(new SkillRequirement("python", ExperienceLevel.BEGINNER)));
+        assertEquals(2, index.count(PYTHON_AT_LEAST_INTERMEDIATE));
+        assertEquals(1, index.count(REACT_AT_LEAST_ADVANCED));
+        assertEquals(0, index.count(new SkillRequirement("rust", ExperienceLevel.BEGINNER)));
+    }
+
+    @Test
+    public void findAll_multipleRequirements_returnsIntersection() {
+        assertEquals(Set.of(PYTHON_ADVANCED_REACT_ADVANCED, PYTHON_INTERMEDIATE_REACT_BEGINNER),
+                index.findAll(Collections.singletonList(PYTHON_AT_LEAST_INTERMEDIATE)));
+        assertEquals(Set.of(PYTHON_ADVANCED_REACT_ADVANCED),
+                index.findAll(Arrays.asList(PYTHON_AT_LEAST_INTERMEDIATE, REACT_AT_LEAST_ADVANCED)));
+        assertTrue(index.findAll(Arrays.asList(PYTHON_AT_LEAST_INTERMEDIATE,
+                new SkillRequirement("rust", ExperienceLevel.BEGINNER))).isEmpty());
+        assertTrue(index.findAll(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void findAll_afterListChanges_reflectsChanges() {
+        Person promoted = new PersonBuilder(PYTHON_BEGINNER)
+                .withSkillSet(Set.of(new Skill("python", ExperienceLevel.ADVANCED))).build();
+        persons.set(2, promoted);
+        persons.remove(PYTHON_ADVANCED_REACT_ADVANCED);
+
+        assertEquals(Set.of(PYTHON_INTERMEDIATE_REACT_BEGINNER, promoted),
+                index.findAll(Collections.singletonList(PYTHON_AT_LEAST_INTERMEDIATE)));
+        assertEquals(0, index.count(REACT_AT_LEAST_ADVANCED));
+    }
+
+    @Test
+    public void skillRequirement_test() {
+        assertTrue(PYTHON_AT_LEAST_INTERMEDIATE.test(PYTHON_ADVANCED_REACT_ADVANCED));
+        assertTrue(PYTHON_AT_LEAST_INTERMEDIATE.test(PYTHON_INTERMEDIATE_REACT_BEGINNER));
+        assertFalse(PYTHON_AT_LEAST_INTERMEDIATE.test(PYTHON_BEGINNER));
+        assertFalse(REACT_AT_LEAST_ADVANCED.test(PYTHON_BEGINNER));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.skill;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ValidatorTestUtil.assertAgreesWithRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -51,4 +52,9 @@ public class SkillTest {
         assertTrue(Skill.isValidSkillName("next.js")); // contains dot
     }
 
+    @Test
+    public void isValidSkillName_agreesWithValidationRegex() {
+        assertAgreesWithRegex(Skill::isValidSkillName, Skill.VALIDATION_REGEX, "aZ9.+#_- ", 5);
+    }
+
 }
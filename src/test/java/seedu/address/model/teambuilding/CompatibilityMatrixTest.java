@@ -0,0 +1,129 @@
+package seedu.address.model.teambuilding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.model.teambuilding.CompatibilityMatrix.WEIGHT_COMMON_SKILL;
+import static seedu.address.model.teambuilding.CompatibilityMatrix.WEIGHT_COMPLEMENT;
+import static seedu.address.model.teambuilding.CompatibilityMatrix.WEIGHT_PAST_TEAMMATE;
+import static seedu.address.model.teambuilding.CompatibilityMatrix.WEIGHT_SHARED_HACKATHON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
+
+public class CompatibilityMatrixTest {
+
+    private static final float DELTA = 1e-6f;
+
+    private static final Person PYTHON = person("Amy", "python");
+    private static final Person REACT = person("Bob", "react");
+    private static final Person PYTHON_REACT = person("Cat", "python", "react");
+
+    @Test
+    public void getScore_skills_complementScoresHigherThanOverlap() {
+        Person otherPython = person("Dan", "python");
+        CompatibilityMatrix matrix = new CompatibilityMatrix(Arrays.asList(PYTHON, REACT, PYTHON_REACT, otherPython));
+
+        assertEquals(WEIGHT_COMPLEMENT, matrix.getScore(PYTHON, REACT), DELTA);
+        assertEquals(WEIGHT_COMPLEMENT / 2 + WEIGHT_COMMON_SKILL, matrix.getScore(PYTHON, PYTHON_REACT), DELTA);
+        assertEquals(WEIGHT_COMMON_SKILL, matrix.getScore(PYTHON, otherPython), DELTA);
+    }
+
+    @Test
+    public void getScore_symmetricAndZeroForSelf() {
+        CompatibilityMatrix matrix = new CompatibilityMatrix(Arrays.asList(PYTHON, REACT, PYTHON_REACT));
+
+        assertEquals(matrix.getScore(REACT, PYTHON_REACT), matrix.getScore(PYTHON_REACT, REACT));
+        assertEquals(0, matrix.getScore(REACT, REACT));
+    }
+
+    @Test
+    public void getScore_sharedHackathonsAndPastTeammates_addBonus() {
+        Team pastTeam = new Team(new TeamName("Alpha"));
+        Person first = withTeam(new PersonBuilder(PYTHON)
+                .withInterestedHackathons("NUSHack", "iNTUition", "HackNRoll").build(), pastTeam);
+        Person second = withTeam(new PersonBuilder(REACT)
+                .withInterestedHackathons("NUSHack", "iNTUition", "HackNRoll").build(), pastTeam);
+        CompatibilityMatrix matrix = new CompatibilityMatrix(Arrays.asList(first, second));
+
+        assertEquals(WEIGHT_COMPLEMENT + CompatibilityMatrix.MAX_SHARED_HACKATHONS * WEIGHT_SHARED_HACKATHON
+                + WEIGHT_PAST_TEAMMATE, matrix.getScore(first, second), DELTA);
+    }
+
+    @Test
+    public void constructor_largePool_matchesPairwiseScores() {
+        String[] skills = {"python", "react", "docker", "figma", "go"};
+        List<Person> pool = new ArrayList<>();
+        for (int i = 0; i < CompatibilityMatrix.PARALLEL_THRESHOLD + 50; i++) {
+            pool.add(person("Person " + letters(i), skills[i % skills.length], skills[i * 7 % skills.length]));
+        }
+        CompatibilityMatrix matrix = new CompatibilityMatrix(pool);
+
+        for (int i = 0; i < pool.size(); i += 17) {
+            for (int j = pool.size() - 1; j > i; j -= 13) {
+                Person first = pool.get(i);
+                Person second = pool.get(j);
+                float expected = new CompatibilityMatrix(Arrays.asList(first, second)).getScore(first, second);
+                assertEquals(expected, matrix.getScore(first, second), "scores of " + i + " and " + j);
+            }
+        }
+    }
+
+    @Test
+    public void getMostCompatible_returnsBestFirst() {
+        Person otherPython = person("Dan", "python");
+        CompatibilityMatrix matrix = new CompatibilityMatrix(Arrays.asList(otherPython, PYTHON_REACT, REACT, PYTHON));
+
+        assertEquals(Arrays.asList(REACT, PYTHON_REACT), matrix.getMostCompatible(PYTHON, 2));
+        assertEquals(Arrays.asList(REACT, PYTHON_REACT, otherPython), matrix.getMostCompatible(PYTHON, 5));
+        assertThrows(IllegalArgumentException.class, () -> matrix.getMostCompatible(PYTHON, 0));
+    }
+
+    @Test
+    public void replacePerson_changedSkills_recomputesRow() {
+        CompatibilityMatrix matrix = new CompatibilityMatrix(Arrays.asList(PYTHON, REACT, PYTHON_REACT));
+
+        // A change that does not affect compatibility leaves the row untouched
+        matrix.replacePerson(new PersonBuilder(PYTHON).withEmail("amy@example.org").build());
+        assertEquals(0, matrix.getStaleRowCount());
+
+        Person pythonNowReact = new PersonBuilder(PYTHON).withSkills("react").build();
+        matrix.replacePerson(pythonNowReact);
+        assertEquals(1, matrix.getStaleRowCount());
+
+        assertEquals(WEIGHT_COMMON_SKILL, matrix.getScore(PYTHON, REACT), DELTA);
+        assertEquals(0, matrix.getStaleRowCount());
+        assertEquals(pythonNowReact, matrix.getPersons().get(0));
+    }
+
+    @Test
+    public void getScore_personNotInPool_throwsIllegalArgumentException() {
+        CompatibilityMatrix matrix = new CompatibilityMatrix(Arrays.asList(PYTHON, REACT));
+        assertThrows(IllegalArgumentException.class, () -> matrix.getScore(PYTHON, PYTHON_REACT));
+    }
+
+    private static Person withTeam(Person person, Team team) {
+        return new Person(person.getName(), person.getEmail(), person.getTelegram(), person.getGitHub(),
+                person.getSkills(), Set.of(team), person.getInterestedHackathons(),
+                person.getParticipatingHackathons());
+    }
+
+    private static String letters(int i) {
+        return String.valueOf((char) ('a' + i % 26)) + (char) ('a' + i / 26);
+    }
+
+    private static Person person(String name, String... skills) {
+        String handle = name.toLowerCase().replace(" ", "");
+        return new PersonBuilder().withName(name).withEmail(handle + "@example.com")
+                .withTelegram(handle + "_tg").withGitHub(handle + "-github")
+                .withSkills(skills).build();
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.teambuilding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CompatibilityServiceTest {
+
+    private static final HackathonName NUS_HACK = new HackathonName("NUSHack");
+
+    private static final Person AMY = person("Amy", "NUSHack", "python");
+    private static final Person BOB = person("Bob", "NUSHack", "react");
+    private static final Person CAT = person("Cat", "iNTUition", "python");
+
+    private AddressBook addressBook;
+    private CompatibilityService service;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(AMY, BOB, CAT));
+        service = new CompatibilityService(addressBook.getPersonList());
+    }
+
+    @Test
+    public void getMatrix_hackathonPool_cachedAcrossCalls() {
+        CompatibilityMatrix matrix = service.getMatrix(NUS_HACK);
+
+        assertEquals(Arrays.asList(AMY, BOB), matrix.getPersons());
+        assertSame(matrix, service.getMatrix(NUS_HACK));
+    }
+
+    @Test
+    public void getMatrix_participatingPerson_includedInPool() {
+        Person participating = new PersonBuilder(CAT).withInterestedHackathons()
+                .withParticipatingHackathons("NUSHack").build();
+        addressBook.setPerson(CAT, participating);
+
+        assertTrue(service.getMatrix(NUS_HACK).contains(participating));
+    }
+
+    @Test
+    public void personEdited_skillsChanged_onlyRowInvalidated() {
+        CompatibilityMatrix matrix = service.getMatrix(NUS_HACK);
+        float before = matrix.getScore(AMY, BOB);
+
+        Person editedAmy = new PersonBuilder(AMY).withSkills("react").build();
+        addressBook.setPerson(AMY, editedAmy);
+
+        assertSame(matrix, service.getMatrix(NUS_HACK));
+        assertEquals(1, matrix.getStaleRowCount());
+        assertTrue(matrix.getScore(editedAmy, BOB) < before);
+    }
+
+    @Test
+    public void personJoinsPool_matrixDropped() {
+        CompatibilityMatrix matrix = service.getMatrix(NUS_HACK);
+        Person dan = person("Dan", "NUSHack", "docker");
+        addressBook.addPerson(dan);
+
+        assertFalse(service.isCached(NUS_HACK));
+        CompatibilityMatrix recomputed = service.getMatrix(NUS_HACK);
+        assertNotSame(matrix, recomputed);
+        assertTrue(recomputed.contains(dan));
+    }
+
+    @Test
+    public void personLeavesPool_matrixDropped() {
+        service.getMatrix(NUS_HACK);
+        addressBook.removePerson(BOB);
+
+        assertFalse(service.isCached(NUS_HACK));
+        assertFalse(service.getMatrix(NUS_HACK).contains(BOB));
+    }
+
+    @Test
+    public void personOutsidePoolEdited_matrixKept() {
+        CompatibilityMatrix matrix = service.getMatrix(NUS_HACK);
+        addressBook.setPerson(CAT, new PersonBuilder(CAT).withSkills("go").build());
+
+        assertSame(matrix, service.getMatrix(NUS_HACK));
+        assertEquals(0, matrix.getStaleRowCount());
+    }
+
+    private static Person person(String name, String hackathon, String skill) {
+        String handle = name.toLowerCase();
+        return new PersonBuilder().withName(name).withEmail(handle + "@example.com")
+                .withTelegram(handle + "_tg").withGitHub(handle + "-github")
+                .withSkills(skill).withInterestedHackathons(hackathon).build();
+    }
+}
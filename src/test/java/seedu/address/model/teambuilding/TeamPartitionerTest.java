@@ -0,0 +1,132 @@
+package seedu.address.model.teambuilding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.testutil.PersonBuilder;
+
+public class TeamPartitionerTest {
+
+    private static final Duration LONG_BUDGET = Duration.ofSeconds(10);
+
+    private final TeamPartitioner partitioner = new TeamPartitioner(LONG_BUDGET, 4, TeamPartitioner.DEFAULT_SEED);
+
+    @Test
+    public void partition_evenPool_placesEveryoneOnce() {
+        List<Person> pool = createPool("Person", 12, ExperienceLevel.BEGINNER, "python");
+        TeamPartition partition = partitioner.partition(pool, 3);
+
+        assertEquals(4, partition.getTeams().size());
+        assertTrue(partition.getUnassigned().isEmpty());
+        assertTrue(partition.isComplete());
+        Set<Person> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<Person> team : partition.getTeams()) {
+            assertEquals(3, team.size());
+            placed.addAll(team);
+        }
+        assertEquals(12, placed.size());
+    }
+
+    @Test
+    public void partition_unevenPool_leavesRemainderUnassigned() {
+        List<Person> pool = createPool("Person", 7, ExperienceLevel.BEGINNER, "python");
+        TeamPartition partition = partitioner.partition(pool, 3);
+
+        assertEquals(2, partition.getTeams().size());
+        assertEquals(1, partition.getUnassigned().size());
+    }
+
+    @Test
+    public void partition_poolSmallerThanTeam_formsNoTeams() {
+        List<Person> pool = createPool("Person", 2, ExperienceLevel.BEGINNER, "python");
+        TeamPartition partition = partitioner.partition(pool, 3);
+
+        assertTrue(partition.getTeams().isEmpty());
+        assertEquals(pool, partition.getUnassigned());
+    }
+
+    @Test
+    public void partition_complementarySkills_everyTeamCoversBoth() {
+        List<Person> pool = new ArrayList<>(createPool("Backend", 4, ExperienceLevel.BEGINNER, "python"));
+        pool.addAll(createPool("Frontend", 4, ExperienceLevel.BEGINNER, "react"));
+        TeamPartition partition = partitioner.partition(pool, 2);
+
+        for (List<Person> team : partition.getTeams()) {
+            assertEquals(Set.of("python", "react"), skillNamesOf(team));
+        }
+    }
+
+    @Test
+    public void partition_mixedExperience_balancesTeams() {
+        List<Person> pool = new ArrayList<>(createPool("Senior", 4, ExperienceLevel.ADVANCED, "python"));
+        pool.addAll(createPool("Junior", 4, ExperienceLevel.BEGINNER, "python"));
+        TeamPartition partition = partitioner.partition(pool, 2);
+
+        for (List<Person> team : partition.getTeams()) {
+            long seniors = team.stream().filter(person -> person.getSkills().iterator().next()
+                    .getExperienceLevel() == ExperienceLevel.ADVANCED).count();
+            assertEquals(1, seniors);
+        }
+    }
+
+    @Test
+    public void partition_sameSeed_returnsSamePartition() {
+        List<Person> pool = createPool("Person", 30, ExperienceLevel.INTERMEDIATE, "python", "react", "docker");
+        TeamPartition first = new TeamPartitioner(LONG_BUDGET, 3, 42).partition(pool, 4);
+        TeamPartition second = new TeamPartitioner(LONG_BUDGET, 3, 42).partition(pool, 4);
+
+        assertEquals(first.getTeams(), second.getTeams());
+        assertEquals(first.getUnassigned(), second.getUnassigned());
+    }
+
+    @Test
+    public void partition_invalidTeamSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> partitioner.partition(new ArrayList<>(), 0));
+    }
+
+    @Test
+    public void constructor_invalidWorkers_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TeamPartitioner(LONG_BUDGET, 0, 1));
+    }
+
+    /**
+     * Returns {@code size} persons named after {@code namePrefix}, where person {@code i} holds the {@code i}-th of
+     * {@code skillNames}, cycling through them, at the given {@code level}.
+     */
+    private static List<Person> createPool(String namePrefix, int size, ExperienceLevel level,
+            String... skillNames) {
+        List<Person> pool = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String letters = String.valueOf((char) ('a' + i % 26)) + (char) ('a' + i / 26);
+            String handle = namePrefix.toLowerCase() + letters;
+            pool.add(new PersonBuilder().withName(namePrefix + " " + letters).withEmail(handle + "@example.com")
+                    .withTelegram(handle + "_tg").withGitHub(handle + "-github")
+                    .withSkillSet(Set.of(new Skill(skillNames[i % skillNames.length], level))).build());
+        }
+        return pool;
+    }
+
+    private static Set<String> skillNamesOf(List<Person> team) {
+        Set<String> skillNames = new HashSet<>();
+        for (Person person : team) {
+            for (Skill skill : person.getSkills()) {
+                skillNames.add(skill.skillName);
+            }
+        }
+        return skillNames;
+    }
+}
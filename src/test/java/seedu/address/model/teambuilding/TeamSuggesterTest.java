@@ -0,0 +1,163 @@
+package seedu.address.model.teambuilding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SkillRequirement;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
+
+public class TeamSuggesterTest {
+
+    private static final List<SkillRequirement> REQUIREMENTS = Arrays.asList(
+            new SkillRequirement("python", ExperienceLevel.BEGINNER),
+            new SkillRequirement("react", ExperienceLevel.BEGINNER),
+            new SkillRequirement("docker", ExperienceLevel.BEGINNER),
+            new SkillRequirement("figma", ExperienceLevel.BEGINNER));
+
+    private static final Duration LONG_BUDGET = Duration.ofSeconds(10);
+
+    @Test
+    public void suggest_greedyTrap_findsOptimalCover() {
+        List<SkillRequirement> requirements = new ArrayList<>(REQUIREMENTS);
+        requirements.add(new SkillRequirement("go", ExperienceLevel.BEGINNER));
+        requirements.add(new SkillRequirement("rust", ExperienceLevel.BEGINNER));
+
+        // Greedy picks the person with four skills first and then cannot cover both go and rust,
+        // while the two complementary persons cover everything together.
+        Person fourSkills = person("Amy", "python", "react", "docker", "figma");
+        Person pythonReactGo = person("Bob", "python", "react", "go");
+        Person dockerFigmaRust = person("Cat", "docker", "figma", "rust");
+
+        TeamSuggester suggester = new TeamSuggester(new SkillBitsets(requirements), LONG_BUDGET);
+        TeamSuggestion suggestion = suggester.suggest(Arrays.asList(fourSkills, pythonReactGo, dockerFigmaRust), 2);
+
+        assertEquals(Set.of(pythonReactGo, dockerFigmaRust), Set.copyOf(suggestion.getMembers()));
+        assertEquals(requirements, suggestion.getCoveredSkills());
+        assertTrue(suggestion.getMissingSkills().isEmpty());
+        assertTrue(suggestion.isOptimal());
+    }
+
+    @Test
+    public void suggest_uncoverableSkill_reportsMissingSkill() {
+        Person python = person("Amy", "python");
+        Person react = person("Bob", "react");
+
+        TeamSuggester suggester = new TeamSuggester(new SkillBitsets(REQUIREMENTS), LONG_BUDGET);
+        TeamSuggestion suggestion = suggester.suggest(Arrays.asList(python, react), 3);
+
+        assertEquals(Arrays.asList(REQUIREMENTS.get(2), REQUIREMENTS.get(3)), suggestion.getMissingSkills());
+        assertEquals(2, suggestion.getMembers().size());
+    }
+
+    @Test
+    public void suggest_fewSkillsNeeded_fillsRemainingPlacesWithMostExperienced() {
+        Person allSkills = person("Amy", "python", "react", "docker", "figma");
+        Person none = person("Bob", "go");
+        Person advancedPython = new PersonBuilder().withName("Cat").withEmail("cat@example.com")
+                .withTelegram("cat_tg").withGitHub("cat-github")
+                .withSkillSet(Set.of(new Skill("python", ExperienceLevel.ADVANCED))).build();
+
+        TeamSuggester suggester = new TeamSuggester(new SkillBitsets(REQUIREMENTS), LONG_BUDGET);
+        TeamSuggestion suggestion = suggester.suggest(Arrays.asList(none, advancedPython, allSkills), 2);
+
+        assertEquals(Arrays.asList(allSkills, advancedPython), suggestion.getMembers());
+    }
+
+    @Test
+    public void suggest_levelThreshold_onlyCountsSufficientLevel() {
+        List<SkillRequirement> requirements =
+                Collections.singletonList(new SkillRequirement("python", ExperienceLevel.ADVANCED));
+        Person beginner = person("Amy", "python");
+
+        TeamSuggestion suggestion = new TeamSuggester(new SkillBitsets(requirements), LONG_BUDGET)
+                .suggest(Collections.singletonList(beginner), 1);
+        assertEquals(requirements, suggestion.getMissingSkills());
+    }
+
+    @Test
+    public void suggest_largePoolWithZeroBudget_returnsInTime() {
+        List<SkillRequirement> requirements = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requirements.add(new SkillRequirement("skill" + i, ExperienceLevel.BEGINNER));
+        }
+        List<Person> pool = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            pool.add(new PersonBuilder().withName("Person " + (char) ('a' + i % 26))
+                    .withSkills("skill" + (i % 20), "skill" + (i * 7 % 20), "skill" + (i * 13 % 20)).build());
+        }
+
+        TeamSuggestion suggestion = new TeamSuggester(new SkillBitsets(requirements), Duration.ZERO)
+                .suggest(pool, 8);
+        assertEquals(8, suggestion.getMembers().size());
+    }
+
+    @Test
+    public void suggest_manyDistinctCandidatesOnSmallStack_returnsSuggestion() throws Exception {
+        List<SkillRequirement> requirements = new ArrayList<>();
+        for (int i = 0; i < SkillBitsets.MAX_REQUIREMENTS; i++) {
+            requirements.add(new SkillRequirement("skill" + i, ExperienceLevel.BEGINNER));
+        }
+        // Every pair of skills is a distinct profile, so thousands of candidates remain after deduplication.
+        // The expert sorts last and cannot be part of a full cover, so the bound never prunes the candidates before it
+        List<Person> pool = new ArrayList<>();
+        for (int i = 0; i < SkillBitsets.MAX_REQUIREMENTS; i++) {
+            for (int j = i + 1; j < SkillBitsets.MAX_REQUIREMENTS; j++) {
+                pool.add(new PersonBuilder().withName("Person").withSkills("skill" + i, "skill" + j).build());
+            }
+        }
+        pool.add(new PersonBuilder().withName("Expert")
+                .withSkillSet(Set.of(new Skill("skill0", ExperienceLevel.ADVANCED))).build());
+
+        TeamSuggestion[] suggestion = new TeamSuggestion[1];
+        Thread thread = new Thread(null, () -> suggestion[0] = new TeamSuggester(new SkillBitsets(requirements),
+                Duration.ofSeconds(1)).suggest(pool, 5), "suggester", 64 * 1024);
+        thread.start();
+        thread.join();
+        assertEquals(5, suggestion[0].getMembers().size());
+    }
+
+    @Test
+    public void suggest_invalidTeamSize_throwsIllegalArgumentException() {
+        TeamSuggester suggester = new TeamSuggester(new SkillBitsets(REQUIREMENTS), LONG_BUDGET);
+        assertThrows(IllegalArgumentException.class, () -> suggester.suggest(Collections.emptyList(), 0));
+    }
+
+    @Test
+    public void getUnassignedInterested_excludesAssignedAndUninterested() {
+        HackathonName hackathon = new HackathonName("NUSHack");
+        Person interested = new PersonBuilder().withName("Amy").withInterestedHackathons("NUSHack").build();
+        Person participating = new PersonBuilder().withName("Bob").withInterestedHackathons("NUSHack")
+                .withParticipatingHackathons("NUSHack").build();
+        Person inTeam = new PersonBuilder().withName("Cat").withInterestedHackathons("NUSHack")
+                .withTeam(new Team(new TeamName("Alpha"), hackathon, Set.of())).build();
+        Person uninterested = new PersonBuilder().withName("Dan").withInterestedHackathons("iNTUition").build();
+
+        assertEquals(Collections.singletonList(interested), HackathonPool.getUnassignedInterested(
+                Arrays.asList(interested, participating, inTeam, uninterested), hackathon));
+        assertFalse(HackathonPool.isAssigned(interested, hackathon));
+        assertTrue(HackathonPool.isAssigned(inTeam, hackathon));
+    }
+
+    private static Person person(String name, String... skills) {
+        return new PersonBuilder().withName(name).withEmail(name.toLowerCase() + "@example.com")
+                .withTelegram(name.toLowerCase() + "_tg").withGitHub(name.toLowerCase() + "-github")
+                .withSkills(skills).build();
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_sameAsJson() throws Exception {
+        AddressBook original = getTypicalAddressBookWithTeams();
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        Path snapshotPath = testFolder.resolve("addressBook.bin");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+        new BinaryAddressBookStorage(snapshotPath).saveAddressBook(original);
+
+        ReadOnlyAddressBook fromJson = new JsonAddressBookStorage(jsonPath).readAddressBook().get();
+        ReadOnlyAddressBook fromSnapshot = new BinaryAddressBookStorage(snapshotPath).readAddressBook().get();
+        assertEquals(fromJson, fromSnapshot);
+        assertTrue(Files.size(snapshotPath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_damagedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBookWithTeams());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // A flipped bit in the body fails the checksum
+        byte[] damaged = snapshot.clone();
+        damaged[damaged.length / 2] ^= 0x10;
+        Files.write(filePath, damaged);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // A snapshot cut short
+        Files.write(filePath, Arrays.copyOf(snapshot, snapshot.length - 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        // A snapshot of a later version
+        byte[] laterVersion = snapshot.clone();
+        ByteBuffer.wrap(laterVersion).putInt(Integer.BYTES, BinarySnapshotWriter.VERSION + 1);
+        Files.write(filePath, laterVersion);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        Files.write(filePath, new byte[] {'M', 'A'});
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void migrateFrom_jsonFile_migratedOnce() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        AddressBook original = getTypicalAddressBookWithTeams();
+        jsonStorage.saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        assertTrue(storage.migrateFrom(jsonStorage));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // The snapshot already holds the address book, so the JSON file is not read again
+        jsonStorage.saveAddressBook(new AddressBook());
+        assertFalse(storage.migrateFrom(jsonStorage));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateFrom_missingJsonFile_notMigrated() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        assertFalse(storage.migrateFrom(new JsonAddressBookStorage(testFolder.resolve("missing.json"))));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void getSnapshotPath_dataFilePath_besideDataFile() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getSnapshotPath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin")).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class FileGenerationsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_noGenerations_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FileGenerations(testFolder.resolve("data.json"), 0));
+    }
+
+    @Test
+    public void get() {
+        Path file = testFolder.resolve("data.json");
+        FileGenerations generations = new FileGenerations(file, 3);
+
+        assertEquals(file, generations.get(0));
+        assertEquals(testFolder.resolve("data.json.2"), generations.get(2));
+    }
+
+    @Test
+    public void rotate_missingFile_nothingCreated() throws Exception {
+        FileGenerations generations = new FileGenerations(testFolder.resolve("data.json"), 3);
+        generations.rotate();
+
+        assertEquals(List.of(), generations.getExisting());
+    }
+
+    @Test
+    public void rotate_repeatedly_oldestGenerationsDropped() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileGenerations generations = new FileGenerations(file, 3);
+
+        for (int save = 1; save <= 4; save++) {
+            generations.rotate();
+            Path temporary = FileUtil.getTemporaryPath(file);
+            FileUtil.writeToFile(temporary, "save " + save);
+            FileUtil.moveAtomically(temporary, file);
+        }
+
+        assertEquals(List.of(file, generations.get(1), generations.get(2)), generations.getExisting());
+        assertEquals("save 4", FileUtil.readFromFile(file));
+        assertEquals("save 3", FileUtil.readFromFile(generations.get(1)));
+        assertEquals("save 2", FileUtil.readFromFile(generations.get(2)));
+        assertFalse(Files.exists(generations.get(3)));
+    }
+
+    @Test
+    public void rotate_fileReplacedAfterwards_previousGenerationUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileGenerations generations = new FileGenerations(file, 2);
+        FileUtil.writeToFile(file, "old content");
+
+        generations.rotate();
+        // Replacing the file must not change a generation that is a hard link to it
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {'n', 'e', 'w'}));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old content", FileUtil.readFromFile(generations.get(1)));
+    }
+
+    @Test
+    public void rotate_singleGeneration_fileKeptAlone() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileGenerations generations = new FileGenerations(file, 1);
+        FileUtil.writeToFile(file, "content");
+
+        generations.rotate();
+
+        assertEquals(List.of(file), generations.getExisting());
+    }
+}
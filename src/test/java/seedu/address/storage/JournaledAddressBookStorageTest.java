@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTeams.EPSILON_TEAM;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notJsonFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.write(filePath, "not json".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] dataFile = Files.readAllBytes(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withEmail("benson@example.com").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(dataFile, Files.readAllBytes(filePath));
+        List<String> journal = Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath));
+        assertEquals(4, journal.size()); // the header and one record per save
+
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onlySkillLevelChanged_levelKeptAfterReopening() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Person advancedAlice = new PersonBuilder(ALICE)
+                .withSkillSet(Set.of(new Skill("java", ExperienceLevel.ADVANCED))).build();
+        addressBook.setPerson(ALICE, advancedAlice);
+        storage.saveAddressBook(addressBook);
+        storage.closeAddressBook();
+
+        ReadOnlyAddressBook read = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        int index = addressBook.getPersonList().indexOf(advancedAlice);
+        assertTrue(advancedAlice.isSameState(read.getPersonList().get(index)));
+    }
+
+    @Test
+    public void readAddressBook_journalEditsTeamMember_teamHoldsEditedPerson() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(addressBook);
+
+        // Editing a member records both the person and the teams holding it
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withEmail("alice@example.org").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removeTeam(EPSILON_TEAM);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook read = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, read);
+        assertEquals(addressBook.getTeamList(), read.getTeamList());
+    }
+
+    @Test
+    public void readAddressBook_journalHasDuplicatePerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // A record edited by hand adds a person with the email of another
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        String journal = Files.readString(journalPath);
+        Files.writeString(journalPath, journal.replace(HOON.getEmail().value, ALICE.getEmail().value));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalEndsWithPartialRecord_partialRecordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // A crash while appending the next record leaves part of it behind
+        Path journalPath = JournaledAddressBookStorage.getJournalPath(filePath);
+        Files.write(journalPath, "{\"at\":8,\"remo".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(addressBook, reopened.readAddressBook().get());
+
+        // Later records are appended after the last complete one
+        addressBook.addPerson(IDA);
+        reopened.saveAddressBook(addressBook);
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileReplaced_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBook journaled = new AddressBook(addressBook);
+        journaled.addPerson(HOON);
+        storage.saveAddressBook(journaled);
+
+        // The data file is replaced, e.g. edited by hand, so the journal no longer applies to it
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+
+        assertEquals(new AddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileCorrupted_previousGenerationLoaded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.closeAddressBook();
+        AddressBook modified = new AddressBook(addressBook);
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+        storage.closeAddressBook();
+
+        Files.write(filePath, "{ \"persons\": [".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1, false, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.closeAddressBook();
+
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).size());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compact_dataFileOnOneLineAndJournalApplies() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_dataFileCompressedAndJournalApplies() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, false, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(CompressionUtil.isCompressed(Files.readAllBytes(filePath)));
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void closeAddressBook_journalHasRecords_foldedIntoDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.closeAddressBook();
+
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertTrue(Files.readAllLines(JournaledAddressBookStorage.getJournalPath(filePath)).get(0)
+                .startsWith("mate-journal "));
+
+        // The storage can still be saved to after closing
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,23 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
+
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -107,4 +116,123 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void saveAddressBook_repeatedSaves_previousGenerationsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false, false, 2);
+        AddressBook first = getTypicalAddressBook();
+        AddressBook second = getTypicalAddressBook();
+        second.addPerson(HOON);
+        AddressBook third = getTypicalAddressBook();
+        third.addPerson(IDA);
+
+        storage.saveAddressBook(first);
+        storage.saveAddressBook(second);
+        storage.saveAddressBook(third);
+
+        FileGenerations generations = new FileGenerations(filePath, 2);
+        assertEquals(List.of(filePath, generations.get(1)), generations.getExisting());
+        assertEquals(third, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(second, new AddressBook(storage.readAddressBook(generations.get(1)).get()));
+        assertFalse(Files.exists(FileUtil.getTemporaryPath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_interruptedSave_previousSaveIntact() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertThrows(IllegalStateException.class, () -> storage.saveAddressBook(new FailingAddressBook(original)));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(List.of(filePath), new FileGenerations(filePath, 3).getExisting());
+        assertFalse(Files.exists(FileUtil.getTemporaryPath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_newestGenerationTruncated_previousGenerationLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified);
+
+        // A data file cut short, as by a crash on a file system that does not order its writes
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_crashBeforeMove_previousGenerationLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // A crash after the generations are rotated but before the new data file is moved into place, leaving part
+        // of the new content in the temporary file
+        Files.move(filePath, new FileGenerations(filePath, 3).get(1));
+        FileUtil.writeToFile(FileUtil.getTemporaryPath(filePath), "{ \"persons\": [");
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_allGenerationsInvalid_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "not json");
+        FileUtil.writeToFile(new FileGenerations(filePath, 3).get(1), "not json either");
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readWithOrWithoutCompression() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, false, true).saveAddressBook(original);
+
+        assertTrue(CompressionUtil.isCompressed(Files.readAllBytes(filePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // A plain data file is still read once compression is turned on
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertFalse(CompressionUtil.isCompressed(Files.readAllBytes(filePath)));
+        assertEquals(original, new AddressBook(
+                new JsonAddressBookStorage(filePath, false, true).readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_noGenerations_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json"), false, false, 0));
+    }
+
+    /**
+     * An address book whose teams cannot be read, which fails a save after its persons have been written.
+     */
+    private static class FailingAddressBook implements ReadOnlyAddressBook {
+        private final ReadOnlyAddressBook addressBook;
+
+        FailingAddressBook(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return addressBook.getPersonList();
+        }
+
+        @Override
+        public ObservableList<Team> getTeamList() {
+            throw new IllegalStateException("Save interrupted");
+        }
+    }
 }
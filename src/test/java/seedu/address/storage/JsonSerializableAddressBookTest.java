@@ -5,12 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.benchmark.SampleData;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 import seedu.address.testutil.TypicalTeams;
 
@@ -50,6 +56,39 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_success() throws Exception {
+        AddressBook addressBook = SampleData.addressBook(AddressBookAssembler.PARALLEL_THRESHOLD + 1);
+        assertEquals(addressBook, new JsonSerializableAddressBook(addressBook).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithSeveralBadRecords_firstErrorThrown() throws Exception {
+        int count = AddressBookAssembler.PARALLEL_THRESHOLD + 1;
+        AddressBook addressBook = SampleData.addressBook(count);
+        List<JsonAdaptedPerson> persons = new ArrayList<>(new JsonSerializableAddressBook(addressBook).getPersons());
+        Person first = addressBook.getPersonList().get(0);
+
+        // Bad records are converted in parallel, but the one first in order is reported
+        persons.set(count - 1, createRecord(addressBook.getPersonList().get(1), "R@chel", "valid@example.com"));
+        persons.set(count / 2, createRecord(addressBook.getPersonList().get(2), "Valid Name", "example.com"));
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(persons, null)::toModelType);
+
+        persons.set(count / 4, new JsonAdaptedPerson(first));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                new JsonSerializableAddressBook(persons, null)::toModelType);
+
+        persons.set(count / 8, createRecord(first, "R@chel", "valid@example.com"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(persons, null)::toModelType);
+    }
+
+    private static JsonAdaptedPerson createRecord(Person source, String name, String email) {
+        return new JsonAdaptedPerson(name, email, source.getTelegram().value, source.getGitHub().value,
+                new ArrayList<>(), null, new ArrayList<>(), new ArrayList<>());
+    }
+
     @Test
     public void toModelType_typicalTeamsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_TEAMS_FILE,
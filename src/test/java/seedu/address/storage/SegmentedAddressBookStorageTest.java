@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTeams.EPSILON_TEAM;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.benchmark.SampleData;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveSegmentSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedAddressBookStorage(testFolder, 0, false));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder, SEGMENT_SIZE, false);
+        AddressBook original = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(original);
+        assertEquals(original, new SegmentedAddressBookStorage(testFolder).readAddressBook().get());
+
+        // Save and read without segments
+        AddressBook empty = new AddressBook();
+        storage.saveAddressBook(empty);
+        assertEquals(empty, new SegmentedAddressBookStorage(testFolder).readAddressBook().get());
+        assertTrue(listSegments().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonChanged_onlyItsSegmentWritten() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder, SEGMENT_SIZE, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> segmentsBefore = listSegments();
+
+        addressBook.setPerson(ELLE, new PersonBuilder(ELLE).withEmail("elle@example.com").build());
+        storage.saveAddressBook(addressBook);
+
+        Set<String> written = new HashSet<>(listSegments());
+        written.removeAll(segmentsBefore);
+        Set<String> deleted = new HashSet<>(segmentsBefore);
+        deleted.removeAll(listSegments());
+        assertEquals(1, written.size());
+        assertEquals(1, deleted.size());
+        assertEquals(segmentsBefore.size(), listSegments().size());
+        assertEquals(addressBook, new SegmentedAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onlySkillLevelChanged_levelSaved() throws Exception {
+        // A single segment, so the person changed is not the first of its segment
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Person advancedBenson = new PersonBuilder(BENSON).withSkillSet(Set.of(
+                new Skill("python", ExperienceLevel.ADVANCED), new Skill("javascript", ExperienceLevel.BEGINNER)))
+                .build();
+        addressBook.setPerson(BENSON, advancedBenson);
+        storage.saveAddressBook(addressBook);
+
+        int index = addressBook.getPersonList().indexOf(advancedBenson);
+        assertTrue(advancedBenson.isSameState(
+                new SegmentedAddressBookStorage(testFolder).readAddressBook().get().getPersonList().get(index)));
+    }
+
+    @Test
+    public void saveAddressBook_firstPersonRemovedOrAdded_atMostOneSegmentWritten() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder, 16, false);
+        AddressBook addressBook = SampleData.addressBook(1_000);
+        storage.saveAddressBook(addressBook);
+        Set<String> segmentsBefore = listSegments();
+        assertTrue(segmentsBefore.size() > 10);
+
+        // Removing the first person does not shift where later segments are cut
+        Person first = addressBook.getPersonList().get(0);
+        addressBook.removePerson(first);
+        storage.saveAddressBook(addressBook);
+        assertTrue(getWritten(segmentsBefore).size() <= 1);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(testFolder).readAddressBook().get());
+
+        Set<String> segmentsAfterRemoval = listSegments();
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.add(0, first);
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+        assertTrue(getWritten(segmentsAfterRemoval).size() <= 1);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_unchangedSegmentsKept() throws Exception {
+        new SegmentedAddressBookStorage(testFolder, SEGMENT_SIZE, false).saveAddressBook(getTypicalAddressBook());
+        Set<String> segmentsBefore = listSegments();
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder, SEGMENT_SIZE, false);
+        storage.saveAddressBook(storage.readAddressBook().get());
+
+        assertEquals(segmentsBefore, listSegments());
+    }
+
+    @Test
+    public void saveAddressBook_teamRemoved_unreferencedSegmentsDeleted() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder, SEGMENT_SIZE, false);
+        AddressBook addressBook = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removeTeam(EPSILON_TEAM);
+        storage.saveAddressBook(addressBook);
+
+        JsonSegmentManifest manifest = JsonUtil.readJsonFile(
+                testFolder.resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME), JsonSegmentManifest.class).get();
+        Set<String> referenced = new HashSet<>(manifest.getPersonSegments());
+        referenced.addAll(manifest.getTeamSegments());
+        assertEquals(referenced, listSegments());
+        assertEquals(addressBook, new SegmentedAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedSegment_throwsDataLoadingException() throws Exception {
+        new SegmentedAddressBookStorage(testFolder, SEGMENT_SIZE, false).saveAddressBook(getTypicalAddressBook());
+        Path segment = getSegmentsDirectory().resolve(listSegments().iterator().next());
+        Files.write(segment, "{ \"persons\": [] }".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataLoadingException.class, () -> new SegmentedAddressBookStorage(testFolder).readAddressBook());
+    }
+
+    @Test
+    public void migrateFrom_jsonFile_migratedOnce() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        AddressBook original = getTypicalAddressBookWithTeams();
+        jsonStorage.saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder.resolve("segmented"));
+        assertTrue(storage.migrateFrom(jsonStorage));
+        assertEquals(original, new SegmentedAddressBookStorage(testFolder.resolve("segmented")).readAddressBook()
+                .get());
+
+        // The directory already holds the address book, so the JSON file is not read again
+        jsonStorage.saveAddressBook(new AddressBook());
+        assertFalse(storage.migrateFrom(jsonStorage));
+        assertEquals(original, new SegmentedAddressBookStorage(testFolder.resolve("segmented")).readAddressBook()
+                .get());
+    }
+
+    @Test
+    public void migrateFrom_missingJsonFile_notMigrated() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder.resolve("segmented"));
+        assertFalse(storage.migrateFrom(new JsonAddressBookStorage(testFolder.resolve("missing.json"))));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void getDirectoryPath_dataFilePath_besideDataFile() {
+        assertEquals(Paths.get("data", "addressbook-segments"),
+                SegmentedAddressBookStorage.getDirectoryPath(Paths.get("data", "addressbook.json")));
+    }
+
+    private Set<String> getWritten(Set<String> segmentsBefore) throws Exception {
+        Set<String> written = new HashSet<>(listSegments());
+        written.removeAll(segmentsBefore);
+        return written;
+    }
+
+    private Path getSegmentsDirectory() {
+        return testFolder.resolve(SegmentedAddressBookStorage.SEGMENTS_DIRECTORY_NAME);
+    }
+
+    private Set<String> listSegments() throws Exception {
+        if (!Files.isDirectory(getSegmentsDirectory())) {
+            return new HashSet<>();
+        }
+        try (Stream<Path> segments = Files.list(getSegmentsDirectory())) {
+            return segments.map(segment -> segment.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalTeams.ALPHA_TEAM;
+import static seedu.address.testutil.TypicalTeams.BETA_TEAM;
+import static seedu.address.testutil.TypicalTeams.EPSILON_TEAM;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.hackathon.HackathonName;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TeamBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder);
+        AddressBook original = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(original);
+
+        // One shard per hackathon of the typical teams, and one for the teams without a hackathon
+        try (Stream<Path> shards = Files.list(testFolder.resolve(ShardedAddressBookStorage.TEAMS_DIRECTORY_NAME))) {
+            assertEquals(6, shards.count());
+        }
+        assertSameContents(original, new ShardedAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_teamOfOneHackathonChanged_onlyItsShardWritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder);
+        AddressBook addressBook = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(addressBook);
+
+        // Whitespace added to a file is only lost if the file is written again
+        Path personsFile = testFolder.resolve(ShardedAddressBookStorage.PERSONS_FILE_NAME);
+        Path alphaShard = getShard(ALPHA_TEAM.getHackathonName());
+        Path betaShard = getShard(BETA_TEAM.getHackathonName());
+        appendNewline(personsFile);
+        appendNewline(alphaShard);
+        appendNewline(betaShard);
+
+        addressBook.setTeam(ALPHA_TEAM, new TeamBuilder(ALPHA_TEAM).addMember(HOON).build());
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(endsWithNewline(personsFile));
+        assertFalse(endsWithNewline(alphaShard));
+        assertTrue(endsWithNewline(betaShard));
+        assertSameContents(addressBook, new ShardedAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onlySkillLevelOfMemberChanged_onlyPersonsFileWritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder);
+        AddressBook addressBook = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(addressBook);
+
+        Path personsFile = testFolder.resolve(ShardedAddressBookStorage.PERSONS_FILE_NAME);
+        Path alphaShard = getShard(ALPHA_TEAM.getHackathonName());
+        appendNewline(personsFile);
+        appendNewline(alphaShard);
+
+        Person advancedAlice = new PersonBuilder(ALICE)
+                .withSkillSet(Set.of(new Skill("java", ExperienceLevel.ADVANCED))).build();
+        addressBook.setPerson(ALICE, advancedAlice);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(endsWithNewline(personsFile));
+        // The shard only holds the names of the members
+        assertTrue(endsWithNewline(alphaShard));
+        int index = addressBook.getPersonList().indexOf(advancedAlice);
+        assertTrue(advancedAlice.isSameState(
+                new ShardedAddressBookStorage(testFolder).readAddressBook().get().getPersonList().get(index)));
+    }
+
+    @Test
+    public void saveAddressBook_lastTeamOfHackathonRemoved_shardDeleted() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder);
+        AddressBook addressBook = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removeTeam(EPSILON_TEAM);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(getShard(EPSILON_TEAM.getHackathonName())));
+        assertSameContents(addressBook, new ShardedAddressBookStorage(testFolder).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_shardWithUnknownMember_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder);
+        storage.saveAddressBook(getTypicalAddressBookWithTeams());
+        new JsonAddressBookStorage(testFolder.resolve(ShardedAddressBookStorage.PERSONS_FILE_NAME))
+                .saveAddressBook(new AddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(testFolder).readAddressBook());
+    }
+
+    @Test
+    public void migrateFrom_jsonFile_migratedOnce() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        AddressBook original = getTypicalAddressBookWithTeams();
+        jsonStorage.saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("shards"));
+        assertTrue(storage.migrateFrom(jsonStorage));
+        assertSameContents(original, new ShardedAddressBookStorage(testFolder.resolve("shards")).readAddressBook()
+                .get());
+
+        // The directory already holds the address book, so the JSON file is not read again
+        jsonStorage.saveAddressBook(new AddressBook());
+        assertFalse(storage.migrateFrom(jsonStorage));
+        assertSameContents(original, new ShardedAddressBookStorage(testFolder.resolve("shards")).readAddressBook()
+                .get());
+    }
+
+    @Test
+    public void migrateFrom_missingJsonFile_notMigrated() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("shards"));
+        assertFalse(storage.migrateFrom(new JsonAddressBookStorage(testFolder.resolve("missing.json"))));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void getShardFileName_namesDifferingInCase_differentFiles() {
+        assertNotEquals(ShardedAddressBookStorage.getShardFileName(new HackathonName("Hack Day")),
+                ShardedAddressBookStorage.getShardFileName(new HackathonName("hack day")));
+    }
+
+    private Path getShard(HackathonName hackathonName) {
+        return testFolder.resolve(ShardedAddressBookStorage.TEAMS_DIRECTORY_NAME)
+                .resolve(ShardedAddressBookStorage.getShardFileName(hackathonName));
+    }
+
+    private static void appendNewline(Path file) throws Exception {
+        Files.write(file, "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    private static boolean endsWithNewline(Path file) throws Exception {
+        byte[] content = Files.readAllBytes(file);
+        return content[content.length - 1] == '\n';
+    }
+
+    /**
+     * Asserts that {@code actual} has the persons of {@code expected} in order and its teams in any order, as teams
+     * are read back grouped by hackathon.
+     */
+    private static void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(new HashSet<>(expected.getTeamList()), new HashSet<>(actual.getTeamList()));
+    }
+}
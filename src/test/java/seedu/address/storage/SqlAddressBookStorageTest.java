@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalTeams.ALPHA_TEAM;
+import static seedu.address.testutil.TypicalTeams.EPSILON_TEAM;
+import static seedu.address.testutil.TypicalTeams.getTypicalAddressBookWithTeams;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.skill.ExperienceLevel;
+import seedu.address.model.skill.Skill;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TeamBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private SqlAddressBookStorage storage;
+
+    @AfterEach
+    public void tearDown() {
+        if (storage != null) {
+            storage.closeAddressBook();
+        }
+    }
+
+    @Test
+    public void readAddressBook_missingDatabase_emptyResult() throws Exception {
+        storage = new SqlAddressBookStorage(testFolder.resolve("missing"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        storage = new SqlAddressBookStorage(testFolder.resolve("addressbook"));
+        AddressBook original = getTypicalAddressBookWithTeams();
+
+        // Save in new database and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, readFromNewStorage());
+
+        // Modify data, overwrite exiting database, and read back
+        original.setPerson(ELLE, new PersonBuilder(ELLE).withEmail("elle@example.com").build());
+        original.setTeam(ALPHA_TEAM, new TeamBuilder(ALPHA_TEAM).addMember(HOON).build());
+        original.removeTeam(EPSILON_TEAM);
+        storage.saveAddressBook(original);
+        assertEquals(original, readFromNewStorage());
+
+        // Save and read without persons and teams
+        AddressBook empty = new AddressBook();
+        storage.saveAddressBook(empty);
+        assertEquals(empty, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangesWritten() throws Exception {
+        AddressBook original = getTypicalAddressBookWithTeams();
+        original.addPerson(createPerson("Yan Removed", "yanremoved"));
+        original.addPerson(createPerson("Yan Kept", "yankept"));
+        SqlAddressBookStorage firstStorage = new SqlAddressBookStorage(testFolder.resolve("addressbook"));
+        firstStorage.saveAddressBook(original);
+        firstStorage.closeAddressBook();
+
+        // Rows are updated in place and leave gaps in the order of the persons
+        storage = new SqlAddressBookStorage(testFolder.resolve("addressbook"));
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(createPerson("Yan Removed", "yanremoved"));
+        addressBook.addPerson(createPerson("Zed Last", "zedlast"));
+        addressBook.setPerson(ELLE, new PersonBuilder(ELLE).withEmail("elle@example.com").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_onlySkillLevelChanged_levelSaved() throws Exception {
+        storage = new SqlAddressBookStorage(testFolder.resolve("addressbook"));
+        AddressBook addressBook = getTypicalAddressBookWithTeams();
+        storage.saveAddressBook(addressBook);
+
+        Person advancedAlice = new PersonBuilder(ALICE)
+                .withSkillSet(Set.of(new Skill("java", ExperienceLevel.ADVANCED))).build();
+        addressBook.setPerson(ALICE, advancedAlice);
+        storage.saveAddressBook(addressBook);
+
+        int index = addressBook.getPersonList().indexOf(advancedAlice);
+        assertTrue(advancedAlice.isSameState(readFromNewStorage().getPersonList().get(index)));
+    }
+
+    @Test
+    public void saveAddressBook_personWithTeamsOfSameName_saved() throws Exception {
+        storage = new SqlAddressBookStorage(testFolder.resolve("addressbook"));
+        // Two teams with the same name but different members are distinct teams of the person
+        Person person = new PersonBuilder(createPerson("Yan Teamed", "yanteamed"))
+                .withTeam(new TeamBuilder(ALPHA_TEAM).build())
+                .withTeam(new TeamBuilder(ALPHA_TEAM).addMember(HOON).build())
+                .build();
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+        storage.saveAddressBook(original);
+
+        Person read = readFromNewStorage().getPersonList().get(0);
+        assertEquals(1, read.getTeams().size());
+        assertEquals(ALPHA_TEAM.getTeamName(), read.getTeams().iterator().next().getTeamName());
+    }
+
+    @Test
+    public void migrateFrom_jsonFile_migratedOnce() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        AddressBook original = getTypicalAddressBookWithTeams();
+        jsonStorage.saveAddressBook(original);
+
+        storage = new SqlAddressBookStorage(testFolder.resolve("addressbook"));
+        assertTrue(storage.migrateFrom(jsonStorage));
+        assertEquals(original, readFromNewStorage());
+
+        // The database already holds the address book, so the JSON file is not read again
+        jsonStorage.saveAddressBook(new AddressBook());
+        assertFalse(storage.migrateFrom(jsonStorage));
+        assertEquals(original, readFromNewStorage());
+    }
+
+    @Test
+    public void migrateFrom_databaseEmptied_notMigratedAgain() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBookWithTeams());
+        storage = new SqlAddressBookStorage(testFolder.resolve("addressbook"));
+        assertTrue(storage.migrateFrom(jsonStorage));
+
+        // Deleting everyone leaves the database empty, but the data file is not moved into it again
+        AddressBook empty = new AddressBook();
+        storage.saveAddressBook(empty);
+        assertFalse(storage.migrateFrom(jsonStorage));
+        assertEquals(empty, readFromNewStorage());
+    }
+
+    @Test
+    public void migrateFrom_missingJsonFile_notMigrated() throws Exception {
+        storage = new SqlAddressBookStorage(testFolder.resolve("addressbook"));
+        assertFalse(storage.migrateFrom(new JsonAddressBookStorage(testFolder.resolve("missing.json"))));
+        // No database is created, so a later run can still migrate
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void getDatabasePath_dataFilePath_extensionRemoved() {
+        assertEquals(Paths.get("data", "mate"), SqlAddressBookStorage.getDatabasePath(Paths.get("data", "mate.json")));
+        assertEquals(Paths.get("data", "mate"), SqlAddressBookStorage.getDatabasePath(Paths.get("data", "mate")));
+    }
+
+    private static Person createPerson(String name, String handle) {
+        return new PersonBuilder().withName(name).withEmail(handle + "@example.com").withTelegram(handle)
+                .withGitHub(handle).build();
+    }
+
+    private ReadOnlyAddressBook readFromNewStorage() throws Exception {
+        SqlAddressBookStorage other = new SqlAddressBookStorage(testFolder.resolve("other"));
+        return other.readAddressBook(testFolder.resolve("addressbook")).get();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class StreamingAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    private static final String PERSON = "{\"name\": \"Alice Pauline\", \"email\": \"alice@example.com\","
+            + " \"telegram\": \"alice_tg\", \"github\": \"alice-github\"}";
+    private static final String TEAM = "{\"teamName\": \"Alpha Team\", \"hackathonName\": \"Hack\","
+            + " \"memberNames\": [\"Alice Pauline\"]}";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalFiles_sameAsDataBinding() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                StreamingAddressBookReader.read(TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json")));
+        assertSameAsDataBinding(TEST_DATA_FOLDER.resolve("typicalTeamsAddressBook.json"));
+    }
+
+    @Test
+    public void read_invalidOrDuplicateRecords_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                StreamingAddressBookReader.read(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                StreamingAddressBookReader.read(TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json")));
+        assertThrows(IllegalValueException.class, () ->
+                StreamingAddressBookReader.read(TEST_DATA_FOLDER.resolve("invalidTeamAddressBook.json")));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM, () ->
+                StreamingAddressBookReader.read(TEST_DATA_FOLDER.resolve("duplicateTeamAddressBook.json")));
+    }
+
+    @Test
+    public void read_teamsBeforePersons_sameAsDataBinding() throws Exception {
+        Path file = write("{\"teams\": [" + TEAM + "], \"persons\": [" + PERSON + "]}");
+        AddressBook addressBook = assertSameAsDataBinding(file);
+        assertEquals(1, addressBook.getTeamList().size());
+    }
+
+    @Test
+    public void read_unknownAndNullFields_sameAsDataBinding() throws Exception {
+        assertSameAsDataBinding(write("{\"version\": {\"major\": [1, {}]}, \"persons\": [" + PERSON + "],"
+                + " \"teams\": null, \"extra\": \"x\"}"));
+        assertSameAsDataBinding(write("{}"));
+    }
+
+    @Test
+    public void read_notAnAddressBook_throwsIOException() throws Exception {
+        assertThrows(IOException.class, () -> StreamingAddressBookReader.read(write("[]")));
+        assertThrows(IOException.class, () -> StreamingAddressBookReader.read(write("{\"persons\": 1}")));
+        assertThrows(IOException.class, () -> StreamingAddressBookReader.read(write("{\"persons\": [1]}")));
+        assertThrows(IOException.class, () -> StreamingAddressBookReader.read(write("{\"persons\": [" + PERSON)));
+        assertThrows(IOException.class, () -> StreamingAddressBookReader.read(write("")));
+    }
+
+    @Test
+    public void readWithChecksum_plainAndCompressedFiles_checksumOfFileOnDisk() throws Exception {
+        // Whatever follows the address book is covered by the checksum too
+        Path file = write("{\"persons\": [" + PERSON + "]}\n\n");
+        assertChecksumOfFileOnDisk(file);
+
+        StreamingAddressBookWriter.write(TypicalPersons.getTypicalAddressBook(), file, false, true);
+        assertChecksumOfFileOnDisk(file);
+    }
+
+    private static void assertChecksumOfFileOnDisk(Path file) throws Exception {
+        CRC32 expected = new CRC32();
+        expected.update(Files.readAllBytes(file));
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        assertEquals(expected.getValue(), StreamingAddressBookReader.readWithChecksum(file, assembler));
+        assertEquals(StreamingAddressBookReader.read(file), assembler.toAddressBook());
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = testFolder.resolve("addressbook.json");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static AddressBook assertSameAsDataBinding(Path file) throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType();
+        AddressBook actual = StreamingAddressBookReader.read(file);
+        assertEquals(expected, actual);
+        assertEquals(expected.getTeamList(), actual.getTeamList());
+        return actual;
+    }
+}
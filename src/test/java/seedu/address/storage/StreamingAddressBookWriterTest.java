@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.TeamBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class StreamingAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_indented_sameAsDataBinding() throws Exception {
+        AddressBook addressBook = getAddressBookWithTeam();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)), write(addressBook, false));
+    }
+
+    @Test
+    public void write_compact_sameAsDataBindingOnOneLine() throws Exception {
+        AddressBook addressBook = getAddressBookWithTeam();
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                write(addressBook, true));
+    }
+
+    @Test
+    public void write_compactFile_readBack() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("nested").resolve("addressBook.json");
+        StreamingAddressBookWriter.write(addressBook, filePath, true, false);
+        assertEquals(addressBook, StreamingAddressBookReader.read(filePath));
+    }
+
+    private static String write(AddressBook addressBook, boolean isCompact) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingAddressBookWriter.write(addressBook, out, isCompact);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static AddressBook getAddressBookWithTeam() {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        // HOON is only a team member, so is saved after the persons in the person list
+        Team team = new TeamBuilder().withMembers(ALICE, HOON).build();
+        addressBook.addTeam(team);
+        return addressBook;
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(null, e -> { }));
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(new RecordingStorage(), null));
+    }
+
+    @Test
+    public void close_afterSubmit_writesToFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        WriteBehindSaver saver = new WriteBehindSaver(storage, e -> { });
+        saver.submit(new AddressBookSnapshot(original));
+        saver.close();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void submit_whileWriting_onlyLatestSnapshotWritten() throws Exception {
+        RecordingStorage storage = new RecordingStorage();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, e -> { });
+
+        ReadOnlyAddressBook first = new AddressBook();
+        saver.submit(first);
+        assertTrue(storage.writeStarted.await(5, TimeUnit.SECONDS));
+
+        // The first snapshot is being written, so these replace each other while they wait
+        ReadOnlyAddressBook latest = null;
+        for (int i = 0; i < 10; i++) {
+            latest = new AddressBook();
+            saver.submit(latest);
+        }
+        storage.canFinishWrite.countDown();
+        saver.flush();
+
+        assertEquals(2, saver.getWriteCount());
+        assertEquals(2, storage.written.size());
+        assertSame(first, storage.written.get(0));
+        assertSame(latest, storage.written.get(1));
+        saver.close();
+    }
+
+    @Test
+    public void submit_storageThrowsIoException_reportsToErrorHandler() {
+        IOException exception = new IOException("disk full");
+        List<IOException> reported = Collections.synchronizedList(new ArrayList<>());
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw exception;
+            }
+        };
+
+        WriteBehindSaver saver = new WriteBehindSaver(storage, reported::add);
+        saver.submit(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(exception), reported);
+
+        // A failed write does not stop later ones
+        saver.submit(new AddressBook());
+        saver.close();
+        assertEquals(2, reported.size());
+        assertEquals(0, saver.getWriteCount());
+    }
+
+    @Test
+    public void submit_afterClose_throwsIllegalStateException() {
+        WriteBehindSaver saver = new WriteBehindSaver(new RecordingStorage(), e -> { });
+        saver.close();
+        assertThrows(IllegalStateException.class, () -> saver.submit(new AddressBook()));
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records what it writes and holds up its first write until released.
+     */
+    private static class RecordingStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> written = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch canFinishWrite = new CountDownLatch(1);
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            writeStarted.countDown();
+            try {
+                canFinishWrite.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            written.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void closeAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Checks hand-written validators against the regular expressions describing the grammar they check.
+ */
+public class ValidatorTestUtil {
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings matching {@code regex}, among all the strings of up
+     * to {@code maxLength} characters from {@code alphabet}.
+     */
+    public static void assertAgreesWithRegex(Predicate<String> validator, String regex, String alphabet,
+            int maxLength) {
+        Pattern pattern = Pattern.compile(regex);
+        char[] chars = new char[maxLength];
+        for (int length = 0; length <= maxLength; length++) {
+            assertAgreesForLength(validator, pattern, alphabet, chars, length, 0);
+        }
+    }
+
+    private static void assertAgreesForLength(Predicate<String> validator, Pattern pattern, String alphabet,
+            char[] chars, int length, int filled) {
+        if (filled == length) {
+            String test = new String(chars, 0, length);
+            assertEquals(pattern.matcher(test).matches(), validator.test(test), "Validating \"" + test + "\"");
+            return;
+        }
+        for (int i = 0; i < alphabet.length(); i++) {
+            chars[filled] = alphabet.charAt(i);
+            assertAgreesForLength(validator, pattern, alphabet, chars, length, filled + 1);
+        }
+    }
+}